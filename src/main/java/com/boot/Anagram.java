@@ -1,5 +1,8 @@
 package com.boot;
 
+import com.boot.HashMapDSA.IntIntMap;
+import com.boot.StringsDSA.Rope;
+
 import java.util.Arrays;
 
 /**
@@ -46,6 +49,40 @@ public class Anagram
         System.out.println("Original strings: " + s1 + ", " + s2);
         System.out.println("Sorted strings: " + sortedS1 + ", " + sortedS2);
         System.out.println("Are anagrams: " + areAnagrams);
+
+        // Counting check, here on an edited Rope instead of a String
+        System.out.println("Are anagrams (counting): " + areAnagrams(Rope.of("list").concat("en"), "silent"));
+    }
+
+    /**
+     * Anagram check by counting chars instead of sorting copies: O(n), and works on
+     * any CharSequence (String, StringBuilder, Rope) through charAt without copying it.
+     * @param s1 The first text
+     * @param s2 The second text
+     * @return true if both texts contain the same chars the same number of times
+     */
+    public static boolean areAnagrams(CharSequence s1, CharSequence s2) {
+        if (s1.length() != s2.length()) {
+            return false;
+        }
+        int[] asciiCounts = new int[128];
+        IntIntMap otherCounts = new IntIntMap();
+        for (int i = 0; i < s1.length(); i++) {
+            char c = s1.charAt(i);
+            if (c < 128) {
+                asciiCounts[c]++;
+            } else {
+                otherCounts.addTo(c, 1);
+            }
+        }
+        // Same length: if no count drops below zero, all counts end at zero
+        for (int i = 0; i < s2.length(); i++) {
+            char c = s2.charAt(i);
+            if (c < 128 ? --asciiCounts[c] < 0 : otherCounts.addTo(c, -1) < 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
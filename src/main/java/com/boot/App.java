@@ -1,8 +1,5 @@
 package com.boot;
 
-import java.util.Arrays;
-import java.util.HashSet;
-
 /**
  * Hello world!
  *
@@ -13,18 +10,20 @@ public class App
     {
         String s="Hello baby Hello baby";
 
-        String[] words=s.split(" ");
+        // Tokenizes without regex and only allocates a String for unseen words
+        DistinctWords words=new DistinctWords();
+        words.addAll(s);
 
-        HashSet<String> hs=new HashSet<>();
+        System.out.println(words.toList());
 
-        for(String word:words){
-            hs.add(word);
-        }
+        String result = words.join(" ");
 
-        System.out.println(hs);
+        System.out.println(result);
 
-        String result = String.join(" ", hs);
+        // Approximate mode: fixed-size sketch instead of holding every word
+        HyperLogLog sketch=new HyperLogLog();
+        sketch.addAll(s);
 
-        System.out.println(result);
+        System.out.println("Approximate distinct words: "+sketch.estimate());
     }
 }
@@ -0,0 +1,247 @@
+package com.boot;
+
+import com.boot.util.HashUtil;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streaming distinct-word set used by {@link App}.
+ *
+ * Replaces s.split(" ") + HashSet<String>: split goes through the regex machinery
+ * and allocates an array plus a String for every token, even for words already
+ * in the set. Here tokens are found with a plain whitespace scan, hashed straight
+ * from their char range (with the same formula as String.hashCode, so the hash
+ * cached in every stored String can be compared directly) and only a word that
+ * has not been seen before is turned into a String.
+ *
+ * Words are kept in first-seen order. Input can be a CharSequence, a Reader or a
+ * UTF-8 file, which is memory-mapped and tokenized in parallel chunks that are
+ * merged at the end. An instance is not thread-safe.
+ */
+public class DistinctWords {
+
+    // Open-addressing table of indexes into words, -1 marks an empty slot
+    private int[] table;
+    private int mask;
+
+    private String[] words;
+    private int size;
+
+    // Receives the words found by WordTokenizer
+    private final WordTokenizer.WordSink sink = new WordTokenizer.WordSink() {
+        @Override
+        public void word(char[] chars, int from, int to) {
+            add(chars, from, to);
+        }
+
+        @Override
+        public void word(CharSequence text, int from, int to) {
+            add(text, from, to);
+        }
+    };
+
+    public DistinctWords() {
+        this(16);
+    }
+
+    public DistinctWords(int expectedWords) {
+        int capacity = Integer.highestOneBit(Math.max(8, expectedWords * 2) - 1) << 1;
+        table = new int[capacity];
+        Arrays.fill(table, -1);
+        mask = capacity - 1;
+        words = new String[Math.max(8, expectedWords)];
+    }
+
+    /**
+     * Adds the word chars[from, to).
+     *
+     * @return true if the word was not in the set yet
+     */
+    public boolean add(char[] chars, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int slot = HashUtil.mix(hash) & mask;
+        int length = to - from;
+        for (int index; (index = table[slot]) != -1; slot = (slot + 1) & mask) {
+            String word = words[index];
+            if (word.hashCode() == hash && word.length() == length && equals(word, chars, from)) {
+                return false;
+            }
+        }
+        insert(slot, new String(chars, from, length));
+        return true;
+    }
+
+    /**
+     * Adds the word text[from, to).
+     *
+     * @return true if the word was not in the set yet
+     */
+    public boolean add(CharSequence text, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        int slot = HashUtil.mix(hash) & mask;
+        int length = to - from;
+        for (int index; (index = table[slot]) != -1; slot = (slot + 1) & mask) {
+            String word = words[index];
+            if (word.hashCode() == hash && word.length() == length && equals(word, text, from)) {
+                return false;
+            }
+        }
+        insert(slot, text.subSequence(from, to).toString());
+        return true;
+    }
+
+    /**
+     * Adds an already materialized word, reusing the same String instance.
+     *
+     * @return true if the word was not in the set yet
+     */
+    public boolean add(String word) {
+        int hash = word.hashCode();
+        int slot = HashUtil.mix(hash) & mask;
+        for (int index; (index = table[slot]) != -1; slot = (slot + 1) & mask) {
+            String existing = words[index];
+            if (existing.hashCode() == hash && existing.equals(word)) {
+                return false;
+            }
+        }
+        insert(slot, word);
+        return true;
+    }
+
+    /**
+     * Tokenizes the text on whitespace and adds every word.
+     */
+    public void addAll(CharSequence text) {
+        WordTokenizer.tokenize(text, sink);
+    }
+
+    /**
+     * Reads the reader to the end, tokenizing on whitespace. The reader is not closed.
+     *
+     * @throws IOException If reading fails
+     */
+    public void addAll(Reader reader) throws IOException {
+        WordTokenizer.tokenize(reader, sink);
+    }
+
+    /**
+     * Adds every word of the other set, in its order.
+     */
+    public void addAll(DistinctWords other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.words[i]);
+        }
+    }
+
+    public boolean contains(CharSequence word) {
+        int hash = 0;
+        for (int i = 0; i < word.length(); i++) {
+            hash = 31 * hash + word.charAt(i);
+        }
+        for (int slot = HashUtil.mix(hash) & mask, index; (index = table[slot]) != -1; slot = (slot + 1) & mask) {
+            String existing = words[index];
+            if (existing.hashCode() == hash && existing.contentEquals(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the distinct words in first-seen order
+     */
+    public List<String> toList() {
+        return new ArrayList<>(Arrays.asList(words).subList(0, size));
+    }
+
+    /**
+     * Joins the distinct words in first-seen order, like String.join.
+     */
+    public String join(CharSequence delimiter) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(delimiter);
+            }
+            sb.append(words[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Collects the distinct words of a UTF-8 file. The file is memory-mapped in
+     * chunks that end on whitespace; with parallel = true the chunks are tokenized
+     * on the common pool and their sets merged in file order.
+     *
+     * @param file the file to read
+     * @param parallel whether to tokenize the chunks in parallel
+     * @return the distinct words of the file
+     * @throws IOException If reading the file fails
+     */
+    public static DistinctWords fromFile(Path file, boolean parallel) throws IOException {
+        List<DistinctWords> partial = WordTokenizer.tokenizeFile(file, parallel,
+                () -> new DistinctWords(1024), words -> words.sink);
+        DistinctWords result = partial.get(0);
+        for (int k = 1; k < partial.size(); k++) {
+            result.addAll(partial.get(k));
+        }
+        return result;
+    }
+
+    private void insert(int slot, String word) {
+        if (size == words.length) {
+            words = Arrays.copyOf(words, size * 2);
+        }
+        words[size] = word;
+        table[slot] = size++;
+        if (size * 2 > table.length) {
+            rehash();
+        }
+    }
+
+    private void rehash() {
+        table = new int[table.length * 2];
+        Arrays.fill(table, -1);
+        mask = table.length - 1;
+        for (int index = 0; index < size; index++) {
+            int slot = HashUtil.mix(words[index].hashCode()) & mask;
+            while (table[slot] != -1) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = index;
+        }
+    }
+
+    private static boolean equals(String word, char[] chars, int from) {
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) != chars[from + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equals(String word, CharSequence text, int from) {
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) != text.charAt(from + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
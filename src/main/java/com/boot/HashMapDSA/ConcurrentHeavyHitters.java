@@ -0,0 +1,126 @@
+package com.boot.HashMapDSA;
+
+import java.util.LinkedHashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Thread-safe {@link HeavyHitters}: every thread counts into its own sketch and
+ * top-K heap, so concurrent updates never contend, and a read merges them.
+ *
+ * {@link #snapshot()} sums the per-thread sketches (a sum of Count-Min sketches
+ * is still an upper bound of the true counts), re-estimates the union of the
+ * per-thread candidates against the merged sketch and keeps the best K. A key
+ * that is frequent overall but never made any single thread's top K can be
+ * missed, so per-thread heaps keep a few more candidates than K.
+ *
+ * A thread's tracker stays registered until that thread calls {@link #release()},
+ * which folds its counts into a shared tracker. Threads that come and go (not a
+ * fixed pool) must release before they end, or their trackers pile up.
+ *
+ * @param <K> the key type, hashed with {@link CountMinSketch#hash(Object)}
+ */
+public class ConcurrentHeavyHitters<K> {
+
+    // Extra candidates kept per thread, for keys that are spread over many threads
+    private static final int CANDIDATE_FACTOR = 2;
+
+    private final int k;
+    private final int width;
+    private final int depth;
+
+    private final Queue<HeavyHitters<K>> perThread = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<HeavyHitters<K>> local = new ThreadLocal<>();
+    // Counts of released threads; its lock also orders release() against snapshot()
+    private final HeavyHitters<K> released;
+
+    /**
+     * @param k number of heavy hitters to report
+     * @param epsilon relative error of the sketch estimates (see {@link CountMinSketch#withError})
+     * @param delta probability of exceeding that error
+     */
+    public ConcurrentHeavyHitters(int k, double epsilon, double delta) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        CountMinSketch shape = CountMinSketch.withError(epsilon, delta);
+        this.k = k;
+        this.width = shape.getWidth();
+        this.depth = shape.getDepth();
+        this.released = new HeavyHitters<>(k * CANDIDATE_FACTOR, new CountMinSketch(width, depth));
+    }
+
+    public void add(K key) {
+        add(key, 1);
+    }
+
+    /**
+     * Counts count more occurrences of key in the calling thread's sketch.
+     */
+    public void add(K key, long count) {
+        HeavyHitters<K> hitters = local.get();
+        if (hitters == null) {
+            hitters = new HeavyHitters<>(k * CANDIDATE_FACTOR, new CountMinSketch(width, depth));
+            local.set(hitters);
+            perThread.add(hitters);
+        }
+        // Uncontended except while a snapshot reads this thread's state
+        synchronized (hitters) {
+            hitters.add(key, count);
+        }
+    }
+
+    /**
+     * Folds the calling thread's counts into the shared state and unregisters its
+     * tracker; a later add from this thread starts a new one. Does nothing if the
+     * thread has not counted anything since its last release.
+     */
+    public void release() {
+        HeavyHitters<K> hitters = local.get();
+        if (hitters == null) {
+            return;
+        }
+        local.remove();
+        synchronized (released) {
+            synchronized (hitters) {
+                perThread.remove(hitters);
+                CountMinSketch sketch = released.getSketch();
+                sketch.merge(hitters.getSketch());
+                // Merged estimates only grow, so the tracked keys are simply offered again
+                for (K key : released.candidates()) {
+                    released.offer(key, sketch.estimateHash(CountMinSketch.hash(key)));
+                }
+                for (K key : hitters.candidates()) {
+                    released.offer(key, sketch.estimateHash(CountMinSketch.hash(key)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges the per-thread state into a single tracker holding the current top K
+     * and the combined sketch. Updates made while the snapshot is taken may or may
+     * not be included.
+     */
+    public HeavyHitters<K> snapshot() {
+        CountMinSketch merged = new CountMinSketch(width, depth);
+        Set<K> candidates = new LinkedHashSet<>();
+        // A tracker being released is counted either here or in released, never in both or neither
+        synchronized (released) {
+            merged.merge(released.getSketch());
+            candidates.addAll(released.candidates());
+            for (HeavyHitters<K> hitters : perThread) {
+                synchronized (hitters) {
+                    merged.merge(hitters.getSketch());
+                    candidates.addAll(hitters.candidates());
+                }
+            }
+        }
+        HeavyHitters<K> result = new HeavyHitters<>(k, merged);
+        for (K key : candidates) {
+            result.offer(key, merged.estimateHash(CountMinSketch.hash(key)));
+        }
+        return result;
+    }
+}
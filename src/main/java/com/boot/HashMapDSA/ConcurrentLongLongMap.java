@@ -0,0 +1,395 @@
+package com.boot.HashMapDSA;
+
+import com.boot.util.HashUtil;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Concurrent long -> long hash map for per-key counters, a replacement for
+ * ConcurrentHashMap<Long, Long> that stores no Node, Long or Long per entry.
+ *
+ * The map is split into segments chosen by the high hash bits. Each segment owns
+ * an open-addressing table (linear probing) of flat key, value and state arrays:
+ *  - reads never lock: slot states and values are read with acquire semantics
+ *    through VarHandles and writers publish with release semantics; within a
+ *    table a key never changes slot, so a probe can't miss an entry
+ *  - writes lock only their segment, so threads updating different keys rarely
+ *    contend; {@link #addAndGet(long, long)} is atomic
+ *  - a full segment is resized incrementally: it gets a larger next table and
+ *    every later write to the segment moves the key it touches plus the next
+ *    {@value #MIGRATION_STEP} old slots into it, so no single write pays for
+ *    copying the whole segment. A moved slot is marked MOVED after its entry was
+ *    added to the next table, and readers that meet a MOVED slot, or miss in an
+ *    old table, follow on to the next one
+ *
+ * Removed entries leave a REMOVED slot that is reused if the key comes back and
+ * dropped at the segment's next resize. Iteration is weakly consistent; an entry
+ * moved by a resize during the iteration may be visited twice.
+ */
+public class ConcurrentLongLongMap {
+
+    /** Functional interface for {@link #forEach(EntryConsumer)}. */
+    public interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    private static final byte EMPTY = 0;
+    private static final byte PRESENT = 1;
+    private static final byte REMOVED = 2;
+    private static final byte MOVED = 3;
+
+    private static final VarHandle STATES = MethodHandles.arrayElementVarHandle(byte[].class);
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle SEGMENTS = MethodHandles.arrayElementVarHandle(Table[].class);
+
+    private static final int DEFAULT_CONCURRENCY = 64;
+    private static final int MIGRATION_STEP = 64;
+
+    private final float loadFactor;
+    private final long missingValue;
+    private final int segmentShift;
+
+    // Oldest live table of every segment, replaced (with release semantics) once it is fully moved
+    private final Table[] segments;
+    // Writers of a segment synchronize on its lock object
+    private final Object[] locks;
+
+    public ConcurrentLongLongMap() {
+        this(16, 0.75f, DEFAULT_CONCURRENCY, 0);
+    }
+
+    public ConcurrentLongLongMap(int expectedSize) {
+        this(expectedSize, 0.75f, DEFAULT_CONCURRENCY, 0);
+    }
+
+    /**
+     * @param expectedSize number of entries the map should hold without resizing
+     * @param loadFactor fill ratio of a segment that triggers its resize, between 0 and 1 (exclusive)
+     * @param concurrencyLevel number of lock stripes, rounded up to a power of two
+     * @param missingValue value returned by {@link #get(long)} for absent keys
+     */
+    public ConcurrentLongLongMap(int expectedSize, float loadFactor, int concurrencyLevel, long missingValue) {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1: " + loadFactor);
+        }
+        if (concurrencyLevel <= 0 || concurrencyLevel > 1 << 16) {
+            throw new IllegalArgumentException("Concurrency level must be between 1 and 65536: " + concurrencyLevel);
+        }
+        int count = concurrencyLevel == 1 ? 1 : Integer.highestOneBit(concurrencyLevel - 1) << 1;
+        this.loadFactor = loadFactor;
+        this.missingValue = missingValue;
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(count);
+        this.segments = new Table[count];
+        this.locks = new Object[count];
+        int perSegment = Math.max(1, expectedSize / count);
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Table(HashUtil.tableSize(perSegment, loadFactor), loadFactor);
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * @return the value for key, or the missing value given at construction
+     */
+    public long get(long key) {
+        return getOrDefault(key, missingValue);
+    }
+
+    public long getOrDefault(long key, long defaultValue) {
+        int hash = HashUtil.mix(key);
+        Table table = (Table) SEGMENTS.getAcquire(segments, segmentFor(hash));
+        while (true) {
+            int slot = table.find(key, hash);
+            if (slot >= 0) {
+                byte state = (byte) STATES.getAcquire(table.states, slot);
+                // A slot that gets MOVED after this read keeps the value it had when it
+                // was moved, so the value read below was still current during this call
+                if (state != MOVED) {
+                    return state == PRESENT ? (long) VALUES.getAcquire(table.values, slot) : defaultValue;
+                }
+            }
+            Table next = table.next;
+            if (next == null) {
+                return defaultValue;
+            }
+            table = next;
+        }
+    }
+
+    public boolean containsKey(long key) {
+        int hash = HashUtil.mix(key);
+        Table table = (Table) SEGMENTS.getAcquire(segments, segmentFor(hash));
+        while (true) {
+            int slot = table.find(key, hash);
+            if (slot >= 0) {
+                byte state = (byte) STATES.getAcquire(table.states, slot);
+                if (state != MOVED) {
+                    return state == PRESENT;
+                }
+            }
+            Table next = table.next;
+            if (next == null) {
+                return false;
+            }
+            table = next;
+        }
+    }
+
+    /**
+     * @return the previous value for key, or the missing value if there was none
+     */
+    public long put(long key, long value) {
+        int hash = HashUtil.mix(key);
+        int segment = segmentFor(hash);
+        synchronized (locks[segment]) {
+            Table table = writeTable(segment, key, hash);
+            int slot = table.find(key, hash);
+            if (slot >= 0 && table.states[slot] == PRESENT) {
+                long previous = table.values[slot];
+                VALUES.setRelease(table.values, slot, value);
+                return previous;
+            }
+            insert(segment, table, slot, key, hash, value);
+            return missingValue;
+        }
+    }
+
+    /**
+     * @return the current value for key if present, otherwise stores value and returns the missing value
+     */
+    public long putIfAbsent(long key, long value) {
+        int hash = HashUtil.mix(key);
+        int segment = segmentFor(hash);
+        synchronized (locks[segment]) {
+            Table table = writeTable(segment, key, hash);
+            int slot = table.find(key, hash);
+            if (slot >= 0 && table.states[slot] == PRESENT) {
+                return table.values[slot];
+            }
+            insert(segment, table, slot, key, hash, value);
+            return missingValue;
+        }
+    }
+
+    /**
+     * Atomically adds delta to the value of key, starting from 0 when absent.
+     *
+     * @return the new value
+     */
+    public long addAndGet(long key, long delta) {
+        int hash = HashUtil.mix(key);
+        int segment = segmentFor(hash);
+        synchronized (locks[segment]) {
+            Table table = writeTable(segment, key, hash);
+            int slot = table.find(key, hash);
+            if (slot >= 0 && table.states[slot] == PRESENT) {
+                long updated = table.values[slot] + delta;
+                VALUES.setRelease(table.values, slot, updated);
+                return updated;
+            }
+            insert(segment, table, slot, key, hash, delta);
+            return delta;
+        }
+    }
+
+    /**
+     * @return the removed value, or the missing value if key was absent
+     */
+    public long remove(long key) {
+        int hash = HashUtil.mix(key);
+        int segment = segmentFor(hash);
+        synchronized (locks[segment]) {
+            Table table = writeTable(segment, key, hash);
+            int slot = table.find(key, hash);
+            if (slot < 0 || table.states[slot] != PRESENT) {
+                return missingValue;
+            }
+            STATES.setRelease(table.states, slot, REMOVED);
+            table.size--;
+            return table.values[slot];
+        }
+    }
+
+    /**
+     * @return the number of entries; a moving target while writers are active
+     */
+    public long size() {
+        long size = 0;
+        for (int i = 0; i < segments.length; i++) {
+            synchronized (locks[i]) {
+                Table table = segments[i];
+                size += table.next == null ? table.size : table.size + table.next.size;
+            }
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Removes all entries, one segment at a time.
+     */
+    public void clear() {
+        for (int i = 0; i < segments.length; i++) {
+            synchronized (locks[i]) {
+                Table table = segments[i];
+                Table newest = table.next == null ? table : table.next;
+                // Readers still holding the old tables see the entries as they were before the clear
+                SEGMENTS.setRelease(segments, i, new Table(newest.capacity(), loadFactor));
+            }
+        }
+    }
+
+    /**
+     * Visits the entries of every segment. Concurrent updates may or may not be seen.
+     */
+    public void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < segments.length; i++) {
+            for (Table table = (Table) SEGMENTS.getAcquire(segments, i); table != null; table = table.next) {
+                for (int slot = 0; slot < table.states.length; slot++) {
+                    if ((byte) STATES.getAcquire(table.states, slot) == PRESENT) {
+                        consumer.accept(table.keys[slot], (long) VALUES.getAcquire(table.values, slot));
+                    }
+                }
+            }
+        }
+    }
+
+    // Top bits of a second multiply, so the segment does not fix the slot bits of its keys
+    private int segmentFor(int hash) {
+        return segmentShift == 32 ? 0 : (hash * 0x9E3779B9) >>> segmentShift;
+    }
+
+    // Called with the segment locked: the table that takes writes for key. While the
+    // segment is being resized, key is moved to the next table first, along with a
+    // few more old slots
+    private Table writeTable(int segment, long key, int hash) {
+        Table table = segments[segment];
+        Table next = table.next;
+        if (next == null) {
+            return table;
+        }
+        int slot = table.find(key, hash);
+        if (slot >= 0) {
+            move(table, next, slot);
+        }
+        migrate(segment, table, next, MIGRATION_STEP);
+        return next;
+    }
+
+    // Called with the segment locked; slot is the key's REMOVED slot or -1
+    private void insert(int segment, Table table, int slot, long key, int hash, long value) {
+        if (slot >= 0) {
+            // The key had a slot before, revive it
+            VALUES.setRelease(table.values, slot, value);
+            STATES.setRelease(table.states, slot, PRESENT);
+            table.size++;
+            return;
+        }
+        if (table.used >= table.resizeAt) {
+            table = startResize(segment, table);
+        }
+        table.add(key, hash, value);
+    }
+
+    private Table startResize(int segment, Table table) {
+        Table oldest = segments[segment];
+        if (oldest != table) {
+            // The next table filled up before the previous resize was done, finish that one first
+            migrate(segment, oldest, table, oldest.capacity());
+        }
+        // Enough room for the live entries at half the load factor; REMOVED slots are dropped
+        int capacity = HashUtil.tableSize(Math.max(table.size * 2, 1), loadFactor);
+        Table resized = new Table(Math.max(capacity, table.capacity()), loadFactor);
+        table.next = resized;
+        migrate(segment, table, resized, MIGRATION_STEP);
+        return resized;
+    }
+
+    // Moves up to count more old slots; once all are moved, the next table becomes the segment's table
+    private void migrate(int segment, Table table, Table next, int count) {
+        int end = Math.min(table.capacity(), table.migrated + count);
+        for (int slot = table.migrated; slot < end; slot++) {
+            move(table, next, slot);
+        }
+        table.migrated = end;
+        if (end == table.capacity()) {
+            SEGMENTS.setRelease(segments, segment, next);
+        }
+    }
+
+    private void move(Table table, Table next, int slot) {
+        byte state = table.states[slot];
+        if (state == EMPTY || state == MOVED) {
+            return;
+        }
+        if (state == PRESENT) {
+            long key = table.keys[slot];
+            next.add(key, HashUtil.mix(key), table.values[slot]);
+            table.size--;
+        }
+        // Published after the entry, so a reader that sees MOVED finds it in the next table
+        STATES.setRelease(table.states, slot, MOVED);
+    }
+
+    /**
+     * Open-addressing table of one segment.
+     */
+    private static final class Table {
+        final long[] keys;
+        final long[] values;
+        final byte[] states;
+        final int mask;
+        final int resizeAt;
+
+        // Written under the segment lock
+        int size;
+        int used;
+        int migrated;
+
+        // Set when the table starts being resized into a larger one
+        volatile Table next;
+
+        Table(int capacity, float loadFactor) {
+            keys = new long[capacity];
+            values = new long[capacity];
+            states = new byte[capacity];
+            mask = capacity - 1;
+            resizeAt = Math.min(capacity - 1, (int) (capacity * loadFactor));
+        }
+
+        int capacity() {
+            return mask + 1;
+        }
+
+        // Slot holding key (PRESENT, REMOVED or MOVED), or -1; safe without the lock
+        int find(long key, int hash) {
+            for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+                byte state = (byte) STATES.getAcquire(states, slot);
+                if (state == EMPTY) {
+                    return -1;
+                }
+                // The key was written before the state was released and never changes
+                if (keys[slot] == key) {
+                    return slot;
+                }
+            }
+        }
+
+        // Called with the segment locked and a free slot guaranteed
+        void add(long key, int hash, long value) {
+            int slot = hash & mask;
+            while (states[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            STATES.setRelease(states, slot, PRESENT);
+            size++;
+            used++;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.boot.HashMapDSA;
+
+import com.boot.util.HashUtil;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Count-Min sketch: approximate per-key counts in fixed memory.
+ *
+ * depth rows of width counters; a key is hashed once to 64 bits and row i uses
+ * counter (h1 + i * h2) mod width (double hashing). The estimate is the minimum
+ * of the key's counters, so it never undercounts, and with width = e / epsilon and
+ * depth = ln(1 / delta) it overcounts by more than epsilon * total with
+ * probability at most delta.
+ *
+ * Updates are conservative: only the counters that are below the new minimum
+ * estimate are raised, which gives much smaller errors than incrementing all of
+ * them. Sketches of the same shape can be merged (counter-wise sum, still an upper
+ * bound) and serialized to a compact byte[]. Not thread-safe; see
+ * {@link ConcurrentHeavyHitters} for per-thread sketches merged on read.
+ */
+public class CountMinSketch {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final int width;
+    private final int depth;
+    private final int mask;
+    private final long[] counters;
+    private long totalCount;
+
+    /**
+     * @param width counters per row, rounded up to a power of two
+     * @param depth number of rows
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || width > 1 << 26) {
+            throw new IllegalArgumentException("Width must be between 1 and 2^26: " + width);
+        }
+        if (depth <= 0 || depth > 32) {
+            throw new IllegalArgumentException("Depth must be between 1 and 32: " + depth);
+        }
+        this.width = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        if ((long) this.width * depth > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many counters: " + this.width + " x " + depth);
+        }
+        this.depth = depth;
+        this.mask = this.width - 1;
+        this.counters = new long[this.width * depth];
+    }
+
+    /**
+     * Sizes a sketch whose estimates exceed the true count by more than
+     * epsilon * totalCount with probability at most delta.
+     */
+    public static CountMinSketch withError(double epsilon, double delta) {
+        if (!(epsilon > 0 && epsilon < 1) || !(delta > 0 && delta < 1)) {
+            throw new IllegalArgumentException("epsilon and delta must be between 0 and 1");
+        }
+        return new CountMinSketch((int) Math.ceil(Math.E / epsilon), (int) Math.ceil(Math.log(1 / delta)));
+    }
+
+    /**
+     * Adds count occurrences of item.
+     *
+     * @return the new estimate for item
+     */
+    public long add(long item, long count) {
+        return addHash(hash(item), count);
+    }
+
+    public long add(CharSequence item, long count) {
+        return addHash(hash(item), count);
+    }
+
+    public long estimate(long item) {
+        return estimateHash(hash(item));
+    }
+
+    public long estimate(CharSequence item) {
+        return estimateHash(hash(item));
+    }
+
+    /**
+     * Adds count occurrences of the item with the given 64-bit hash (see {@link #hash(Object)}).
+     *
+     * @return the new estimate for the item
+     */
+    public long addHash(long hash, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative: " + count);
+        }
+        totalCount += count;
+        long updated = estimateHash(hash) + count;
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int row = 0, offset = 0; row < depth; row++, offset += width) {
+            int index = offset + ((h1 + row * h2) & mask);
+            if (counters[index] < updated) {
+                counters[index] = updated;
+            }
+        }
+        return updated;
+    }
+
+    public long estimateHash(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long min = Long.MAX_VALUE;
+        for (int row = 0, offset = 0; row < depth; row++, offset += width) {
+            min = Math.min(min, counters[offset + ((h1 + row * h2) & mask)]);
+        }
+        return min;
+    }
+
+    /**
+     * Adds the counts of another sketch of the same width and depth to this one.
+     */
+    public void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("Cannot merge a " + other.depth + "x" + other.width
+                    + " sketch into a " + depth + "x" + width + " sketch");
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+        totalCount += other.totalCount;
+    }
+
+    /**
+     * @return the sum of all counts added
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Serializes the sketch: a version byte, then depth, width, the total count and
+     * every counter as unsigned varints (most counters are small, so they take one
+     * or two bytes instead of eight).
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + counters.length * 2);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, depth);
+        writeVarLong(out, width);
+        writeVarLong(out, totalCount);
+        for (long counter : counters) {
+            writeVarLong(out, counter);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads a sketch written by {@link #toBytes()}.
+     */
+    public static CountMinSketch fromBytes(byte[] bytes) {
+        if (bytes.length == 0 || bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Not a serialized Count-Min sketch");
+        }
+        int[] position = {1};
+        long depth = readVarLong(bytes, position);
+        long width = readVarLong(bytes, position);
+        if (depth > 32 || width > 1 << 26 || Long.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Invalid sketch shape: " + depth + "x" + width);
+        }
+        CountMinSketch sketch = new CountMinSketch((int) width, (int) depth);
+        sketch.totalCount = readVarLong(bytes, position);
+        for (int i = 0; i < sketch.counters.length; i++) {
+            sketch.counters[i] = readVarLong(bytes, position);
+        }
+        if (position[0] != bytes.length) {
+            throw new IllegalArgumentException("Trailing bytes after sketch");
+        }
+        return sketch;
+    }
+
+    /**
+     * 64-bit hash used for the keys of {@link HeavyHitters}: chars are hashed
+     * directly for CharSequences, Long and Integer keys by value, other keys via hashCode.
+     */
+    public static long hash(Object key) {
+        if (key instanceof CharSequence) {
+            return hash((CharSequence) key);
+        }
+        if (key instanceof Long || key instanceof Integer) {
+            return hash(((Number) key).longValue());
+        }
+        return hash((long) key.hashCode());
+    }
+
+    public static long hash(long item) {
+        return HashUtil.fmix64(item);
+    }
+
+    public static long hash(CharSequence item) {
+        return HashUtil.hash(item, 0, item.length());
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] bytes, int[] position) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position[0] >= bytes.length) {
+                throw new IllegalArgumentException("Truncated sketch");
+            }
+            byte b = bytes[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in sketch");
+    }
+}
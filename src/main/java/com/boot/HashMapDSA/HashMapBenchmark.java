@@ -0,0 +1,136 @@
+package com.boot.HashMapDSA;
+
+import com.boot.util.Benchmarks;
+
+import java.util.HashMap;
+import java.util.Random;
+
+/**
+ * Simple timing comparison of the Robin Hood maps ({@link IntIntMap},
+ * {@link LongLongMap}) and the SwissTable-style {@link SwissIntIntMap} against
+ * java.util.HashMap for put, get and remove, at sizes from 1K up to the maximum
+ * given as the first argument (default 10M; 100M needs a large heap, e.g. -Xmx16g).
+ * Remove rounds re-insert the keys afterwards, so they report remove + put.
+ */
+public class HashMapBenchmark {
+
+    public static void main(String[] args) {
+        int maxSize = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        for (int size = 1_000; size <= maxSize; size *= 10) {
+            int[] keys = randomKeys(size, new Random(size));
+            System.out.println("Entries: " + String.format("%,d", size));
+            benchmarkHashMap(keys);
+            benchmarkIntIntMap(keys);
+            benchmarkLongLongMap(keys);
+            benchmarkSwissIntIntMap(keys);
+        }
+    }
+
+    private static void benchmarkHashMap(int[] keys) {
+        HashMap<Integer, Integer> map = new HashMap<>();
+        Benchmarks.time("HashMap<Integer, Integer> put", keys.length, () -> {
+            map.clear();
+            for (int key : keys) {
+                map.put(key, key);
+            }
+        });
+        Benchmarks.time("HashMap<Integer, Integer> get", keys.length, () -> {
+            long sum = 0;
+            for (int key : keys) {
+                sum += map.get(key);
+            }
+            Benchmarks.consume(sum);
+        });
+        Benchmarks.time("HashMap<Integer, Integer> remove", keys.length, () -> {
+            for (int key : keys) {
+                map.remove(key);
+            }
+            for (int key : keys) {
+                map.put(key, key);
+            }
+        });
+    }
+
+    private static void benchmarkIntIntMap(int[] keys) {
+        IntIntMap map = new IntIntMap();
+        Benchmarks.time("IntIntMap put", keys.length, () -> {
+            map.clear();
+            for (int key : keys) {
+                map.put(key, key);
+            }
+        });
+        Benchmarks.time("IntIntMap get", keys.length, () -> {
+            long sum = 0;
+            for (int key : keys) {
+                sum += map.get(key);
+            }
+            Benchmarks.consume(sum);
+        });
+        Benchmarks.time("IntIntMap remove", keys.length, () -> {
+            for (int key : keys) {
+                map.remove(key);
+            }
+            for (int key : keys) {
+                map.put(key, key);
+            }
+        });
+    }
+
+    private static void benchmarkLongLongMap(int[] keys) {
+        LongLongMap map = new LongLongMap();
+        Benchmarks.time("LongLongMap put", keys.length, () -> {
+            map.clear();
+            for (int key : keys) {
+                map.put(key, key);
+            }
+        });
+        Benchmarks.time("LongLongMap get", keys.length, () -> {
+            long sum = 0;
+            for (int key : keys) {
+                sum += map.get(key);
+            }
+            Benchmarks.consume(sum);
+        });
+        Benchmarks.time("LongLongMap remove", keys.length, () -> {
+            for (int key : keys) {
+                map.remove(key);
+            }
+            for (int key : keys) {
+                map.put(key, key);
+            }
+        });
+    }
+
+    private static void benchmarkSwissIntIntMap(int[] keys) {
+        SwissIntIntMap map = new SwissIntIntMap();
+        Benchmarks.time("SwissIntIntMap put", keys.length, () -> {
+            map.clear();
+            for (int key : keys) {
+                map.put(key, key);
+            }
+        });
+        Benchmarks.time("SwissIntIntMap get", keys.length, () -> {
+            long sum = 0;
+            for (int key : keys) {
+                sum += map.get(key);
+            }
+            Benchmarks.consume(sum);
+        });
+        Benchmarks.time("SwissIntIntMap remove", keys.length, () -> {
+            for (int key : keys) {
+                map.remove(key);
+            }
+            for (int key : keys) {
+                map.put(key, key);
+            }
+        });
+    }
+
+    private static int[] randomKeys(int size, Random random) {
+        int[] keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt();
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,206 @@
+package com.boot.HashMapDSA;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Approximate top-K (heavy hitters) tracker in fixed memory: a {@link CountMinSketch}
+ * estimates the count of every key, and a bounded min-heap keeps the K keys with
+ * the highest estimates seen so far. A new key only enters the heap when its
+ * estimate beats the current minimum, so memory is the sketch plus K entries no
+ * matter how many distinct keys stream past.
+ *
+ * The heap positions of its keys are kept in an {@link ObjIntMap}, so a key that
+ * is already tracked is updated in O(log K). Not thread-safe; see
+ * {@link ConcurrentHeavyHitters}.
+ *
+ * @param <K> the key type, hashed with {@link CountMinSketch#hash(Object)}
+ */
+public class HeavyHitters<K> {
+
+    /**
+     * A tracked key and its estimated count.
+     */
+    public static final class Entry<K> {
+        private final K key;
+        private final long count;
+
+        Entry(K key, long count) {
+            this.key = key;
+            this.count = count;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + count;
+        }
+    }
+
+    private final int k;
+    private final CountMinSketch sketch;
+
+    // Min-heap on counts; positions maps each key to its heap index
+    private final Object[] heapKeys;
+    private final long[] heapCounts;
+    private final ObjIntMap<K> positions;
+    private int heapSize;
+
+    /**
+     * @param k number of heavy hitters to keep
+     * @param epsilon relative error of the sketch estimates (see {@link CountMinSketch#withError})
+     * @param delta probability of exceeding that error
+     */
+    public HeavyHitters(int k, double epsilon, double delta) {
+        this(k, CountMinSketch.withError(epsilon, delta));
+    }
+
+    /**
+     * @param k number of heavy hitters to keep
+     * @param sketch an empty sketch to count into
+     */
+    public HeavyHitters(int k, CountMinSketch sketch) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        this.k = k;
+        this.sketch = sketch;
+        this.heapKeys = new Object[k];
+        this.heapCounts = new long[k];
+        this.positions = new ObjIntMap<>(k, 0.75f, -1);
+    }
+
+    public void add(K key) {
+        add(key, 1);
+    }
+
+    /**
+     * Counts count more occurrences of key.
+     */
+    public void add(K key, long count) {
+        offer(key, sketch.addHash(CountMinSketch.hash(key), count));
+    }
+
+    /**
+     * @return the estimated count of key (never less than the true count)
+     */
+    public long estimate(K key) {
+        return sketch.estimateHash(CountMinSketch.hash(key));
+    }
+
+    /**
+     * @return the tracked keys, highest estimate first
+     */
+    @SuppressWarnings("unchecked")
+    public List<Entry<K>> topK() {
+        List<Entry<K>> entries = new ArrayList<>(heapSize);
+        for (int i = 0; i < heapSize; i++) {
+            entries.add(new Entry<>((K) heapKeys[i], heapCounts[i]));
+        }
+        entries.sort(Comparator.comparingLong((Entry<K> e) -> e.count).reversed());
+        return entries;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    public CountMinSketch getSketch() {
+        return sketch;
+    }
+
+    /**
+     * @return the tracked keys in heap order
+     */
+    @SuppressWarnings("unchecked")
+    List<K> candidates() {
+        List<K> keys = new ArrayList<>(heapSize);
+        for (int i = 0; i < heapSize; i++) {
+            keys.add((K) heapKeys[i]);
+        }
+        return keys;
+    }
+
+    /**
+     * Offers key with its current estimate to the heap.
+     */
+    void offer(K key, long estimate) {
+        int position = positions.get(key);
+        if (position >= 0) {
+            // Estimates only grow, so a tracked key can only move down the min-heap
+            heapCounts[position] = estimate;
+            siftDown(position);
+        } else if (heapSize < k) {
+            place(heapSize, key, estimate);
+            siftUp(heapSize++);
+        } else if (estimate > heapCounts[0]) {
+            @SuppressWarnings("unchecked")
+            K evicted = (K) heapKeys[0];
+            positions.remove(evicted);
+            place(0, key, estimate);
+            siftDown(0);
+        }
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heapCounts[parent] <= heapCounts[i]) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int smallest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < heapSize && heapCounts[left] < heapCounts[smallest]) {
+                smallest = left;
+            }
+            if (right < heapSize && heapCounts[right] < heapCounts[smallest]) {
+                smallest = right;
+            }
+            if (smallest == i) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void place(int i, K key, long count) {
+        heapKeys[i] = key;
+        heapCounts[i] = count;
+        positions.put(key, i);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void swap(int a, int b) {
+        Object key = heapKeys[a];
+        long count = heapCounts[a];
+        place(a, (K) heapKeys[b], heapCounts[b]);
+        place(b, (K) key, count);
+    }
+
+    public static void main(String[] args) {
+        HeavyHitters<String> hitters = new HeavyHitters<>(3, 0.001, 0.01);
+        String[] clicks = "home cart home search home cart checkout home cart search".split(" ");
+        for (String click : clicks) {
+            hitters.add(click);
+        }
+        System.out.println(hitters.topK());    // [home=4, cart=3, search=2]
+        System.out.println(hitters.estimate("checkout"));   // 1
+    }
+}
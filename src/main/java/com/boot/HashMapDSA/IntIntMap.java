@@ -0,0 +1,249 @@
+package com.boot.HashMapDSA;
+
+import com.boot.util.HashUtil;
+
+import java.util.Arrays;
+
+/**
+ * int -> int hash map without boxing, a replacement for HashMap<Integer, Integer>.
+ *
+ * Robin Hood open addressing: keys and values live in two flat int arrays. On
+ * insert, an entry that is further from its home slot than the resident entry
+ * takes the slot and the resident moves on, which keeps probe sequences short and
+ * lets a lookup stop as soon as it meets an entry closer to home than itself.
+ * Removal shifts the following entries back by one slot (backward-shift deletion)
+ * instead of leaving tombstones.
+ *
+ * Key 0 marks an empty slot in the table, so the entry for key 0 is stored
+ * separately. Not thread-safe.
+ */
+public class IntIntMap {
+
+    /** Functional interface for {@link #forEach(EntryConsumer)}. */
+    public interface EntryConsumer {
+        void accept(int key, int value);
+    }
+
+    private static final int EMPTY = 0;
+
+    private final float loadFactor;
+    private final int missingValue;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    public IntIntMap() {
+        this(16, 0.75f, 0);
+    }
+
+    public IntIntMap(int expectedSize) {
+        this(expectedSize, 0.75f, 0);
+    }
+
+    /**
+     * @param expectedSize number of entries the map should hold without resizing
+     * @param loadFactor fill ratio that triggers a resize, between 0 and 1 (exclusive)
+     * @param missingValue value returned by {@link #get(int)} for absent keys
+     */
+    public IntIntMap(int expectedSize, float loadFactor, int missingValue) {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        this.missingValue = missingValue;
+        allocate(HashUtil.tableSize(expectedSize, loadFactor));
+    }
+
+    /**
+     * @return the value for key, or the missing value given at construction
+     */
+    public int get(int key) {
+        return getOrDefault(key, missingValue);
+    }
+
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == EMPTY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int slot = find(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    public boolean containsKey(int key) {
+        return key == EMPTY ? hasZeroKey : find(key) >= 0;
+    }
+
+    /**
+     * @return the previous value for key, or the missing value if there was none
+     */
+    public int put(int key, int value) {
+        if (key == EMPTY) {
+            int previous = hasZeroKey ? zeroValue : missingValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            int previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        insert(key, value);
+        return missingValue;
+    }
+
+    /**
+     * Adds delta to the value of key (starting from 0 when absent), for counters.
+     *
+     * @return the new value
+     */
+    public int addTo(int key, int delta) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                zeroValue = 0;
+                size++;
+            }
+            return zeroValue += delta;
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            return values[slot] += delta;
+        }
+        insert(key, delta);
+        return delta;
+    }
+
+    /**
+     * @return the removed value, or the missing value if key was absent
+     */
+    public int remove(int key) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) {
+                return missingValue;
+            }
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return missingValue;
+        }
+        int previous = values[slot];
+        shiftBack(slot);
+        size--;
+        return previous;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    public void forEach(EntryConsumer consumer) {
+        if (hasZeroKey) {
+            consumer.accept(EMPTY, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private int find(int key) {
+        int slot = HashUtil.mix(key) & mask;
+        for (int distance = 0; ; distance++) {
+            int k = keys[slot];
+            if (k == key) {
+                return slot;
+            }
+            // An empty slot, or an entry closer to its home than we are to ours, ends the search
+            if (k == EMPTY || probeDistance(k, slot) < distance) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void insert(int key, int value) {
+        if (size >= resizeAt) {
+            rehash(keys.length * 2);
+        }
+        size++;
+        int slot = HashUtil.mix(key) & mask;
+        for (int distance = 0; ; distance++) {
+            int k = keys[slot];
+            if (k == EMPTY) {
+                keys[slot] = key;
+                values[slot] = value;
+                return;
+            }
+            int residentDistance = probeDistance(k, slot);
+            if (residentDistance < distance) {
+                // Robin Hood: take the slot from the richer entry and carry it forward
+                int v = values[slot];
+                keys[slot] = key;
+                values[slot] = value;
+                key = k;
+                value = v;
+                distance = residentDistance;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void shiftBack(int slot) {
+        int next = (slot + 1) & mask;
+        while (keys[next] != EMPTY && probeDistance(keys[next], next) > 0) {
+            keys[slot] = keys[next];
+            values[slot] = values[next];
+            slot = next;
+            next = (next + 1) & mask;
+        }
+        keys[slot] = EMPTY;
+    }
+
+    private int probeDistance(int key, int slot) {
+        return (slot - HashUtil.mix(key)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        size = hasZeroKey ? 1 : 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                insert(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+}
@@ -0,0 +1,222 @@
+package com.boot.HashMapDSA;
+
+import com.boot.util.HashUtil;
+
+import java.util.Arrays;
+
+/**
+ * int -> Object hash map without boxing the keys, a replacement for HashMap<Integer, V>.
+ *
+ * Same Robin Hood layout as {@link IntIntMap}: an int[] of keys next to an
+ * Object[] of values, backward-shift deletion, key 0 kept outside the table.
+ * Null values are not allowed, so get returning null always means "absent".
+ * Not thread-safe.
+ *
+ * @param <V> the value type
+ */
+public class IntObjMap<V> {
+
+    /** Functional interface for {@link #forEach(EntryConsumer)}. */
+    public interface EntryConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    private static final int EMPTY = 0;
+
+    private final float loadFactor;
+
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    private V zeroValue;
+
+    public IntObjMap() {
+        this(16, 0.75f);
+    }
+
+    public IntObjMap(int expectedSize) {
+        this(expectedSize, 0.75f);
+    }
+
+    /**
+     * @param expectedSize number of entries the map should hold without resizing
+     * @param loadFactor fill ratio that triggers a resize, between 0 and 1 (exclusive)
+     */
+    public IntObjMap(int expectedSize, float loadFactor) {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(HashUtil.tableSize(expectedSize, loadFactor));
+    }
+
+    /**
+     * @return the value for key, or null if absent
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        if (key == EMPTY) {
+            return zeroValue;
+        }
+        int slot = find(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    public boolean containsKey(int key) {
+        return key == EMPTY ? zeroValue != null : find(key) >= 0;
+    }
+
+    /**
+     * @return the previous value for key, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new NullPointerException("Null values are not supported");
+        }
+        if (key == EMPTY) {
+            V previous = zeroValue;
+            if (previous == null) {
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            V previous = (V) values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        insert(key, value);
+        return null;
+    }
+
+    /**
+     * @return the removed value, or null if key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        if (key == EMPTY) {
+            V previous = zeroValue;
+            if (previous != null) {
+                zeroValue = null;
+                size--;
+            }
+            return previous;
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return null;
+        }
+        V previous = (V) values[slot];
+        shiftBack(slot);
+        size--;
+        return previous;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, null);
+        zeroValue = null;
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> consumer) {
+        if (zeroValue != null) {
+            consumer.accept(EMPTY, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    private int find(int key) {
+        int slot = HashUtil.mix(key) & mask;
+        for (int distance = 0; ; distance++) {
+            int k = keys[slot];
+            if (k == key) {
+                return slot;
+            }
+            if (k == EMPTY || probeDistance(k, slot) < distance) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void insert(int key, Object value) {
+        if (size >= resizeAt) {
+            rehash(keys.length * 2);
+        }
+        size++;
+        int slot = HashUtil.mix(key) & mask;
+        for (int distance = 0; ; distance++) {
+            int k = keys[slot];
+            if (k == EMPTY) {
+                keys[slot] = key;
+                values[slot] = value;
+                return;
+            }
+            int residentDistance = probeDistance(k, slot);
+            if (residentDistance < distance) {
+                Object v = values[slot];
+                keys[slot] = key;
+                values[slot] = value;
+                key = k;
+                value = v;
+                distance = residentDistance;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void shiftBack(int slot) {
+        int next = (slot + 1) & mask;
+        while (keys[next] != EMPTY && probeDistance(keys[next], next) > 0) {
+            keys[slot] = keys[next];
+            values[slot] = values[next];
+            slot = next;
+            next = (next + 1) & mask;
+        }
+        keys[slot] = EMPTY;
+        values[slot] = null; // let the value be collected
+    }
+
+    private int probeDistance(int key, int slot) {
+        return (slot - HashUtil.mix(key)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        size = zeroValue != null ? 1 : 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                insert(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+}
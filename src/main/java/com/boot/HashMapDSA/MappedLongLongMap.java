@@ -0,0 +1,405 @@
+package com.boot.HashMapDSA;
+
+import com.boot.util.HashUtil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Off-heap long -> long hash table stored in a memory-mapped file.
+ *
+ * The entries never touch the Java heap: slots of 16 bytes (key, value) live in
+ * MappedByteBuffers of at most 1 GB each, so a table of hundreds of millions of
+ * entries costs the GC nothing, and reopening an existing file is just mapping it
+ * again (the OS pages the data in on demand, or up front with {@link #preload()}).
+ *
+ * The layout is the Robin Hood scheme of {@link LongLongMap} with a fixed capacity
+ * chosen at {@link #create}: the file is sized once and never rehashed, and put
+ * throws IllegalStateException once the load factor would be exceeded.
+ *
+ * Concurrency: any number of reader threads and one writer at a time. Writes take
+ * the write lock of a StampedLock; reads run optimistically without locking and
+ * are only retried under the read lock if a write overlapped them.
+ *
+ * Data reaches the disk when the OS writes the pages back, or on {@link #force()}
+ * and {@link #close()}. The table is not crash-safe in the middle of a write.
+ */
+public class MappedLongLongMap implements Closeable {
+
+    private static final long MAGIC = 0x48_4D_4C_4C_4D_41_50_31L; // "HMLLMAP1"
+    private static final int VERSION = 1;
+
+    // Header: magic, version, capacity, size, load factor, missing value, zero-key flag, zero value
+    private static final int HEADER_BYTES = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 8;
+    private static final int CAPACITY_OFFSET = 12;
+    private static final int SIZE_OFFSET = 16;
+    private static final int LOAD_FACTOR_OFFSET = 24;
+    private static final int MISSING_VALUE_OFFSET = 32;
+    private static final int HAS_ZERO_KEY_OFFSET = 40;
+    private static final int ZERO_VALUE_OFFSET = 48;
+
+    private static final int SLOT_SHIFT = 4;
+    private static final int MAX_REGION_SLOTS = 1 << 26; // 1 GB per mapping
+
+    private static final long EMPTY = 0;
+
+    private final FileChannel channel;
+    private final boolean writable;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer[] regions;
+    private final int regionShift;
+    private final int regionMask;
+    private final int mask;
+    private final int resizeAt;
+    private final long missingValue;
+
+    private final StampedLock lock = new StampedLock();
+
+    private MappedLongLongMap(FileChannel channel, boolean writable, int capacity, float loadFactor,
+                              long missingValue) throws IOException {
+        this.channel = channel;
+        this.writable = writable;
+        FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+        this.header = map(channel, mode, 0, HEADER_BYTES);
+
+        int regionSlots = Math.min(capacity, MAX_REGION_SLOTS);
+        this.regionShift = Integer.numberOfTrailingZeros(regionSlots);
+        this.regionMask = regionSlots - 1;
+        this.regions = new MappedByteBuffer[capacity / regionSlots];
+        for (int r = 0; r < regions.length; r++) {
+            long offset = HEADER_BYTES + ((long) r * regionSlots << SLOT_SHIFT);
+            regions[r] = map(channel, mode, offset, (long) regionSlots << SLOT_SHIFT);
+        }
+        this.mask = capacity - 1;
+        this.resizeAt = Math.min(capacity - 1, (int) (capacity * (double) loadFactor));
+        this.missingValue = missingValue;
+    }
+
+    /**
+     * Creates a new table file, replacing any existing file.
+     *
+     * @param file the file to create
+     * @param expectedSize number of entries the table must hold; it cannot grow beyond that
+     * @param loadFactor fill ratio of the table, between 0 and 1 (exclusive)
+     * @param missingValue value returned by {@link #get(long)} for absent keys
+     * @return the table, open for reading and writing
+     * @throws IOException If the file cannot be created or mapped
+     */
+    public static MappedLongLongMap create(Path file, int expectedSize, float loadFactor, long missingValue)
+            throws IOException {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1: " + loadFactor);
+        }
+        int capacity = HashUtil.tableSize(expectedSize, loadFactor);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            // Extending the file leaves the slots zero-filled, i.e. empty
+            channel.truncate(0);
+            channel.write(ByteBuffer.allocate(1), HEADER_BYTES + ((long) capacity << SLOT_SHIFT) - 1);
+            MappedLongLongMap map = new MappedLongLongMap(channel, true, capacity, loadFactor, missingValue);
+            map.header.putLong(MAGIC_OFFSET, MAGIC);
+            map.header.putInt(VERSION_OFFSET, VERSION);
+            map.header.putInt(CAPACITY_OFFSET, capacity);
+            map.header.putLong(SIZE_OFFSET, 0);
+            map.header.putFloat(LOAD_FACTOR_OFFSET, loadFactor);
+            map.header.putLong(MISSING_VALUE_OFFSET, missingValue);
+            return map;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a table file written by {@link #create}.
+     *
+     * @param file the table file
+     * @param writable whether puts and removes are allowed
+     * @return the table
+     * @throws IOException If the file cannot be opened or is not a table file
+     */
+    public static MappedLongLongMap open(Path file, boolean writable) throws IOException {
+        FileChannel channel = writable
+                ? FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a table file: " + file);
+            }
+            MappedByteBuffer header = map(channel, FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            int capacity = header.getInt(CAPACITY_OFFSET);
+            if (header.getLong(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+                throw new IOException("Not a table file: " + file);
+            }
+            if (capacity < 4 || Integer.bitCount(capacity) != 1
+                    || channel.size() != HEADER_BYTES + ((long) capacity << SLOT_SHIFT)) {
+                throw new IOException("Corrupt table file: " + file);
+            }
+            return new MappedLongLongMap(channel, writable, capacity, header.getFloat(LOAD_FACTOR_OFFSET),
+                    header.getLong(MISSING_VALUE_OFFSET));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the value for key, or the missing value given at creation
+     */
+    public long get(long key) {
+        return getOrDefault(key, missingValue);
+    }
+
+    public long getOrDefault(long key, long defaultValue) {
+        long stamp = lock.tryOptimisticRead();
+        long value = lookup(key, defaultValue);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        // A write overlapped the optimistic read, repeat it under the read lock
+        stamp = lock.readLock();
+        try {
+            return lookup(key, defaultValue);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean containsKey(long key) {
+        long stamp = lock.tryOptimisticRead();
+        boolean found = key == EMPTY ? hasZeroKey() : find(key) >= 0;
+        if (lock.validate(stamp)) {
+            return found;
+        }
+        stamp = lock.readLock();
+        try {
+            return key == EMPTY ? hasZeroKey() : find(key) >= 0;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return the previous value for key, or the missing value if there was none
+     * @throws IllegalStateException If the key is new and the table is full
+     */
+    public long put(long key, long value) {
+        checkWritable();
+        long stamp = lock.writeLock();
+        try {
+            if (key == EMPTY) {
+                long previous = hasZeroKey() ? header.getLong(ZERO_VALUE_OFFSET) : missingValue;
+                if (!hasZeroKey()) {
+                    header.putLong(HAS_ZERO_KEY_OFFSET, 1);
+                    setSize(size() + 1);
+                }
+                header.putLong(ZERO_VALUE_OFFSET, value);
+                return previous;
+            }
+            int slot = find(key);
+            if (slot >= 0) {
+                long previous = value(slot);
+                setValue(slot, value);
+                return previous;
+            }
+            insert(key, value);
+            return missingValue;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return the removed value, or the missing value if key was absent
+     */
+    public long remove(long key) {
+        checkWritable();
+        long stamp = lock.writeLock();
+        try {
+            if (key == EMPTY) {
+                if (!hasZeroKey()) {
+                    return missingValue;
+                }
+                header.putLong(HAS_ZERO_KEY_OFFSET, 0);
+                setSize(size() - 1);
+                return header.getLong(ZERO_VALUE_OFFSET);
+            }
+            int slot = find(key);
+            if (slot < 0) {
+                return missingValue;
+            }
+            long previous = value(slot);
+            shiftBack(slot);
+            setSize(size() - 1);
+            return previous;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public long size() {
+        return header.getLong(SIZE_OFFSET);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return the number of slots in the file
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Touches every page of the file so that later lookups don't fault.
+     */
+    public void preload() {
+        header.load();
+        for (MappedByteBuffer region : regions) {
+            region.load();
+        }
+    }
+
+    /**
+     * Writes modified pages back to the file.
+     */
+    public void force() {
+        if (writable) {
+            long stamp = lock.readLock();
+            try {
+                header.force();
+                for (MappedByteBuffer region : regions) {
+                    region.force();
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    /**
+     * Forces pending writes to disk and closes the file. The mappings are released
+     * once they are garbage collected; the table must not be used afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private long lookup(long key, long defaultValue) {
+        if (key == EMPTY) {
+            return hasZeroKey() ? header.getLong(ZERO_VALUE_OFFSET) : defaultValue;
+        }
+        int slot = find(key);
+        return slot < 0 ? defaultValue : value(slot);
+    }
+
+    // Bounded by the capacity so that an optimistic read of a half-written table always ends
+    private int find(long key) {
+        int slot = HashUtil.mix(key) & mask;
+        for (int distance = 0; distance <= mask; distance++) {
+            long k = key(slot);
+            if (k == key) {
+                return slot;
+            }
+            if (k == EMPTY || probeDistance(k, slot) < distance) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(long key, long value) {
+        long size = size();
+        if (size - (hasZeroKey() ? 1 : 0) >= resizeAt) {
+            throw new IllegalStateException("Table is full: " + size + " entries in " + capacity() + " slots");
+        }
+        setSize(size + 1);
+        int slot = HashUtil.mix(key) & mask;
+        for (int distance = 0; ; distance++) {
+            long k = key(slot);
+            if (k == EMPTY) {
+                setEntry(slot, key, value);
+                return;
+            }
+            int residentDistance = probeDistance(k, slot);
+            if (residentDistance < distance) {
+                // Robin Hood: take the slot from the richer entry and carry it forward
+                long v = value(slot);
+                setEntry(slot, key, value);
+                key = k;
+                value = v;
+                distance = residentDistance;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void shiftBack(int slot) {
+        int next = (slot + 1) & mask;
+        while (key(next) != EMPTY && probeDistance(key(next), next) > 0) {
+            setEntry(slot, key(next), value(next));
+            slot = next;
+            next = (next + 1) & mask;
+        }
+        setEntry(slot, EMPTY, 0);
+    }
+
+    private int probeDistance(long key, int slot) {
+        return (slot - HashUtil.mix(key)) & mask;
+    }
+
+    private long key(int slot) {
+        return regions[slot >>> regionShift].getLong((slot & regionMask) << SLOT_SHIFT);
+    }
+
+    private long value(int slot) {
+        return regions[slot >>> regionShift].getLong(((slot & regionMask) << SLOT_SHIFT) + 8);
+    }
+
+    private void setValue(int slot, long value) {
+        regions[slot >>> regionShift].putLong(((slot & regionMask) << SLOT_SHIFT) + 8, value);
+    }
+
+    private void setEntry(int slot, long key, long value) {
+        MappedByteBuffer region = regions[slot >>> regionShift];
+        int offset = (slot & regionMask) << SLOT_SHIFT;
+        region.putLong(offset, key);
+        region.putLong(offset + 8, value);
+    }
+
+    private boolean hasZeroKey() {
+        return header.getLong(HAS_ZERO_KEY_OFFSET) != 0;
+    }
+
+    private void setSize(long size) {
+        header.putLong(SIZE_OFFSET, size);
+    }
+
+    private void checkWritable() {
+        if (!writable) {
+            throw new IllegalStateException("Table was opened read-only");
+        }
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, FileChannel.MapMode mode, long offset, long size)
+            throws IOException {
+        MappedByteBuffer buffer = channel.map(mode, offset, size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN); // fixed file format, and native on x86 and ARM
+        return buffer;
+    }
+}
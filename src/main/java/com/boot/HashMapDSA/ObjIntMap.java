@@ -0,0 +1,221 @@
+package com.boot.HashMapDSA;
+
+import com.boot.util.HashUtil;
+
+import java.util.Arrays;
+
+/**
+ * Object -> int hash map without boxing the values, a replacement for
+ * HashMap<K, Integer> (e.g. word counts).
+ *
+ * Same Robin Hood layout as {@link IntIntMap}, with the mixed hash of every key
+ * kept in a parallel int[] so probe distances and mismatches are resolved without
+ * calling hashCode or equals again. Null keys are not allowed. Not thread-safe.
+ *
+ * @param <K> the key type
+ */
+public class ObjIntMap<K> {
+
+    /** Functional interface for {@link #forEach(EntryConsumer)}. */
+    public interface EntryConsumer<K> {
+        void accept(K key, int value);
+    }
+
+    private final float loadFactor;
+    private final int missingValue;
+
+    private Object[] keys;
+    private int[] hashes;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public ObjIntMap() {
+        this(16, 0.75f, 0);
+    }
+
+    public ObjIntMap(int expectedSize) {
+        this(expectedSize, 0.75f, 0);
+    }
+
+    /**
+     * @param expectedSize number of entries the map should hold without resizing
+     * @param loadFactor fill ratio that triggers a resize, between 0 and 1 (exclusive)
+     * @param missingValue value returned by {@link #get(Object)} for absent keys
+     */
+    public ObjIntMap(int expectedSize, float loadFactor, int missingValue) {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        this.missingValue = missingValue;
+        allocate(HashUtil.tableSize(expectedSize, loadFactor));
+    }
+
+    /**
+     * @return the value for key, or the missing value given at construction
+     */
+    public int get(K key) {
+        return getOrDefault(key, missingValue);
+    }
+
+    public int getOrDefault(K key, int defaultValue) {
+        int slot = find(key, hash(key));
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    public boolean containsKey(K key) {
+        return find(key, hash(key)) >= 0;
+    }
+
+    /**
+     * @return the previous value for key, or the missing value if there was none
+     */
+    public int put(K key, int value) {
+        int hash = hash(key);
+        int slot = find(key, hash);
+        if (slot >= 0) {
+            int previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        insert(key, hash, value);
+        return missingValue;
+    }
+
+    /**
+     * Adds delta to the value of key (starting from 0 when absent), for counters.
+     *
+     * @return the new value
+     */
+    public int addTo(K key, int delta) {
+        int hash = hash(key);
+        int slot = find(key, hash);
+        if (slot >= 0) {
+            return values[slot] += delta;
+        }
+        insert(key, hash, delta);
+        return delta;
+    }
+
+    /**
+     * @return the removed value, or the missing value if key was absent
+     */
+    public int remove(K key) {
+        int slot = find(key, hash(key));
+        if (slot < 0) {
+            return missingValue;
+        }
+        int previous = values[slot];
+        shiftBack(slot);
+        size--;
+        return previous;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, null);
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super K> consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                consumer.accept((K) keys[i], values[i]);
+            }
+        }
+    }
+
+    private static int hash(Object key) {
+        if (key == null) {
+            throw new NullPointerException("Null keys are not supported");
+        }
+        return HashUtil.mix(key.hashCode());
+    }
+
+    private int find(Object key, int hash) {
+        int slot = hash & mask;
+        for (int distance = 0; ; distance++) {
+            Object k = keys[slot];
+            if (k == null || ((slot - hashes[slot]) & mask) < distance) {
+                return -1;
+            }
+            if (hashes[slot] == hash && (k == key || k.equals(key))) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void insert(Object key, int hash, int value) {
+        if (size >= resizeAt) {
+            rehash(keys.length * 2);
+        }
+        size++;
+        int slot = hash & mask;
+        for (int distance = 0; ; distance++) {
+            Object k = keys[slot];
+            if (k == null) {
+                keys[slot] = key;
+                hashes[slot] = hash;
+                values[slot] = value;
+                return;
+            }
+            int residentDistance = (slot - hashes[slot]) & mask;
+            if (residentDistance < distance) {
+                int h = hashes[slot];
+                int v = values[slot];
+                keys[slot] = key;
+                hashes[slot] = hash;
+                values[slot] = value;
+                key = k;
+                hash = h;
+                value = v;
+                distance = residentDistance;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void shiftBack(int slot) {
+        int next = (slot + 1) & mask;
+        while (keys[next] != null && ((next - hashes[next]) & mask) > 0) {
+            keys[slot] = keys[next];
+            hashes[slot] = hashes[next];
+            values[slot] = values[next];
+            slot = next;
+            next = (next + 1) & mask;
+        }
+        keys[slot] = null;
+    }
+
+    private void rehash(int capacity) {
+        Object[] oldKeys = keys;
+        int[] oldHashes = hashes;
+        int[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insert(oldKeys[i], oldHashes[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        hashes = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+}
@@ -1,4 +1,85 @@
 package com.boot.HashMapDSA;
 
+import java.util.Arrays;
+
+/**
+ * Classic hash map interview problems solved with the primitive maps of this
+ * package instead of HashMap<Integer, Integer> / HashMap<String, Integer>, so no
+ * Integer is boxed per lookup.
+ */
 public class Solution {
+
+    /**
+     * Two Sum: indexes of the two numbers that add up to target, or an empty array.
+     */
+    public static int[] twoSum(int[] nums, int target) {
+        IntIntMap seen = new IntIntMap(nums.length, 0.75f, -1);
+        for (int i = 0; i < nums.length; i++) {
+            int index = seen.get(target - nums[i]);
+            if (index != -1) {
+                return new int[]{index, i};
+            }
+            seen.put(nums[i], i);
+        }
+        return new int[0];
+    }
+
+    /**
+     * Number of contiguous subarrays whose sum equals k (prefix sums counted in a LongLongMap,
+     * so large sums cannot overflow).
+     */
+    public static long subarraySum(int[] nums, int k) {
+        LongLongMap prefixCounts = new LongLongMap(nums.length + 1);
+        prefixCounts.put(0L, 1L);
+        long sum = 0;
+        long count = 0;
+        for (int num : nums) {
+            sum += num;
+            count += prefixCounts.get(sum - k);
+            prefixCounts.addTo(sum, 1L);
+        }
+        return count;
+    }
+
+    /**
+     * Most frequent word, or null for no words.
+     */
+    public static String mostFrequentWord(String[] words) {
+        ObjIntMap<String> counts = new ObjIntMap<>(words.length);
+        String best = null;
+        int bestCount = 0;
+        for (String word : words) {
+            int count = counts.addTo(word, 1);
+            if (count > bestCount) {
+                best = word;
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Groups the indexes of equal numbers: number -> positions where it occurs.
+     * One pass counts the occurrences, so every array is allocated at its final size.
+     */
+    public static IntObjMap<int[]> indexesByValue(int[] nums) {
+        IntIntMap counts = new IntIntMap(nums.length);
+        for (int num : nums) {
+            counts.addTo(num, 1);
+        }
+        IntObjMap<int[]> positions = new IntObjMap<>(counts.size());
+        counts.forEach((num, count) -> positions.put(num, new int[count]));
+        // Filled back to front, the remaining count of a number is its next free position
+        for (int i = nums.length - 1; i >= 0; i--) {
+            positions.get(nums[i])[counts.addTo(nums[i], -1)] = i;
+        }
+        return positions;
+    }
+
+    public static void main(String[] args) {
+        System.out.println(Arrays.toString(twoSum(new int[]{2, 7, 11, 15}, 9)));    // [0, 1]
+        System.out.println(subarraySum(new int[]{1, 1, 1}, 2));                     // 2
+        System.out.println(mostFrequentWord("the cat and the hat".split(" ")));     // the
+        System.out.println(Arrays.toString(indexesByValue(new int[]{4, 0, 4, 0, 4}).get(4)));  // [0, 2, 4]
+    }
 }
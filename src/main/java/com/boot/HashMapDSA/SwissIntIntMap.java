@@ -0,0 +1,269 @@
+package com.boot.HashMapDSA;
+
+import com.boot.util.HashUtil;
+
+import java.util.Arrays;
+
+/**
+ * int -> int hash map in the style of Google's SwissTable, an alternative to the
+ * Robin Hood {@link IntIntMap} for lookup-heavy workloads.
+ *
+ * Next to the key and value arrays every slot has a one-byte control word: EMPTY,
+ * DELETED, or the low 7 bits of the key's hash (H2) when the slot is full. Slots
+ * are probed in groups of 16, and the 16 control bytes of a group are tested with
+ * a few SWAR (SIMD within a register) operations on two longs, so one probe step
+ * checks 16 candidate slots and only touches the key array where H2 matched.
+ * This keeps probes short and cache-friendly even at a 7/8 load factor.
+ *
+ * Removal leaves a DELETED marker unless the group still has an EMPTY slot (then
+ * no probe sequence can run through it). Not thread-safe.
+ */
+public class SwissIntIntMap {
+
+    private static final int GROUP_SIZE = 16;
+
+    private static final byte EMPTY = (byte) 0x80;
+    private static final byte DELETED = (byte) 0xFE;
+
+    private static final long LSBS = 0x0101010101010101L;
+    private static final long MSBS = 0x8080808080808080L;
+
+    private final float loadFactor;
+    private final int missingValue;
+
+    // Two longs per group, control byte j of a group at bits 8j..8j+7
+    private long[] control;
+    private int[] keys;
+    private int[] values;
+    private int groupMask;
+    private int size;
+    private int growthLeft;
+
+    public SwissIntIntMap() {
+        this(16, 0.875f, 0);
+    }
+
+    public SwissIntIntMap(int expectedSize) {
+        this(expectedSize, 0.875f, 0);
+    }
+
+    /**
+     * @param expectedSize number of entries the map should hold without resizing
+     * @param loadFactor fill ratio (including DELETED slots) that triggers a resize, between 0 and 1 (exclusive)
+     * @param missingValue value returned by {@link #get(int)} for absent keys
+     */
+    public SwissIntIntMap(int expectedSize, float loadFactor, int missingValue) {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        this.missingValue = missingValue;
+        allocate(Math.max(GROUP_SIZE, HashUtil.tableSize(expectedSize, loadFactor)));
+    }
+
+    /**
+     * @return the value for key, or the missing value given at construction
+     */
+    public int get(int key) {
+        return getOrDefault(key, missingValue);
+    }
+
+    public int getOrDefault(int key, int defaultValue) {
+        int slot = find(key, HashUtil.mix(key));
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    public boolean containsKey(int key) {
+        return find(key, HashUtil.mix(key)) >= 0;
+    }
+
+    /**
+     * @return the previous value for key, or the missing value if there was none
+     */
+    public int put(int key, int value) {
+        int hash = HashUtil.mix(key);
+        int slot = find(key, hash);
+        if (slot >= 0) {
+            int previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        insert(key, hash, value);
+        return missingValue;
+    }
+
+    /**
+     * Adds delta to the value of key (starting from 0 when absent), for counters.
+     *
+     * @return the new value
+     */
+    public int addTo(int key, int delta) {
+        int hash = HashUtil.mix(key);
+        int slot = find(key, hash);
+        if (slot >= 0) {
+            return values[slot] += delta;
+        }
+        insert(key, hash, delta);
+        return delta;
+    }
+
+    /**
+     * @return the removed value, or the missing value if key was absent
+     */
+    public int remove(int key) {
+        int slot = find(key, HashUtil.mix(key));
+        if (slot < 0) {
+            return missingValue;
+        }
+        int group = slot / GROUP_SIZE;
+        if (matchEmpty(control[2 * group]) != 0 || matchEmpty(control[2 * group + 1]) != 0) {
+            // Probes stop at this group anyway, so the slot can become EMPTY again
+            setControl(slot, EMPTY);
+            growthLeft++;
+        } else {
+            setControl(slot, DELETED);
+        }
+        size--;
+        return values[slot];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(control, MSBS); // every byte EMPTY
+        size = 0;
+        growthLeft = maxFill(keys.length);
+    }
+
+    public void forEach(IntIntMap.EntryConsumer consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (control(slot) >= 0) {
+                consumer.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    private int find(int key, int hash) {
+        long pattern = LSBS * (hash & 0x7F);
+        int group = (hash >>> 7) & groupMask;
+        for (int step = 1; ; step++) {
+            for (int half = 0; half < 2; half++) {
+                long word = control[2 * group + half];
+                int base = group * GROUP_SIZE + half * 8;
+                for (long match = matchByte(word, pattern); match != 0; match &= match - 1) {
+                    int slot = base + (Long.numberOfTrailingZeros(match) >>> 3);
+                    if (keys[slot] == key) {
+                        return slot;
+                    }
+                }
+            }
+            if (matchEmpty(control[2 * group]) != 0 || matchEmpty(control[2 * group + 1]) != 0) {
+                return -1;
+            }
+            // Triangular probing visits every group of a power-of-two table
+            group = (group + step) & groupMask;
+        }
+    }
+
+    private void insert(int key, int hash, int value) {
+        if (growthLeft == 0) {
+            // Mostly DELETED markers: clean up in place, otherwise grow
+            rehash(size < maxFill(keys.length) / 2 ? keys.length : keys.length * 2);
+        }
+        int slot = findInsertSlot(hash);
+        if (control(slot) == EMPTY) {
+            growthLeft--;
+        }
+        setControl(slot, (byte) (hash & 0x7F));
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+
+    private int findInsertSlot(int hash) {
+        int group = (hash >>> 7) & groupMask;
+        for (int step = 1; ; step++) {
+            for (int half = 0; half < 2; half++) {
+                long free = matchEmptyOrDeleted(control[2 * group + half]);
+                if (free != 0) {
+                    return group * GROUP_SIZE + half * 8 + (Long.numberOfTrailingZeros(free) >>> 3);
+                }
+            }
+            group = (group + step) & groupMask;
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldControl = control;
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        int oldSize = size;
+        allocate(capacity);
+        size = oldSize;
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (controlByte(oldControl, slot) >= 0) {
+                int hash = HashUtil.mix(oldKeys[slot]);
+                int target = findInsertSlot(hash);
+                setControl(target, (byte) (hash & 0x7F));
+                keys[target] = oldKeys[slot];
+                values[target] = oldValues[slot];
+                growthLeft--;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        control = new long[capacity / 8];
+        Arrays.fill(control, MSBS);
+        keys = new int[capacity];
+        values = new int[capacity];
+        groupMask = capacity / GROUP_SIZE - 1;
+        size = 0;
+        growthLeft = maxFill(capacity);
+    }
+
+    private int maxFill(int capacity) {
+        return Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+
+    private byte control(int slot) {
+        return controlByte(control, slot);
+    }
+
+    private static byte controlByte(long[] control, int slot) {
+        return (byte) (control[slot >>> 3] >>> ((slot & 7) << 3));
+    }
+
+    private void setControl(int slot, byte value) {
+        int shift = (slot & 7) << 3;
+        long word = control[slot >>> 3];
+        control[slot >>> 3] = (word & ~(0xFFL << shift)) | ((value & 0xFFL) << shift);
+    }
+
+    /**
+     * High bit set in every byte of word equal to the byte repeated in pattern. May
+     * report a false positive in a byte above a true match; such a byte equals the
+     * H2 with its low bit flipped, so it is always a full slot and comparing its key
+     * is enough.
+     */
+    private static long matchByte(long word, long pattern) {
+        long x = word ^ pattern;
+        return (x - LSBS) & ~x & MSBS;
+    }
+
+    // EMPTY is 0x80 and DELETED 0xFE: only EMPTY has the top bit set and bit 1 clear
+    private static long matchEmpty(long word) {
+        return word & ~(word << 6) & MSBS;
+    }
+
+    // Full slots have the top bit clear
+    private static long matchEmptyOrDeleted(long word) {
+        return word & MSBS;
+    }
+}
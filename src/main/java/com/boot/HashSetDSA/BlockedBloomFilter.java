@@ -0,0 +1,179 @@
+package com.boot.HashSetDSA;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+
+/**
+ * Cache-line-blocked Bloom filter: the bit array is split into 512-bit blocks
+ * (8 longs, one 64-byte cache line) and all k bits of an item fall into the same
+ * block. A lookup therefore costs at most one or two cache misses instead of up
+ * to k, which is what dominates on filters larger than the CPU caches.
+ *
+ * The price is a somewhat higher false-positive rate for the same number of bits
+ * (items crowd unevenly into blocks), so the filter is sized with extra bits to
+ * keep the configured rate, and k is capped at 16. Hashing, lock-free inserts, union and serialization
+ * work as in {@link BloomFilter}.
+ */
+public class BlockedBloomFilter {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+
+    private static final int WORDS_PER_BLOCK = 8;
+    private static final int BLOCK_BITS = WORDS_PER_BLOCK * Long.SIZE;
+
+    // Extra space that brings the blocked false-positive rate back to the target
+    private static final double BLOCKING_OVERHEAD = 1.2;
+
+    // One odd multiplier per hash function, for the bit positions inside a block
+    private static final long[] SALTS = {
+            0x47b6137b44974d91L, 0x8824ad5ba2b7289dL, 0x705495c72df1424bL, 0x9efc49475c6bfb31L,
+            0xd2f5b1e7a1ffcd27L, 0xe3d9e5f0a35e2f99L, 0x5c6bfb31a2b7289dL, 0x2df1424b9efc4947L,
+            0xa1ffcd278824ad5bL, 0x44974d91705495c7L, 0xb44974d9d2f5b1e7L, 0x6a35e2f9e3d9e5f1L,
+            0x3a2b7289c6bfb315L, 0xf9efc4975c6bfb33L, 0x1d2f5b1e7a1ffcd3L, 0x8e3d9e5f0a35e2fbL
+    };
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] words;
+    private final int blockCount;
+    private final int hashCount;
+
+    private BlockedBloomFilter(long[] words, int hashCount) {
+        this.words = words;
+        this.blockCount = words.length / WORDS_PER_BLOCK;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * @param expectedInsertions number of items the filter is sized for
+     * @param falsePositiveRate target probability that mightContain is true for an absent item
+     */
+    public static BlockedBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long bits = BloomHashing.optimalBits(expectedInsertions, falsePositiveRate);
+        int hashCount = Math.min(SALTS.length, BloomHashing.optimalHashes(expectedInsertions, bits));
+        long blocks = (long) Math.ceil(bits * BLOCKING_OVERHEAD / BLOCK_BITS);
+        if (blocks * WORDS_PER_BLOCK > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Filter too large: " + bits + " bits");
+        }
+        return new BlockedBloomFilter(new long[(int) blocks * WORDS_PER_BLOCK], hashCount);
+    }
+
+    public void put(long item) {
+        putHash(BloomHashing.hash(item));
+    }
+
+    public void put(CharSequence item) {
+        putHash(BloomHashing.hash(item));
+    }
+
+    public boolean mightContain(long item) {
+        return mightContainHash(BloomHashing.hash(item));
+    }
+
+    public boolean mightContain(CharSequence item) {
+        return mightContainHash(BloomHashing.hash(item));
+    }
+
+    /**
+     * Adds every item of the other filter, which must have the same shape.
+     */
+    public void union(BlockedBloomFilter other) {
+        if (other.words.length != words.length || other.hashCount != hashCount) {
+            throw new IllegalArgumentException("Filters have different sizes or hash counts");
+        }
+        for (int i = 0; i < words.length; i++) {
+            long word = other.words[i];
+            if (word != 0) {
+                WORDS.getAndBitwiseOr(words, i, word);
+            }
+        }
+    }
+
+    /**
+     * @return the false-positive rate implied by the bits set so far, (set bits / all bits)^k
+     */
+    public double expectedFalsePositiveRate() {
+        long set = 0;
+        for (long word : words) {
+            set += Long.bitCount(word);
+        }
+        return Math.pow((double) set / ((long) words.length * Long.SIZE), hashCount);
+    }
+
+    public long bitSize() {
+        return (long) words.length * Long.SIZE;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Serializes the filter: a version byte, the hash count, the word count, then the words.
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + words.length * Long.BYTES);
+        buffer.put(FORMAT_VERSION).put((byte) hashCount).putShort((short) 0).putInt(words.length);
+        for (long word : words) {
+            buffer.putLong(word);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Reads a filter written by {@link #toBytes()}.
+     */
+    public static BlockedBloomFilter fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (bytes.length < HEADER_BYTES || buffer.get() != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Not a serialized blocked Bloom filter");
+        }
+        int hashCount = buffer.get() & 0xFF;
+        buffer.getShort();
+        int wordCount = buffer.getInt();
+        if (hashCount == 0 || hashCount > SALTS.length || wordCount <= 0 || wordCount % WORDS_PER_BLOCK != 0
+                || bytes.length != HEADER_BYTES + (long) wordCount * Long.BYTES) {
+            throw new IllegalArgumentException("Corrupt blocked Bloom filter header");
+        }
+        long[] words = new long[wordCount];
+        buffer.asLongBuffer().get(words);
+        return new BlockedBloomFilter(words, hashCount);
+    }
+
+    private void putHash(long hash) {
+        int base = blockStart(hash);
+        long h2 = BloomHashing.second(hash);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = bitInBlock(h2, i);
+            int index = base + (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words[index] & mask) == 0) {
+                WORDS.getAndBitwiseOr(words, index, mask);
+            }
+        }
+    }
+
+    private boolean mightContainHash(long hash) {
+        int base = blockStart(hash);
+        long h2 = BloomHashing.second(hash);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = bitInBlock(h2, i);
+            if ((words[base + (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Multiply-shift with a different odd salt per hash function: the top 9 bits pick the bit in the block
+    private static int bitInBlock(long hash, int i) {
+        return (int) ((hash * SALTS[i]) >>> (Long.SIZE - 9));
+    }
+
+    // Maps the high 32 hash bits onto [0, blockCount) with a multiply instead of a division
+    private int blockStart(long hash) {
+        return (int) (((hash >>> 32) * blockCount) >>> 32) * WORDS_PER_BLOCK;
+    }
+}
@@ -0,0 +1,159 @@
+package com.boot.HashSetDSA;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+
+/**
+ * Bloom filter: a compact "definitely not present / maybe present" test, used in
+ * front of an expensive exact lookup so that most absent keys skip it.
+ *
+ * Sized from the expected number of insertions and the target false-positive
+ * rate (about 9.6 bits per item for 1%). Each item is hashed once to 64 bits and
+ * the k bit positions come from double hashing (h1 + i * h2) over the whole bit
+ * array. Bits live in a long[] and are set with an atomic getAndBitwiseOr
+ * through a VarHandle, so any number of threads can insert without locks; a
+ * lookup racing with an insert of the same item may still answer false.
+ *
+ * Filters of the same shape can be unioned and serialized. {@link BlockedBloomFilter}
+ * is the faster, cache-line-local variant.
+ */
+public class BloomFilter {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long[] words, int hashCount) {
+        this.words = words;
+        this.bitCount = (long) words.length * Long.SIZE;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * @param expectedInsertions number of items the filter is sized for
+     * @param falsePositiveRate target probability that mightContain is true for an absent item
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long bits = BloomHashing.optimalBits(expectedInsertions, falsePositiveRate);
+        long wordCount = (bits + Long.SIZE - 1) / Long.SIZE;
+        if (wordCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Filter too large: " + bits + " bits");
+        }
+        return new BloomFilter(new long[(int) wordCount], BloomHashing.optimalHashes(expectedInsertions, bits));
+    }
+
+    public void put(long item) {
+        putHash(BloomHashing.hash(item));
+    }
+
+    public void put(CharSequence item) {
+        putHash(BloomHashing.hash(item));
+    }
+
+    public boolean mightContain(long item) {
+        return mightContainHash(BloomHashing.hash(item));
+    }
+
+    public boolean mightContain(CharSequence item) {
+        return mightContainHash(BloomHashing.hash(item));
+    }
+
+    /**
+     * Adds every item of the other filter, which must have the same shape.
+     */
+    public void union(BloomFilter other) {
+        if (other.words.length != words.length || other.hashCount != hashCount) {
+            throw new IllegalArgumentException("Filters have different sizes or hash counts");
+        }
+        for (int i = 0; i < words.length; i++) {
+            long word = other.words[i];
+            if (word != 0) {
+                WORDS.getAndBitwiseOr(words, i, word);
+            }
+        }
+    }
+
+    /**
+     * @return the false-positive rate implied by the bits set so far, (set bits / all bits)^k
+     */
+    public double expectedFalsePositiveRate() {
+        long set = 0;
+        for (long word : words) {
+            set += Long.bitCount(word);
+        }
+        return Math.pow((double) set / bitCount, hashCount);
+    }
+
+    public long bitSize() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Serializes the filter: a version byte, the hash count, the word count, then the words.
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + words.length * Long.BYTES);
+        buffer.put(FORMAT_VERSION).put((byte) hashCount).putShort((short) 0).putInt(words.length);
+        for (long word : words) {
+            buffer.putLong(word);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Reads a filter written by {@link #toBytes()}.
+     */
+    public static BloomFilter fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (bytes.length < HEADER_BYTES || buffer.get() != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Not a serialized Bloom filter");
+        }
+        int hashCount = buffer.get() & 0xFF;
+        buffer.getShort();
+        int wordCount = buffer.getInt();
+        if (hashCount == 0 || wordCount <= 0 || bytes.length != HEADER_BYTES + (long) wordCount * Long.BYTES) {
+            throw new IllegalArgumentException("Corrupt Bloom filter header");
+        }
+        long[] words = new long[wordCount];
+        buffer.asLongBuffer().get(words);
+        return new BloomFilter(words, hashCount);
+    }
+
+    private void putHash(long hash) {
+        long h2 = BloomHashing.second(hash);
+        long combined = hash;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (combined & Long.MAX_VALUE) % bitCount;
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            // Skip the atomic when the bit is already set, which is common for a filling filter
+            if ((words[index] & mask) == 0) {
+                WORDS.getAndBitwiseOr(words, index, mask);
+            }
+            combined += h2;
+        }
+    }
+
+    private boolean mightContainHash(long hash) {
+        long h2 = BloomHashing.second(hash);
+        long combined = hash;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (combined & Long.MAX_VALUE) % bitCount;
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+            combined += h2;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,53 @@
+package com.boot.HashSetDSA;
+
+import com.boot.util.HashUtil;
+
+/**
+ * 64-bit hashing shared by {@link BloomFilter} and {@link BlockedBloomFilter}.
+ * The filters derive all their bit positions from two 64-bit hashes of an item
+ * (double hashing: h1 + i * h2), so an item is only hashed once.
+ */
+final class BloomHashing {
+
+    private BloomHashing() {
+    }
+
+    static long hash(long item) {
+        return HashUtil.fmix64(item);
+    }
+
+    /**
+     * Hashes the chars directly, so no String or byte[] is created.
+     */
+    static long hash(CharSequence item) {
+        return HashUtil.hash(item, 0, item.length());
+    }
+
+    /**
+     * Second, independent-looking hash derived from the first; always odd so that
+     * h1 + i * h2 never repeats a position early.
+     */
+    static long second(long hash) {
+        return HashUtil.fmix64(hash + 0x9E3779B97F4A7C15L) | 1;
+    }
+
+    /**
+     * Standard Bloom filter sizing: bits m = -n ln(p) / ln(2)^2.
+     */
+    static long optimalBits(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive: " + expectedInsertions);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        return (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    }
+
+    /**
+     * Number of hash functions k = (m / n) ln(2), at least 1.
+     */
+    static int optimalHashes(long expectedInsertions, long bits) {
+        return Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+    }
+}
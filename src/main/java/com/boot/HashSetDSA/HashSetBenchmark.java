@@ -0,0 +1,115 @@
+package com.boot.HashSetDSA;
+
+import com.boot.util.Benchmarks;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Timing and memory comparison of {@link IntHashSet} and {@link LongHashSet}
+ * against HashSet<Integer>. The heap of HashSet<Integer> is measured as the growth
+ * of the used heap after a GC (run with a fixed heap, e.g. -Xms2g -Xmx2g, for
+ * stable numbers); the primitive sets report their exact table size. The maximum
+ * size can be given as the first argument.
+ */
+public class HashSetBenchmark {
+
+    // Keeps the measured structure reachable across the second GC
+    private static Object retained;
+
+    public static void main(String[] args) {
+        int maxSize = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        for (int size = 1_000; size <= maxSize; size *= 10) {
+            int[] values = randomValues(size, new Random(size));
+            System.out.println("Elements: " + String.format("%,d", size));
+
+            Set<Integer> hashSet = new HashSet<>();
+            Benchmarks.time("HashSet<Integer> add", size, () -> {
+                hashSet.clear();
+                for (int value : values) {
+                    hashSet.add(value);
+                }
+            });
+            Benchmarks.time("HashSet<Integer> contains", size, () -> {
+                long hits = 0;
+                for (int value : values) {
+                    hits += hashSet.contains(value + 1) ? 1 : 0;
+                }
+                Benchmarks.consume(hits);
+            });
+
+            IntHashSet intSet = new IntHashSet();
+            Benchmarks.time("IntHashSet add", size, () -> {
+                intSet.clear();
+                intSet.addAll(values);
+            });
+            Benchmarks.time("IntHashSet contains", size, () -> {
+                long hits = 0;
+                for (int value : values) {
+                    hits += intSet.contains(value + 1) ? 1 : 0;
+                }
+                Benchmarks.consume(hits);
+            });
+
+            LongHashSet longSet = new LongHashSet();
+            Benchmarks.time("LongHashSet add", size, () -> {
+                longSet.clear();
+                for (int value : values) {
+                    longSet.add(value);
+                }
+            });
+            Benchmarks.time("LongHashSet contains", size, () -> {
+                long hits = 0;
+                for (int value : values) {
+                    hits += longSet.contains(value + 1) ? 1 : 0;
+                }
+                Benchmarks.consume(hits);
+            });
+
+            System.out.println(String.format("  %-36s %8.1f bytes/element", "HashSet<Integer> heap",
+                    heapPerElement(size, () -> {
+                        Set<Integer> set = new HashSet<>();
+                        for (int value : values) {
+                            set.add(value);
+                        }
+                        return set;
+                    })));
+            printBytes("IntHashSet table", intSet.tableBytes(), size);
+            printBytes("LongHashSet table", longSet.tableBytes(), size);
+        }
+    }
+
+    private static void printBytes(String name, long bytes, int size) {
+        System.out.println(String.format("  %-36s %8.1f bytes/element", name, (double) bytes / size));
+    }
+
+    private interface Builder {
+        Object build();
+    }
+
+    // Heap retained by the built structure, divided by its element count
+    private static double heapPerElement(int size, Builder builder) {
+        long before = usedHeapAfterGc();
+        retained = builder.build();
+        long after = usedHeapAfterGc();
+        retained = null;
+        return (double) (after - before) / size;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static int[] randomValues(int size, Random random) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,322 @@
+package com.boot.HashSetDSA;
+
+import com.boot.util.HashUtil;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Set of ints without boxing, a replacement for HashSet<Integer>.
+ *
+ * HashSet<Integer> costs roughly 48 bytes per element (an Integer, a HashMap.Node
+ * and a table slot). Here the elements live in one flat int[] with Robin Hood
+ * open addressing, where 0 marks a free slot and the element 0 itself is kept in
+ * a flag. The table is not rounded up to a power of two and grows by 1.5x, so
+ * at the default load factor of 0.8 it is always between 53% and 80% full:
+ * 5.0 to 7.5 bytes per element (measured with tableBytes() while adding 1k to
+ * 10M random elements).
+ *
+ * The dense table makes misses probe further: a load factor around 0.5 roughly
+ * halves the lookup time of large sets in HashSetBenchmark, for about 1.6x the
+ * memory.
+ *
+ * For a cheap {@link #clear()} there is one generation byte per block of 64
+ * slots: a block whose byte differs from the set's current generation counts as
+ * empty and is wiped the first time something is inserted into it again, so
+ * clearing just bumps the generation (the bytes are only reset after 255
+ * clears). Removal shifts the following elements back (no tombstones).
+ * Not thread-safe.
+ */
+public class IntHashSet {
+
+    private static final int FREE = 0;
+    private static final int BLOCK_SHIFT = 6;
+
+    private final float loadFactor;
+
+    private int[] keys;
+    private byte[] blockGenerations;
+    private byte generation;
+    private boolean hasFree;
+    private int size;           // elements in the table, without FREE
+    private int resizeAt;
+
+    public IntHashSet() {
+        this(16, 0.8f);
+    }
+
+    public IntHashSet(int expectedSize) {
+        this(expectedSize, 0.8f);
+    }
+
+    /**
+     * @param expectedSize number of elements the set should hold without resizing
+     * @param loadFactor fill ratio that triggers a resize, between 0 and 1 (exclusive)
+     */
+    public IntHashSet(int expectedSize, float loadFactor) {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(HashUtil.compactTableSize(expectedSize, loadFactor));
+    }
+
+    /**
+     * @return true if value was not in the set yet
+     */
+    public boolean add(int value) {
+        if (value == FREE) {
+            boolean added = !hasFree;
+            hasFree = true;
+            return added;
+        }
+        if (find(value) >= 0) {
+            return false;
+        }
+        insert(value);
+        return true;
+    }
+
+    /**
+     * Adds every value of the array, growing the table once up front.
+     *
+     * @return true if the set changed
+     */
+    public boolean addAll(int[] values) {
+        return addAll(values, 0, values.length);
+    }
+
+    public boolean addAll(int[] values, int from, int to) {
+        ensureCapacity(size + (to - from));
+        boolean changed = false;
+        for (int i = from; i < to; i++) {
+            changed |= add(values[i]);
+        }
+        return changed;
+    }
+
+    public boolean contains(int value) {
+        return value == FREE ? hasFree : find(value) >= 0;
+    }
+
+    /**
+     * @return true if every value of the array is in the set
+     */
+    public boolean containsAll(int[] values) {
+        for (int value : values) {
+            if (!contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if value was in the set
+     */
+    public boolean remove(int value) {
+        if (value == FREE) {
+            boolean removed = hasFree;
+            hasFree = false;
+            return removed;
+        }
+        int slot = find(value);
+        if (slot < 0) {
+            return false;
+        }
+        shiftBack(slot);
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes every element that is not in other.
+     *
+     * @return true if the set changed
+     */
+    public boolean retainAll(IntHashSet other) {
+        int before = size();
+        hasFree &= other.contains(FREE);
+        for (int slot = 0; slot < keys.length; slot++) {
+            // Removing shifts the next element into this slot, so check it again
+            while (occupied(slot) && !other.contains(keys[slot])) {
+                shiftBack(slot);
+                size--;
+            }
+        }
+        return size() != before;
+    }
+
+    /**
+     * Removes every element that is not in the array.
+     *
+     * @return true if the set changed
+     */
+    public boolean retainAll(int[] values) {
+        IntHashSet other = new IntHashSet(values.length, loadFactor);
+        other.addAll(values);
+        return retainAll(other);
+    }
+
+    /**
+     * @return the elements in ascending order
+     */
+    public int[] toArray() {
+        int[] result = new int[size()];
+        int n = 0;
+        if (hasFree) {
+            result[n++] = FREE;
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (occupied(slot)) {
+                result[n++] = keys[slot];
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    public void forEach(IntConsumer consumer) {
+        if (hasFree) {
+            consumer.accept(FREE);
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (occupied(slot)) {
+                consumer.accept(keys[slot]);
+            }
+        }
+    }
+
+    public int size() {
+        return hasFree ? size + 1 : size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Empties the set in O(1) by starting a new generation; the capacity is kept.
+     */
+    public void clear() {
+        if (++generation == 0) {
+            // Wrapped around: stale bytes could now look current, reset them
+            Arrays.fill(blockGenerations, (byte) 0);
+            generation = 1;
+        }
+        size = 0;
+        hasFree = false;
+    }
+
+    /**
+     * @return bytes used by the table arrays (excluding the object headers)
+     */
+    public long tableBytes() {
+        return (long) keys.length * Integer.BYTES + blockGenerations.length;
+    }
+
+    private void ensureCapacity(int expectedSize) {
+        if (expectedSize > resizeAt) {
+            rehash(HashUtil.compactTableSize(expectedSize, loadFactor));
+        }
+    }
+
+    private boolean occupied(int slot) {
+        return blockGenerations[slot >>> BLOCK_SHIFT] == generation && keys[slot] != FREE;
+    }
+
+    private int find(int value) {
+        int slot = home(value);
+        for (int distance = 0; ; distance++) {
+            if (!occupied(slot)) {
+                return -1;
+            }
+            int k = keys[slot];
+            if (k == value) {
+                return slot;
+            }
+            // An element closer to its home than we are to ours ends the search
+            if (probeDistance(k, slot) < distance) {
+                return -1;
+            }
+            slot = next(slot);
+        }
+    }
+
+    private void insert(int value) {
+        if (size >= resizeAt) {
+            rehash(HashUtil.compactTableSize(size + (size >>> 1), loadFactor));
+        }
+        size++;
+        int slot = home(value);
+        for (int distance = 0; ; distance++) {
+            if (!occupied(slot)) {
+                claimBlock(slot);
+                keys[slot] = value;
+                return;
+            }
+            int k = keys[slot];
+            int residentDistance = probeDistance(k, slot);
+            if (residentDistance < distance) {
+                // Robin Hood: take the slot from the richer element and carry it forward
+                keys[slot] = value;
+                value = k;
+                distance = residentDistance;
+            }
+            slot = next(slot);
+        }
+    }
+
+    // A block left over from an older generation still holds stale keys, wipe it before reuse
+    private void claimBlock(int slot) {
+        int block = slot >>> BLOCK_SHIFT;
+        if (blockGenerations[block] != generation) {
+            int from = block << BLOCK_SHIFT;
+            Arrays.fill(keys, from, Math.min(keys.length, from + (1 << BLOCK_SHIFT)), FREE);
+            blockGenerations[block] = generation;
+        }
+    }
+
+    private void shiftBack(int slot) {
+        int next = next(slot);
+        while (occupied(next) && probeDistance(keys[next], next) > 0) {
+            keys[slot] = keys[next];
+            slot = next;
+            next = next(next);
+        }
+        keys[slot] = FREE;
+    }
+
+    private int home(int value) {
+        return HashUtil.slot(HashUtil.mix(value), keys.length);
+    }
+
+    private int next(int slot) {
+        return slot + 1 == keys.length ? 0 : slot + 1;
+    }
+
+    private int probeDistance(int value, int slot) {
+        int distance = slot - home(value);
+        return distance < 0 ? distance + keys.length : distance;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        byte[] oldGenerations = blockGenerations;
+        byte oldGeneration = generation;
+        allocate(capacity);
+        size = 0;
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldGenerations[slot >>> BLOCK_SHIFT] == oldGeneration && oldKeys[slot] != FREE) {
+                insert(oldKeys[slot]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        blockGenerations = new byte[(capacity + (1 << BLOCK_SHIFT) - 1) >>> BLOCK_SHIFT];
+        generation = 1;
+        resizeAt = Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+}
@@ -1,4 +1,224 @@
 package com.boot.HashSetDSA;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Pangram checker: does the text contain every letter a-z at least once?
+ * Example: "The quick brown fox jumps over the lazy dog" -> true
+ *
+ * Instead of adding Character.toLowerCase(c) to a HashSet<Character> (one boxing
+ * per char) every letter sets one bit of a 26-bit int mask, and the scan stops as
+ * soon as the mask is full. Case is folded with (c | 0x20), so no lowercased copy
+ * of the input is made. Works on CharSequence, CharBuffer and (UTF-8/ASCII) bytes;
+ * non-ASCII characters are ignored.
+ *
+ * classifyLines checks every line of a memory-mapped file, in parallel chunks.
+ */
 public class PanagramTest {
+
+    private static final int ALL_LETTERS = (1 << 26) - 1;
+    private static final int CHUNK_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * Result of {@link #classifyLines(Path)}: which lines (0-based) are pangrams.
+     */
+    public static final class LineClassification {
+        private final BitSet pangramLines;
+        private final int lineCount;
+
+        LineClassification(BitSet pangramLines, int lineCount) {
+            this.pangramLines = pangramLines;
+            this.lineCount = lineCount;
+        }
+
+        public boolean isPangram(int line) {
+            return pangramLines.get(line);
+        }
+
+        public BitSet getPangramLines() {
+            return (BitSet) pangramLines.clone();
+        }
+
+        public int getPangramCount() {
+            return pangramLines.cardinality();
+        }
+
+        public int getLineCount() {
+            return lineCount;
+        }
+    }
+
+    public static boolean isPangram(CharSequence text) {
+        int mask = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            int letter = (text.charAt(i) | 0x20) - 'a';
+            if (letter >= 0 && letter < 26) {
+                mask |= 1 << letter;
+                if (mask == ALL_LETTERS) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks the remaining chars of the buffer without moving its position.
+     */
+    public static boolean isPangram(CharBuffer text) {
+        int mask = 0;
+        for (int i = text.position(), n = text.limit(); i < n; i++) {
+            int letter = (text.get(i) | 0x20) - 'a';
+            if (letter >= 0 && letter < 26) {
+                mask |= 1 << letter;
+                if (mask == ALL_LETTERS) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks the ASCII or UTF-8 bytes bytes[from, to).
+     */
+    public static boolean isPangram(byte[] bytes, int from, int to) {
+        int mask = 0;
+        for (int i = from; i < to; i++) {
+            // Bytes of multi-byte UTF-8 sequences are negative and never match
+            int letter = (bytes[i] | 0x20) - 'a';
+            if (letter >= 0 && letter < 26) {
+                mask |= 1 << letter;
+                if (mask == ALL_LETTERS) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Classifies every line of an ASCII or UTF-8 file. The file is memory-mapped in
+     * chunks that end on a line break and the chunks are processed in parallel.
+     *
+     * @param file the file to check, one text per line
+     * @return which lines are pangrams
+     * @throws IOException If reading the file fails
+     */
+    public static LineClassification classifyLines(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int parts = (int) Math.max(Runtime.getRuntime().availableProcessors(), (size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+            long[] bounds = chunkBounds(channel, size, parts);
+
+            // Each chunk classifies its own lines; line numbers are shifted when merging
+            List<LineClassification> chunks = IntStream.range(0, parts).parallel().mapToObj(k -> {
+                if (bounds[k + 1] <= bounds[k]) {
+                    return new LineClassification(new BitSet(), 0);
+                }
+                try {
+                    return classifyChunk(channel.map(FileChannel.MapMode.READ_ONLY, bounds[k], bounds[k + 1] - bounds[k]));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).toList();
+
+            BitSet all = new BitSet();
+            int lineOffset = 0;
+            for (LineClassification chunk : chunks) {
+                BitSet lines = chunk.pangramLines;
+                for (int line = lines.nextSetBit(0); line >= 0; line = lines.nextSetBit(line + 1)) {
+                    all.set(lineOffset + line);
+                }
+                lineOffset += chunk.lineCount;
+            }
+            return new LineClassification(all, lineOffset);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static LineClassification classifyChunk(ByteBuffer bytes) {
+        BitSet pangrams = new BitSet();
+        int line = 0;
+        int n = bytes.limit();
+        int i = 0;
+        while (i < n) {
+            int mask = 0;
+            while (i < n) {
+                byte b = bytes.get(i++);
+                if (b == '\n') {
+                    break;
+                }
+                int letter = (b | 0x20) - 'a';
+                if (letter >= 0 && letter < 26) {
+                    mask |= 1 << letter;
+                    if (mask == ALL_LETTERS) {
+                        // Early exit: skip the rest of the line
+                        while (i < n && bytes.get(i++) != '\n') {
+                            // nothing to check
+                        }
+                        break;
+                    }
+                }
+            }
+            if (mask == ALL_LETTERS) {
+                pangrams.set(line);
+            }
+            line++;
+        }
+        return new LineClassification(pangrams, line);
+    }
+
+    // Splits [0, size) into parts whose boundaries are moved just past the next '\n'
+    private static long[] chunkBounds(FileChannel channel, long size, int parts) throws IOException {
+        long[] bounds = new long[parts + 1];
+        bounds[parts] = size;
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        for (int k = 1; k < parts; k++) {
+            long b = Math.max(bounds[k - 1], size * k / parts);
+            search:
+            while (b < size) {
+                probe.clear();
+                int read = channel.read(probe, b);
+                if (read <= 0) {
+                    break;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (probe.get(i) == '\n') {
+                        b += i + 1;
+                        break search;
+                    }
+                }
+                b += read;
+            }
+            bounds[k] = Math.min(b, size);
+        }
+        return bounds;
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.out.println(isPangram("The quick brown fox jumps over the lazy dog"));   // true
+        System.out.println(isPangram("Hello world"));                                   // false
+        System.out.println(isPangram(CharBuffer.wrap("Pack my box with five dozen liquor jugs")));  // true
+        byte[] bytes = "Sphinx of black quartz, judge my vow".getBytes();
+        System.out.println(isPangram(bytes, 0, bytes.length));                          // true
+
+        // Usage on a large file: java com.boot.HashSetDSA.PanagramTest lines.txt
+        if (args.length > 0) {
+            long start = System.nanoTime();
+            LineClassification result = classifyLines(Path.of(args[0]));
+            System.out.println(result.getPangramCount() + " of " + result.getLineCount() + " lines are pangrams, took "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+    }
 }
@@ -0,0 +1,983 @@
+package com.boot.HashSetDSA;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed bitmap set of ints in the style of Roaring bitmaps, for large sets
+ * of row ids that are too sparse for a BitSet and too big for HashSet<Integer>.
+ *
+ * Values are split by their high 16 bits into chunks of 65536; each chunk is kept
+ * in whichever container is smallest for its contents:
+ *  - array container: sorted char[] of the low 16 bits, up to 4096 values
+ *  - bitmap container: 1024 longs (8 KB), for denser chunks
+ *  - run container: (start, length) pairs, for long consecutive ranges; created
+ *    by {@link #addRange(long, long)} and {@link #runOptimize()}
+ *
+ * and, or, andNot and xor work chunk by chunk: sorted-array merges for sparse
+ * chunks, a sweep over run boundaries when a run container meets a run or array
+ * container (the result stays in run form when that is smallest) and word-wise
+ * bit operations for dense ones, so their cost follows the compressed size, not
+ * the value range. Values are ordered as unsigned ints
+ * (negative values come after Integer.MAX_VALUE). Not thread-safe.
+ */
+public class RoaringBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    // Sorted high 16 bits of the chunks and their containers
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    public RoaringBitmap() {
+    }
+
+    public static RoaringBitmap bitmapOf(int... values) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * @return true if value was not in the set yet
+     */
+    public boolean add(int value) {
+        char key = (char) (value >>> 16);
+        int index = indexOf(key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new ArrayContainer());
+        }
+        Container container = containers[index];
+        int before = container.cardinality();
+        containers[index] = container.add((char) value);
+        return containers[index].cardinality() != before;
+    }
+
+    /**
+     * Adds every value in [from, to), as unsigned ints (to is at most 2^32).
+     */
+    public void addRange(long from, long to) {
+        if (from < 0 || to > 1L << 32 || from > to) {
+            throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ")");
+        }
+        for (long start = from; start < to; ) {
+            long chunkEnd = Math.min(to, (start | 0xFFFF) + 1);
+            char key = (char) (start >>> 16);
+            RunContainer range = new RunContainer((char) start, (int) (chunkEnd - start));
+            int index = indexOf(key);
+            if (index < 0) {
+                insertContainer(-index - 1, key, range);
+            } else {
+                containers[index] = or(containers[index], range);
+            }
+            start = chunkEnd;
+        }
+    }
+
+    public boolean contains(int value) {
+        int index = indexOf((char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    /**
+     * @return true if value was in the set
+     */
+    public boolean remove(int value) {
+        int index = indexOf((char) (value >>> 16));
+        if (index < 0) {
+            return false;
+        }
+        Container container = containers[index];
+        int before = container.cardinality();
+        container = container.remove((char) value);
+        if (container.cardinality() == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = container;
+        }
+        return container.cardinality() != before;
+    }
+
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Converts every container to run form where that is smaller (and back).
+     */
+    public void runOptimize() {
+        for (int i = 0; i < size; i++) {
+            containers[i] = containers[i].optimize();
+        }
+    }
+
+    /**
+     * @return approximate bytes used by the containers
+     */
+    public long sizeInBytes() {
+        long bytes = (long) keys.length * Character.BYTES;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * @return iterator over the values in ascending unsigned order
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index = -1;
+            private int high;
+            private PrimitiveIterator.OfInt current = advance();
+
+            private PrimitiveIterator.OfInt advance() {
+                while (++index < size) {
+                    PrimitiveIterator.OfInt next = containers[index].iterator();
+                    if (next.hasNext()) {
+                        high = keys[index] << 16;
+                        return next;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                int value = high | current.nextInt();
+                if (!current.hasNext()) {
+                    current = advance();
+                }
+                return value;
+            }
+        };
+    }
+
+    public void forEach(IntConsumer consumer) {
+        for (PrimitiveIterator.OfInt it = iterator(); it.hasNext(); ) {
+            consumer.accept(it.nextInt());
+        }
+    }
+
+    /**
+     * @return the values in ascending unsigned order
+     */
+    public int[] toArray() {
+        long cardinality = cardinality();
+        if (cardinality > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Too many values for an array: " + cardinality);
+        }
+        int[] values = new int[(int) cardinality];
+        int n = 0;
+        for (PrimitiveIterator.OfInt it = iterator(); it.hasNext(); ) {
+            values[n++] = it.nextInt();
+        }
+        return values;
+    }
+
+    public static RoaringBitmap and(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        for (int i = 0, j = 0; i < a.size && j < b.size; ) {
+            int cmp = Character.compare(a.keys[i], b.keys[j]);
+            if (cmp < 0) {
+                i++;
+            } else if (cmp > 0) {
+                j++;
+            } else {
+                result.append(a.keys[i], and(a.containers[i++], b.containers[j++]));
+            }
+        }
+        return result;
+    }
+
+    public static RoaringBitmap or(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size || j < b.size) {
+            int cmp = i == a.size ? 1 : j == b.size ? -1 : Character.compare(a.keys[i], b.keys[j]);
+            if (cmp < 0) {
+                result.append(a.keys[i], a.containers[i++].copy());
+            } else if (cmp > 0) {
+                result.append(b.keys[j], b.containers[j++].copy());
+            } else {
+                result.append(a.keys[i], or(a.containers[i++], b.containers[j++]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the values of a that are not in b
+     */
+    public static RoaringBitmap andNot(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int j = 0;
+        for (int i = 0; i < a.size; i++) {
+            while (j < b.size && b.keys[j] < a.keys[i]) {
+                j++;
+            }
+            if (j < b.size && b.keys[j] == a.keys[i]) {
+                result.append(a.keys[i], andNot(a.containers[i], b.containers[j]));
+            } else {
+                result.append(a.keys[i], a.containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    public static RoaringBitmap xor(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size || j < b.size) {
+            int cmp = i == a.size ? 1 : j == b.size ? -1 : Character.compare(a.keys[i], b.keys[j]);
+            if (cmp < 0) {
+                result.append(a.keys[i], a.containers[i++].copy());
+            } else if (cmp > 0) {
+                result.append(b.keys[j], b.containers[j++].copy());
+            } else {
+                result.append(a.keys[i], xor(a.containers[i++], b.containers[j++]));
+            }
+        }
+        return result;
+    }
+
+    private int indexOf(char key) {
+        // Appending in ascending order is the common case
+        if (size > 0 && keys[size - 1] == key) {
+            return size - 1;
+        }
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    // Keys arrive in ascending order from the set operations; empty results are dropped
+    private void append(char key, Container container) {
+        if (container != null && container.cardinality() > 0) {
+            insertContainer(size, key, container);
+        }
+    }
+
+    private static final int AND = 0;
+    private static final int OR = 1;
+    private static final int AND_NOT = 2;
+    private static final int XOR = 3;
+
+    private static Container and(Container a, Container b) {
+        if (a instanceof ArrayContainer || b instanceof ArrayContainer) {
+            ArrayContainer array = (ArrayContainer) (a instanceof ArrayContainer ? a : b);
+            Container other = array == a ? b : a;
+            return array.filter(other, true);
+        }
+        if (a instanceof RunContainer && b instanceof RunContainer) {
+            return runOperation(a, b, AND);
+        }
+        long[] words = a.toWords();
+        long[] otherWords = b.toWords();
+        for (int w = 0; w < BITMAP_WORDS; w++) {
+            words[w] &= otherWords[w];
+        }
+        return fromWords(words, a, b);
+    }
+
+    private static Container or(Container a, Container b) {
+        if (a instanceof ArrayContainer && b instanceof ArrayContainer
+                && a.cardinality() + b.cardinality() <= ARRAY_MAX) {
+            return ((ArrayContainer) a).union((ArrayContainer) b);
+        }
+        if (hasRuns(a, b)) {
+            return runOperation(a, b, OR);
+        }
+        long[] words = a.toWords();
+        b.orInto(words);
+        return fromWords(words, a, b);
+    }
+
+    private static Container andNot(Container a, Container b) {
+        if (a instanceof ArrayContainer) {
+            return ((ArrayContainer) a).filter(b, false);
+        }
+        if (hasRuns(a, b)) {
+            return runOperation(a, b, AND_NOT);
+        }
+        long[] words = a.toWords();
+        long[] otherWords = b.toWords();
+        for (int w = 0; w < BITMAP_WORDS; w++) {
+            words[w] &= ~otherWords[w];
+        }
+        return fromWords(words, a, b);
+    }
+
+    private static Container xor(Container a, Container b) {
+        if (a instanceof ArrayContainer && b instanceof ArrayContainer) {
+            return ((ArrayContainer) a).symmetricDifference((ArrayContainer) b);
+        }
+        if (hasRuns(a, b)) {
+            return runOperation(a, b, XOR);
+        }
+        long[] words = a.toWords();
+        long[] otherWords = b.toWords();
+        for (int w = 0; w < BITMAP_WORDS; w++) {
+            words[w] ^= otherWords[w];
+        }
+        return fromWords(words, a, b);
+    }
+
+    // A run container paired with a run or array container: both fit interval form
+    private static boolean hasRuns(Container a, Container b) {
+        return (a instanceof RunContainer || b instanceof RunContainer)
+                && !(a instanceof BitmapContainer) && !(b instanceof BitmapContainer);
+    }
+
+    // Result of a word-wise operation; results involving a run container go back to run form if that is smaller
+    private static Container fromWords(long[] words, Container a, Container b) {
+        Container result = fromWords(words);
+        return a instanceof RunContainer || b instanceof RunContainer ? result.optimize() : result;
+    }
+
+    /*
+     * Sweeps the run boundaries of both containers in order, tracking whether the
+     * current position is inside a and inside b, and emits a boundary whenever the
+     * operation's result flips: O(runs of a + runs of b), whatever the cardinality.
+     */
+    private static Container runOperation(Container a, Container b, int operation) {
+        int[] x = a.runBoundaries();
+        int[] y = b.runBoundaries();
+        int[] boundaries = new int[x.length + y.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        boolean inA = false;
+        boolean inB = false;
+        boolean in = false;
+        while (i < x.length || j < y.length) {
+            int position = Math.min(i < x.length ? x[i] : Integer.MAX_VALUE, j < y.length ? y[j] : Integer.MAX_VALUE);
+            while (i < x.length && x[i] == position) {
+                inA = !inA;
+                i++;
+            }
+            while (j < y.length && y[j] == position) {
+                inB = !inB;
+                j++;
+            }
+            boolean result = operation == AND ? inA && inB
+                    : operation == OR ? inA || inB
+                    : operation == AND_NOT ? inA && !inB
+                    : inA != inB;
+            if (result != in) {
+                boundaries[n++] = position;
+                in = result;
+            }
+        }
+        return RunContainer.fromBoundaries(boundaries, n).optimize();
+    }
+
+    // Picks the array or bitmap form for a chunk given as 1024 words
+    private static Container fromWords(long[] words) {
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        if (cardinality > ARRAY_MAX) {
+            return new BitmapContainer(words, cardinality);
+        }
+        char[] values = new char[cardinality];
+        int n = 0;
+        for (int w = 0; w < BITMAP_WORDS; w++) {
+            for (long word = words[w]; word != 0; word &= word - 1) {
+                values[n++] = (char) (w * Long.SIZE + Long.numberOfTrailingZeros(word));
+            }
+        }
+        return new ArrayContainer(values, cardinality);
+    }
+
+    /**
+     * The values of one 65536-value chunk (low 16 bits only). Mutations return the
+     * container to keep using, which may be a converted one.
+     */
+    private abstract static class Container {
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract PrimitiveIterator.OfInt iterator();
+
+        // Sets the bits of this container's values in words
+        abstract void orInto(long[] words);
+
+        abstract int runCount();
+
+        abstract long sizeInBytes();
+
+        abstract Container copy();
+
+        // Starts and (exclusive) ends of the runs, alternating
+        abstract int[] runBoundaries();
+
+        long[] toWords() {
+            long[] words = new long[BITMAP_WORDS];
+            orInto(words);
+            return words;
+        }
+
+        // Run form if it is the smallest, otherwise array or bitmap form
+        Container optimize() {
+            int runs = runCount();
+            int cardinality = cardinality();
+            long runBytes = 2 + 4L * runs;
+            long otherBytes = cardinality <= ARRAY_MAX ? 2L * cardinality : BITMAP_WORDS * 8L;
+            if (runBytes < otherBytes) {
+                return this instanceof RunContainer ? this : RunContainer.fromWords(toWords(), runs);
+            }
+            return this instanceof RunContainer ? fromWords(toWords()) : this;
+        }
+    }
+
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                // Too dense for an array, switch to a bitmap
+                return new BitmapContainer(toWords(), cardinality).add(value);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.max(4, Math.min(ARRAY_MAX, cardinality * 2)));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        PrimitiveIterator.OfInt iterator() {
+            return new PrimitiveIterator.OfInt() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < cardinality;
+                }
+
+                @Override
+                public int nextInt() {
+                    return values[index++];
+                }
+            };
+        }
+
+        @Override
+        void orInto(long[] words) {
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+        }
+
+        @Override
+        int runCount() {
+            int runs = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (i == 0 || values[i] != values[i - 1] + 1) {
+                    runs++;
+                }
+            }
+            return runs;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 16 + 2L * values.length;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(4, cardinality)), cardinality);
+        }
+
+        // Values that are (keep = true) or are not (keep = false) in other
+        Container filter(Container other, boolean keep) {
+            char[] result = new char[cardinality];
+            int n = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i]) == keep) {
+                    result[n++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, n);
+        }
+
+        @Override
+        int[] runBoundaries() {
+            int[] boundaries = new int[2 * runCount()];
+            int n = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (i == 0 || values[i] != values[i - 1] + 1) {
+                    if (i > 0) {
+                        boundaries[n++] = values[i - 1] + 1;
+                    }
+                    boundaries[n++] = values[i];
+                }
+            }
+            if (cardinality > 0) {
+                boundaries[n] = values[cardinality - 1] + 1;
+            }
+            return boundaries;
+        }
+
+        // Sorted merge keeping the values in exactly one of the arrays
+        Container symmetricDifference(ArrayContainer other) {
+            char[] result = new char[cardinality + other.cardinality];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < cardinality && j < other.cardinality) {
+                char a = values[i];
+                char b = other.values[j];
+                if (a < b) {
+                    result[n++] = a;
+                    i++;
+                } else if (a > b) {
+                    result[n++] = b;
+                    j++;
+                } else {
+                    i++;
+                    j++;
+                }
+            }
+            while (i < cardinality) {
+                result[n++] = values[i++];
+            }
+            while (j < other.cardinality) {
+                result[n++] = other.values[j++];
+            }
+            ArrayContainer difference = new ArrayContainer(result, n);
+            return n > ARRAY_MAX ? new BitmapContainer(difference.toWords(), n) : difference;
+        }
+
+        // Sorted merge; the caller checks that the result fits an array
+        Container union(ArrayContainer other) {
+            char[] result = new char[cardinality + other.cardinality];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < cardinality && j < other.cardinality) {
+                char a = values[i];
+                char b = other.values[j];
+                if (a <= b) {
+                    result[n++] = a;
+                    i++;
+                    if (a == b) {
+                        j++;
+                    }
+                } else {
+                    result[n++] = b;
+                    j++;
+                }
+            }
+            while (i < cardinality) {
+                result[n++] = values[i++];
+            }
+            while (j < other.cardinality) {
+                result[n++] = other.values[j++];
+            }
+            return new ArrayContainer(result, n);
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] = before | 1L << value;
+            if (before != words[value >>> 6]) {
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] = before & ~(1L << value);
+            if (before != words[value >>> 6] && --cardinality <= ARRAY_MAX) {
+                // Sparse again, switch back to an array
+                return fromWords(words);
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        PrimitiveIterator.OfInt iterator() {
+            return new PrimitiveIterator.OfInt() {
+                private int w = -1;
+                private long word = nextWord();
+
+                private long nextWord() {
+                    while (++w < BITMAP_WORDS) {
+                        if (words[w] != 0) {
+                            return words[w];
+                        }
+                    }
+                    return 0;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return word != 0;
+                }
+
+                @Override
+                public int nextInt() {
+                    int value = w * Long.SIZE + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    if (word == 0) {
+                        word = nextWord();
+                    }
+                    return value;
+                }
+            };
+        }
+
+        @Override
+        void orInto(long[] target) {
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                target[w] |= words[w];
+            }
+        }
+
+        @Override
+        long[] toWords() {
+            return words.clone();
+        }
+
+        @Override
+        int runCount() {
+            int runs = 0;
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long word = words[w];
+                // A run starts at every set bit whose lower neighbour (crossing words) is clear
+                long previous = (word << 1) | (w > 0 ? words[w - 1] >>> 63 : 0);
+                runs += Long.bitCount(word & ~previous);
+            }
+            return runs;
+        }
+
+        @Override
+        int[] runBoundaries() {
+            int[] boundaries = new int[2 * runCount()];
+            int n = 0;
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long word = words[w];
+                // Set bits whose lower neighbour is clear start a run, set bits whose upper neighbour is clear end one
+                long starts = word & ~((word << 1) | (w > 0 ? words[w - 1] >>> 63 : 0));
+                long ends = word & ~((word >>> 1) | (w < BITMAP_WORDS - 1 ? words[w + 1] << 63 : 0));
+                for (long edges = starts | ends; edges != 0; edges &= edges - 1) {
+                    long bit = edges & -edges;
+                    int position = w * Long.SIZE + Long.numberOfTrailingZeros(bit);
+                    if ((starts & bit) != 0) {
+                        boundaries[n++] = position;
+                    }
+                    if ((ends & bit) != 0) {
+                        boundaries[n++] = position + 1;
+                    }
+                }
+            }
+            return boundaries;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 16 + 8L * BITMAP_WORDS;
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+    }
+
+    private static final class RunContainer extends Container {
+        // Run i covers starts[i] .. starts[i] + lengthsMinusOne[i], so a full chunk still fits a char
+        private final char[] starts;
+        private final char[] lengthsMinusOne;
+        private final int runs;
+        private final int cardinality;
+
+        RunContainer(char start, int length) {
+            this(new char[]{start}, new char[]{(char) (length - 1)}, 1, length);
+        }
+
+        private RunContainer(char[] starts, char[] lengthsMinusOne, int runs, int cardinality) {
+            this.starts = starts;
+            this.lengthsMinusOne = lengthsMinusOne;
+            this.runs = runs;
+            this.cardinality = cardinality;
+        }
+
+        static RunContainer fromWords(long[] words, int runCount) {
+            char[] starts = new char[runCount];
+            char[] lengths = new char[runCount];
+            int runs = 0;
+            int cardinality = 0;
+            int value = 0;
+            while (value < 1 << 16) {
+                int start = nextBit(words, value, true);
+                if (start < 0) {
+                    break;
+                }
+                int end = nextBit(words, start, false);
+                end = end < 0 ? 1 << 16 : end;
+                starts[runs] = (char) start;
+                lengths[runs++] = (char) (end - start - 1);
+                cardinality += end - start;
+                value = end;
+            }
+            return new RunContainer(starts, lengths, runs, cardinality);
+        }
+
+        // Runs [boundaries[2k], boundaries[2k + 1]) for k < n / 2
+        static RunContainer fromBoundaries(int[] boundaries, int n) {
+            int runs = n / 2;
+            char[] starts = new char[runs];
+            char[] lengths = new char[runs];
+            int cardinality = 0;
+            for (int r = 0; r < runs; r++) {
+                int length = boundaries[2 * r + 1] - boundaries[2 * r];
+                starts[r] = (char) boundaries[2 * r];
+                lengths[r] = (char) (length - 1);
+                cardinality += length;
+            }
+            return new RunContainer(starts, lengths, runs, cardinality);
+        }
+
+        // First index >= from whose bit equals set, or -1
+        private static int nextBit(long[] words, int from, boolean set) {
+            int w = from >>> 6;
+            long word = (set ? words[w] : ~words[w]) & (-1L << from);
+            while (true) {
+                if (word != 0) {
+                    return w * Long.SIZE + Long.numberOfTrailingZeros(word);
+                }
+                if (++w == BITMAP_WORDS) {
+                    return -1;
+                }
+                word = set ? words[w] : ~words[w];
+            }
+        }
+
+        // Runs are not edited in place: convert to array or bitmap form first
+        @Override
+        Container add(char value) {
+            return contains(value) ? this : RoaringBitmap.fromWords(toWords()).add(value);
+        }
+
+        @Override
+        Container remove(char value) {
+            return contains(value) ? RoaringBitmap.fromWords(toWords()).remove(value) : this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            int low = 0;
+            int high = runs - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] > value) {
+                    high = mid - 1;
+                } else if (starts[mid] + lengthsMinusOne[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        PrimitiveIterator.OfInt iterator() {
+            return new PrimitiveIterator.OfInt() {
+                private int run;
+                private int offset;
+
+                @Override
+                public boolean hasNext() {
+                    return run < runs;
+                }
+
+                @Override
+                public int nextInt() {
+                    int value = starts[run] + offset;
+                    if (offset++ == lengthsMinusOne[run]) {
+                        run++;
+                        offset = 0;
+                    }
+                    return value;
+                }
+            };
+        }
+
+        @Override
+        void orInto(long[] words) {
+            for (int r = 0; r < runs; r++) {
+                int from = starts[r];
+                int to = from + lengthsMinusOne[r]; // inclusive
+                int firstWord = from >>> 6;
+                int lastWord = to >>> 6;
+                if (firstWord == lastWord) {
+                    words[firstWord] |= (-1L << from) & (-1L >>> (63 - (to & 63)));
+                } else {
+                    words[firstWord] |= -1L << from;
+                    for (int w = firstWord + 1; w < lastWord; w++) {
+                        words[w] = -1L;
+                    }
+                    words[lastWord] |= -1L >>> (63 - (to & 63));
+                }
+            }
+        }
+
+        @Override
+        int runCount() {
+            return runs;
+        }
+
+        @Override
+        int[] runBoundaries() {
+            int[] boundaries = new int[2 * runs];
+            for (int r = 0; r < runs; r++) {
+                boundaries[2 * r] = starts[r];
+                boundaries[2 * r + 1] = starts[r] + lengthsMinusOne[r] + 1;
+            }
+            return boundaries;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 24 + 4L * starts.length;
+        }
+
+        @Override
+        Container copy() {
+            return this; // immutable
+        }
+    }
+
+    public static void main(String[] args) {
+        RoaringBitmap evens = new RoaringBitmap();
+        for (int i = 0; i < 1_000_000; i += 2) {
+            evens.add(i);
+        }
+        RoaringBitmap range = new RoaringBitmap();
+        range.addRange(500_000, 2_000_000);
+
+        System.out.println(and(evens, range).cardinality());      // 250000
+        System.out.println(or(evens, range).cardinality());       // 1750000
+        System.out.println(andNot(evens, range).cardinality());   // 250000
+        System.out.println(xor(evens, range).cardinality());      // 1500000
+        System.out.println(range.sizeInBytes() + " bytes for 1.5M values");
+    }
+}
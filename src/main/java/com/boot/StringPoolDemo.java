@@ -1,5 +1,7 @@
 package com.boot;
 
+import com.boot.util.StringInterner;
+
 /**
  * Demonstration of String Pool concepts and string creation methods
  */
@@ -67,5 +69,14 @@ public class StringPoolDemo {
         System.out.println("str1 == str2: " + (str1 == str2));  // false
         System.out.println("str1 == str3: " + (str1 == str3));  // true
         System.out.println("str2 == str3: " + (str2 == str3));  // false
+        
+        // A custom interner works like intern() but is an ordinary, measurable heap object
+        StringInterner interner = StringInterner.weak();
+        String a = interner.intern(new String("header"));
+        String b = interner.intern(new String("header"));
+        
+        System.out.println("\nCustom Interner Example:");
+        System.out.println("a == b: " + (a == b));  // true - b is the instance pooled for a
+        System.out.println(interner);               // hit ratio and bytes saved
     }
 }
\ No newline at end of file
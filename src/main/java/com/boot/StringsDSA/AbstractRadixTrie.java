@@ -0,0 +1,150 @@
+package com.boot.StringsDSA;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lookups shared by {@link RadixTrie} and {@link FrozenRadixTrie}. Subclasses
+ * only differ in how the nodes are laid out: node 0 is the root, every other
+ * node has a non-empty edge label (a range of a char[] pool) and its children
+ * are sorted by the first char of their labels.
+ */
+abstract class AbstractRadixTrie {
+
+    static final int ROOT = 0;
+
+    final long missingValue;
+
+    AbstractRadixTrie(long missingValue) {
+        this.missingValue = missingValue;
+    }
+
+    /**
+     * @return the number of keys
+     */
+    public abstract int size();
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return the value of key, or the missing value given at construction
+     */
+    public long get(CharSequence key) {
+        int node = find(key);
+        return node >= 0 && hasValue(node) ? value(node) : missingValue;
+    }
+
+    public boolean containsKey(CharSequence key) {
+        int node = find(key);
+        return node >= 0 && hasValue(node);
+    }
+
+    /**
+     * Reports the keys starting with prefix in sorted (char) order, up to limit
+     * keys. The key passed to the consumer is a reused buffer, valid only during
+     * the call.
+     *
+     * @return the number of keys reported
+     */
+    public int forEachWithPrefix(CharSequence prefix, int limit, RadixTrie.EntryConsumer consumer) {
+        if (limit <= 0) {
+            return 0;
+        }
+        StringBuilder path = new StringBuilder(prefix.length() + 32).append(prefix);
+        int node = ROOT;
+        int i = 0;
+        while (i < prefix.length()) {
+            int child = findChild(node, prefix.charAt(i));
+            if (child < 0) {
+                return 0;
+            }
+            int start = labelStart(child);
+            int length = labelLength(child);
+            int compared = Math.min(length, prefix.length() - i);
+            for (int j = 0; j < compared; j++) {
+                if (labelChar(start + j) != prefix.charAt(i + j)) {
+                    return 0;
+                }
+            }
+            // The prefix may end inside the label: the whole subtree still matches
+            for (int j = compared; j < length; j++) {
+                path.append(labelChar(start + j));
+            }
+            i += compared;
+            node = child;
+        }
+        return limit - collect(node, path, limit, consumer);
+    }
+
+    /**
+     * @return up to limit keys starting with prefix, in sorted order
+     */
+    public List<String> keysWithPrefix(CharSequence prefix, int limit) {
+        List<String> keys = new ArrayList<>(Math.max(0, Math.min(limit, 64)));
+        forEachWithPrefix(prefix, limit, (key, value) -> keys.add(key.toString()));
+        return keys;
+    }
+
+    // Pre-order walk: a key sorts before its extensions. Returns the remaining limit.
+    private int collect(int node, StringBuilder path, int remaining, RadixTrie.EntryConsumer consumer) {
+        if (hasValue(node)) {
+            consumer.accept(path, value(node));
+            remaining--;
+        }
+        for (int k = 0, count = childCount(node); k < count && remaining > 0; k++) {
+            int child = child(node, k);
+            int mark = path.length();
+            for (int j = labelStart(child), end = j + labelLength(child); j < end; j++) {
+                path.append(labelChar(j));
+            }
+            remaining = collect(child, path, remaining, consumer);
+            path.setLength(mark);
+        }
+        return remaining;
+    }
+
+    // Node whose path spells exactly key, or -1
+    int find(CharSequence key) {
+        int node = ROOT;
+        int i = 0;
+        while (i < key.length()) {
+            int child = findChild(node, key.charAt(i));
+            if (child < 0) {
+                return -1;
+            }
+            int start = labelStart(child);
+            int length = labelLength(child);
+            if (length > key.length() - i) {
+                return -1;
+            }
+            for (int j = 0; j < length; j++) {
+                if (labelChar(start + j) != key.charAt(i + j)) {
+                    return -1;
+                }
+            }
+            i += length;
+            node = child;
+        }
+        return node;
+    }
+
+    abstract int childCount(int node);
+
+    /** @return the k-th child of node in sorted order */
+    abstract int child(int node, int k);
+
+    /** @return the child of node whose label starts with c, or -1 */
+    abstract int findChild(int node, char c);
+
+    abstract int labelStart(int node);
+
+    abstract int labelLength(int node);
+
+    abstract char labelChar(int index);
+
+    abstract boolean hasValue(int node);
+
+    abstract long value(int node);
+}
@@ -0,0 +1,539 @@
+package com.boot.StringsDSA;
+
+import com.boot.HashMapDSA.LongLongMap;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Aho-Corasick automaton: finds every occurrence of thousands of patterns in a
+ * single pass over the text, instead of one String.contains scan per pattern.
+ *
+ * The pattern trie is compiled into flat int arrays:
+ *  - a double-array trie: the child of state s for char code c is t = base[s] + c
+ *    if check[t] == s, so a transition is two array reads
+ *  - fail[s]: the state of the longest proper suffix of s that is also in the trie
+ *  - output[s] / dictLink[s]: the pattern ending at s and the next suffix state
+ *    that ends a pattern, so reporting matches never walks non-matching states
+ * Chars are first mapped to a dense alphabet code (0 for chars that occur in no
+ * pattern, which resets the automaton), which keeps the double array compact and
+ * lets case folding cost nothing at scan time.
+ *
+ * Matches are reported through {@link MatchListener} as (pattern index, start,
+ * end) without allocating. An automaton is immutable and can be shared by threads.
+ */
+public class AhoCorasick {
+
+    /**
+     * Receives matches: pattern is the index given by the order of addPattern calls,
+     * [start, end) the matched range in chars (bytes for {@link #scanFile}).
+     */
+    public interface MatchListener {
+        void match(int pattern, long start, long end);
+    }
+
+    private static final int ROOT = 0;
+    private static final int FILE_CHUNK_SIZE = 64 * 1024 * 1024;
+
+    private final char[] charCode;
+    private final int[] base;
+    private final int[] check;
+    private final int[] fail;
+    private final int[] output;
+    private final int[] dictLink;
+
+    private final String[] patterns;
+    private final int[] patternLength;
+    private final int[] nextOutput;   // next pattern with the same string, or -1
+    private final int maxLength;
+
+    private AhoCorasick(char[] charCode, int[] base, int[] check, int[] fail, int[] output, int[] dictLink,
+                        String[] patterns, int[] nextOutput) {
+        this.charCode = charCode;
+        this.base = base;
+        this.check = check;
+        this.fail = fail;
+        this.output = output;
+        this.dictLink = dictLink;
+        this.patterns = patterns;
+        this.nextOutput = nextOutput;
+        this.patternLength = new int[patterns.length];
+        int max = 0;
+        for (int p = 0; p < patterns.length; p++) {
+            patternLength[p] = patterns[p].length();
+            max = Math.max(max, patternLength[p]);
+        }
+        this.maxLength = max;
+    }
+
+    public int patternCount() {
+        return patterns.length;
+    }
+
+    public String pattern(int index) {
+        return patterns[index];
+    }
+
+    /**
+     * Reports every match in text, including overlapping ones.
+     */
+    public void scan(CharSequence text, MatchListener listener) {
+        int state = ROOT;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            state = next(state, text.charAt(i));
+            if (state != ROOT) {
+                report(state, i + 1, listener);
+            }
+        }
+    }
+
+    /**
+     * Reports every match in chars[from, to); positions are indexes into chars.
+     */
+    public void scan(char[] chars, int from, int to, MatchListener listener) {
+        int state = ROOT;
+        for (int i = from; i < to; i++) {
+            state = next(state, chars[i]);
+            if (state != ROOT) {
+                report(state, i + 1, listener);
+            }
+        }
+    }
+
+    /**
+     * @return true if any pattern occurs in text; stops at the first match
+     */
+    public boolean containsAny(CharSequence text) {
+        int state = ROOT;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            state = next(state, text.charAt(i));
+            if (state != ROOT && (output[state] >= 0 || dictLink[state] >= 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Scans a UTF-8 file in one pass. The file is memory-mapped in chunks and
+     * decoded on the fly (malformed bytes count as U+FFFD); match positions are
+     * byte offsets into the file.
+     *
+     * @throws IOException If reading the file fails
+     */
+    public void scanFile(Path file, MatchListener listener) throws IOException {
+        // Byte offset of the last maxLength + 1 chars, to turn a match length in chars into a start offset
+        int ringSize = Integer.highestOneBit(maxLength) << 1;
+        long[] charStart = new long[ringSize];
+        int ringMask = ringSize - 1;
+        long charIndex = 0;
+        int state = ROOT;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                int length = (int) Math.min(FILE_CHUNK_SIZE, size - position);
+                MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                boolean last = position + length == size;
+                int i = 0;
+                while (i < length) {
+                    int b = bytes.get(i);
+                    int sequence = b >= 0 ? 1 : (b & 0xE0) == 0xC0 ? 2 : (b & 0xF0) == 0xE0 ? 3 : (b & 0xF8) == 0xF0 ? 4 : 1;
+                    if (i + sequence > length && !last) {
+                        break; // the sequence continues in the next chunk
+                    }
+                    int codePoint = i + sequence <= length ? decode(bytes, i, sequence) : -1;
+                    if (codePoint < 0) {
+                        sequence = 1;
+                        codePoint = 0xFFFD;
+                    }
+                    long start = position + i;
+                    i += sequence;
+                    if (codePoint < 0x10000) {
+                        charStart[(int) (charIndex++ & ringMask)] = start;
+                        state = next(state, (char) codePoint);
+                        if (state != ROOT) {
+                            reportFile(state, charIndex, charStart, ringMask, position + i, listener);
+                        }
+                    } else {
+                        charStart[(int) (charIndex++ & ringMask)] = start;
+                        state = next(state, Character.highSurrogate(codePoint));
+                        charStart[(int) (charIndex++ & ringMask)] = start;
+                        state = next(state, Character.lowSurrogate(codePoint));
+                        if (state != ROOT) {
+                            reportFile(state, charIndex, charStart, ringMask, position + i, listener);
+                        }
+                    }
+                }
+                position += i;
+            }
+        }
+    }
+
+    private int next(int state, char c) {
+        int code = charCode[c];
+        if (code == 0) {
+            return ROOT;
+        }
+        while (true) {
+            int t = base[state] + code;
+            if (t < check.length && check[t] == state) {
+                return t;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = fail[state];
+        }
+    }
+
+    private void report(int state, long end, MatchListener listener) {
+        for (int s = output[state] >= 0 ? state : dictLink[state]; s >= 0; s = dictLink[s]) {
+            for (int p = output[s]; p >= 0; p = nextOutput[p]) {
+                listener.match(p, end - patternLength[p], end);
+            }
+        }
+    }
+
+    private void reportFile(int state, long charCount, long[] charStart, int ringMask, long end,
+                            MatchListener listener) {
+        for (int s = output[state] >= 0 ? state : dictLink[state]; s >= 0; s = dictLink[s]) {
+            for (int p = output[s]; p >= 0; p = nextOutput[p]) {
+                listener.match(p, charStart[(int) ((charCount - patternLength[p]) & ringMask)], end);
+            }
+        }
+    }
+
+    // Code point of the UTF-8 sequence at bytes[i, i + length), or -1 if malformed
+    private static int decode(MappedByteBuffer bytes, int i, int length) {
+        int b = bytes.get(i);
+        if (length == 1) {
+            return b >= 0 ? b : -1;
+        }
+        int codePoint = b & (0x7F >> length);
+        for (int k = 1; k < length; k++) {
+            int next = bytes.get(i + k);
+            if ((next & 0xC0) != 0x80) {
+                return -1;
+            }
+            codePoint = codePoint << 6 | (next & 0x3F);
+        }
+        return codePoint > Character.MAX_CODE_POINT ? -1 : codePoint;
+    }
+
+    /**
+     * Collects the patterns and compiles the automaton.
+     */
+    public static class AhoCorasickBuilder {
+        private final List<String> patterns = new ArrayList<>();
+        private boolean ignoreCase;
+
+        public AhoCorasickBuilder() {
+        }
+
+        public AhoCorasickBuilder addPattern(CharSequence pattern) {
+            if (pattern.length() == 0) {
+                throw new IllegalArgumentException("Patterns must not be empty");
+            }
+            patterns.add(pattern.toString());
+            return this;
+        }
+
+        public AhoCorasickBuilder addPatterns(Collection<? extends CharSequence> patterns) {
+            for (CharSequence pattern : patterns) {
+                addPattern(pattern);
+            }
+            return this;
+        }
+
+        /**
+         * Matches chars regardless of case (per Character.toLowerCase of single chars).
+         */
+        public AhoCorasickBuilder ignoreCase(boolean ignoreCase) {
+            this.ignoreCase = ignoreCase;
+            return this;
+        }
+
+        public AhoCorasick build() {
+            if (patterns.isEmpty()) {
+                throw new IllegalArgumentException("At least one pattern is required");
+            }
+            char[] charCode = buildAlphabet();
+            int patternCount = patterns.size();
+
+            // 1. Plain trie: nodes with first-child / next-sibling lists and a (node, code) -> child index
+            int capacity = 16;
+            for (String pattern : patterns) {
+                capacity += pattern.length();
+            }
+            int[] firstChild = new int[capacity];
+            int[] nextSibling = new int[capacity];
+            int[] edgeCode = new int[capacity];
+            int[] terminal = new int[capacity];
+            int[] nextOutput = new int[patternCount];
+            Arrays.fill(firstChild, -1);
+            Arrays.fill(terminal, -1);
+            LongLongMap edges = new LongLongMap(capacity);
+            int nodeCount = 1;
+            for (int p = 0; p < patternCount; p++) {
+                String pattern = patterns.get(p);
+                int node = ROOT;
+                for (int i = 0; i < pattern.length(); i++) {
+                    int code = charCode[pattern.charAt(i)];
+                    long key = (long) node << 16 | code;
+                    int child = (int) edges.getOrDefault(key, -1);
+                    if (child < 0) {
+                        child = nodeCount++;
+                        edges.put(key, child);
+                        edgeCode[child] = code;
+                        nextSibling[child] = firstChild[node];
+                        firstChild[node] = child;
+                    }
+                    node = child;
+                }
+                // Keep duplicates as a chain, in pattern order
+                nextOutput[p] = -1;
+                if (terminal[node] < 0) {
+                    terminal[node] = p;
+                } else {
+                    int last = terminal[node];
+                    while (nextOutput[last] >= 0) {
+                        last = nextOutput[last];
+                    }
+                    nextOutput[last] = p;
+                }
+            }
+
+            // 2. Double array, assigned breadth-first; slot[node] is the node's index in it
+            DoubleArray da = new DoubleArray(nodeCount * 2 + 0x10000);
+            int[] slot = new int[nodeCount];
+            int[] queue = new int[nodeCount];
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = ROOT;
+            da.occupy(ROOT, -1);
+            int[] codes = new int[0x10000];
+            while (head < tail) {
+                int node = queue[head++];
+                int childCount = 0;
+                for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+                    codes[childCount++] = edgeCode[child];
+                }
+                if (childCount == 0) {
+                    continue;
+                }
+                int b = da.findBase(codes, childCount);
+                da.base[slot[node]] = b;
+                for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+                    slot[child] = b + edgeCode[child];
+                    da.occupy(slot[child], slot[node]);
+                    queue[tail++] = child;
+                }
+            }
+
+            int size = da.size;
+            int[] base = Arrays.copyOf(da.base, size);
+            int[] check = Arrays.copyOf(da.check, size);
+            int[] output = new int[size];
+            int[] fail = new int[size];
+            int[] dictLink = new int[size];
+            Arrays.fill(output, -1);
+            Arrays.fill(dictLink, -1);
+            for (int node = 0; node < nodeCount; node++) {
+                output[slot[node]] = terminal[node];
+            }
+
+            // 3. Failure and dictionary links, in the same breadth-first order
+            for (int q = 1; q < tail; q++) {
+                int node = queue[q];
+                int s = slot[node];
+                int parent = check[s];
+                int code = s - base[parent];
+                int f = ROOT;
+                if (parent != ROOT) {
+                    f = fail[parent];
+                    while (true) {
+                        int t = base[f] + code;
+                        if (t < size && check[t] == f) {
+                            f = t;
+                            break;
+                        }
+                        if (f == ROOT) {
+                            break;
+                        }
+                        f = fail[f];
+                    }
+                }
+                fail[s] = f;
+                dictLink[s] = output[f] >= 0 ? f : dictLink[f];
+            }
+            return new AhoCorasick(charCode, base, check, fail, output, dictLink,
+                    patterns.toArray(new String[0]), nextOutput);
+        }
+
+        // Dense codes 1..n for the chars of the patterns; 0 for all other chars
+        private char[] buildAlphabet() {
+            char[] charCode = new char[0x10000];
+            int next = 1;
+            for (int p = 0; p < patterns.size(); p++) {
+                String pattern = ignoreCase ? fold(patterns.get(p)) : patterns.get(p);
+                for (int i = 0; i < pattern.length(); i++) {
+                    char c = pattern.charAt(i);
+                    if (charCode[c] == 0) {
+                        charCode[c] = (char) next++;
+                    }
+                }
+            }
+            if (ignoreCase) {
+                // Every char shares the code of its lower-case form
+                for (int c = 0; c < 0x10000; c++) {
+                    char lower = Character.toLowerCase((char) c);
+                    if (lower != c && charCode[c] == 0) {
+                        charCode[c] = charCode[lower];
+                    }
+                }
+            }
+            return charCode;
+        }
+
+        private static String fold(String pattern) {
+            char[] chars = pattern.toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = Character.toLowerCase(chars[i]);
+            }
+            return new String(chars);
+        }
+    }
+
+    /**
+     * Growable base/check arrays. Free slots are kept in a linked list, so the
+     * search for a new base only visits free slots; a slot that failed as a first
+     * child position too often is dropped from the list (it can still be filled
+     * as another child), which keeps the search from rescanning a dense prefix.
+     */
+    private static final class DoubleArray {
+        private static final int FREE = -2;
+        private static final int MAX_TRIES = 16;
+
+        int[] base = new int[1];
+        int[] check = {FREE};
+        int size;
+        private int[] nextFree = {-1};
+        private int[] prevFree = {-1};
+        private byte[] tries = {-1}; // -1: not in the free list
+        private int head = -1;
+        private int tail = -1;
+
+        DoubleArray(int capacity) {
+            ensure(capacity);
+        }
+
+        void occupy(int slot, int parent) {
+            ensure(slot + 1);
+            check[slot] = parent;
+            unlink(slot);
+            size = Math.max(size, slot + 1);
+        }
+
+        // A base >= 1 such that base + code is free for every child code
+        int findBase(int[] codes, int count) {
+            int minCode = codes[0];
+            for (int k = 1; k < count; k++) {
+                minCode = Math.min(minCode, codes[k]);
+            }
+            int position = head >= 0 ? head : grow();
+            while (true) {
+                int b = position - minCode;
+                if (b >= 1 && fits(b, codes, count)) {
+                    return b;
+                }
+                int next = nextFree[position];
+                if (++tries[position] >= MAX_TRIES) {
+                    unlink(position);
+                }
+                position = next >= 0 ? next : grow();
+            }
+        }
+
+        private boolean fits(int b, int[] codes, int count) {
+            for (int k = 0; k < count; k++) {
+                int t = b + codes[k];
+                ensure(t + 1);
+                if (check[t] != FREE) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void unlink(int slot) {
+            if (tries[slot] < 0) {
+                return;
+            }
+            int prev = prevFree[slot];
+            int next = nextFree[slot];
+            if (prev >= 0) {
+                nextFree[prev] = next;
+            } else {
+                head = next;
+            }
+            if (next >= 0) {
+                prevFree[next] = prev;
+            } else {
+                tail = prev;
+            }
+            tries[slot] = -1;
+        }
+
+        private void ensure(int capacity) {
+            while (capacity > check.length) {
+                grow();
+            }
+        }
+
+        // Doubles the arrays and appends the new slots to the free list; returns the first new slot
+        private int grow() {
+            int old = check.length;
+            int length = old * 2;
+            base = Arrays.copyOf(base, length);
+            check = Arrays.copyOf(check, length);
+            nextFree = Arrays.copyOf(nextFree, length);
+            prevFree = Arrays.copyOf(prevFree, length);
+            tries = Arrays.copyOf(tries, length);
+            Arrays.fill(check, old, length, FREE);
+            for (int slot = old; slot < length; slot++) {
+                prevFree[slot] = tail;
+                nextFree[slot] = -1;
+                if (tail >= 0) {
+                    nextFree[tail] = slot;
+                } else {
+                    head = slot;
+                }
+                tail = slot;
+            }
+            return old;
+        }
+    }
+
+    public static void main(String[] args) {
+        AhoCorasick automaton = new AhoCorasickBuilder()
+                .addPattern("he")
+                .addPattern("she")
+                .addPattern("his")
+                .addPattern("hers")
+                .build();
+        StringBuilder found = new StringBuilder();
+        automaton.scan("ushers", (pattern, start, end) ->
+                found.append(automaton.pattern(pattern)).append('@').append(start).append(' '));
+        System.out.println(found.toString().trim());     // she@1 he@2 hers@2
+        System.out.println(automaton.containsAny("this"));  // true
+    }
+}
@@ -0,0 +1,235 @@
+package com.boot.StringsDSA;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Ratio and throughput of {@link LzHuffmanOutputStream} / {@link LzHuffmanInputStream}
+ * at several levels against java.util.zip.Deflater / Inflater (zlib) at levels
+ * 1, 6 and 9. Throughput is uncompressed MB per second for both directions;
+ * ratio is compressed size / original size.
+ *
+ * The corpora are the files given as arguments; without arguments the Java
+ * sources under src/main/java (if run from the project root), a generated
+ * access log and incompressible random bytes are used. Every codec's output is
+ * checked to decompress to the input before it is timed.
+ */
+public class CompressionBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int[] LEVELS = {1, 6, 9};
+
+    // Keeps the JIT from dropping the work
+    private static long blackhole;
+
+    public static void main(String[] args) throws IOException {
+        Map<String, byte[]> corpora = new LinkedHashMap<>();
+        if (args.length > 0) {
+            for (String arg : args) {
+                corpora.put(arg, Files.readAllBytes(Path.of(arg)));
+            }
+        } else {
+            byte[] sources = javaSources(Path.of("src", "main", "java"));
+            if (sources.length > 0) {
+                corpora.put("java sources", sources);
+            }
+            corpora.put("access log", accessLog(8 << 20, new Random(42)));
+            byte[] random = new byte[4 << 20];
+            new Random(7).nextBytes(random);
+            corpora.put("random bytes", random);
+        }
+
+        for (Map.Entry<String, byte[]> corpus : corpora.entrySet()) {
+            byte[] data = corpus.getValue();
+            System.out.println(corpus.getKey() + ": " + String.format("%,d", data.length) + " bytes");
+            for (int level : LEVELS) {
+                benchmark("LzHuffman level " + level, data, new LzHuffmanCodec(level));
+            }
+            for (int level : LEVELS) {
+                benchmark("Deflater level " + level, data, new DeflaterCodec(level));
+            }
+        }
+    }
+
+    private interface Codec {
+        // Returns the compressed size; the compressed bytes are kept for decompress()
+        int compress(byte[] data) throws IOException;
+
+        // Decompresses the last compressed data into output and returns its length
+        int decompress(byte[] output) throws IOException;
+    }
+
+    // Both streams are reset onto the same buffers every round, as the Deflater/Inflater pair is
+    private static final class LzHuffmanCodec implements Codec {
+        private final CompressedBytes compressed = new CompressedBytes();
+        private final ReusableByteArrayInputStream source = new ReusableByteArrayInputStream();
+        private final LzHuffmanOutputStream out;
+        private LzHuffmanInputStream in;
+
+        LzHuffmanCodec(int level) throws IOException {
+            out = new LzHuffmanOutputStream(compressed, level);
+        }
+
+        @Override
+        public int compress(byte[] data) throws IOException {
+            compressed.reset();
+            out.reset(compressed);
+            out.write(data);
+            out.finish();
+            return compressed.size();
+        }
+
+        @Override
+        public int decompress(byte[] output) throws IOException {
+            source.reset(compressed.buffer(), compressed.size());
+            if (in == null) {
+                in = new LzHuffmanInputStream(source);
+            } else {
+                in.reset(source);
+            }
+            return in.readNBytes(output, 0, output.length);
+        }
+    }
+
+    // Exposes the internal buffer instead of copying it with toByteArray()
+    private static final class CompressedBytes extends ByteArrayOutputStream {
+        byte[] buffer() {
+            return buf;
+        }
+    }
+
+    // A ByteArrayInputStream that can be pointed at another array
+    private static final class ReusableByteArrayInputStream extends ByteArrayInputStream {
+        ReusableByteArrayInputStream() {
+            super(new byte[0]);
+        }
+
+        void reset(byte[] data, int length) {
+            buf = data;
+            pos = 0;
+            count = length;
+            mark = 0;
+        }
+    }
+
+    private static final class DeflaterCodec implements Codec {
+        private final Deflater deflater;
+        private final Inflater inflater = new Inflater();
+        private byte[] compressed = new byte[0];
+        private int compressedLength;
+
+        DeflaterCodec(int level) {
+            deflater = new Deflater(level);
+        }
+
+        @Override
+        public int compress(byte[] data) {
+            if (compressed.length < data.length + (data.length >> 3) + 1024) {
+                compressed = new byte[data.length + (data.length >> 3) + 1024];
+            }
+            deflater.reset();
+            deflater.setInput(data);
+            deflater.finish();
+            compressedLength = 0;
+            while (!deflater.finished()) {
+                compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+            }
+            return compressedLength;
+        }
+
+        @Override
+        public int decompress(byte[] output) throws IOException {
+            inflater.reset();
+            inflater.setInput(compressed, 0, compressedLength);
+            try {
+                int length = 0;
+                while (!inflater.finished() && length < output.length) {
+                    length += inflater.inflate(output, length, output.length - length);
+                }
+                return length;
+            } catch (DataFormatException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    private static void benchmark(String name, byte[] data, Codec codec) throws IOException {
+        int compressedSize = codec.compress(data);
+        byte[] output = new byte[data.length];
+        int length = codec.decompress(output);
+        if (length != data.length || !Arrays.equals(output, data)) {
+            throw new IllegalStateException(name + " does not round-trip");
+        }
+        double compressMBs = throughput(data.length, () -> blackhole += codec.compress(data));
+        double decompressMBs = throughput(data.length, () -> blackhole += codec.decompress(output));
+        System.out.println(String.format("  %-20s ratio %6.3f   compress %7.1f MB/s   decompress %7.1f MB/s",
+                name, (double) compressedSize / data.length, compressMBs, decompressMBs));
+    }
+
+    private interface Task {
+        void run() throws IOException;
+    }
+
+    private static double throughput(int bytes, Task task) throws IOException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            task.run();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return (double) bytes * MEASURED_ROUNDS / 1e6 / seconds;
+    }
+
+    private static byte[] javaSources(Path root) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return new byte[0];
+        }
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.filter(path -> path.toString().endsWith(".java")).sorted().forEach(files::add);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (Path file : files) {
+            bytes.write(Files.readAllBytes(file));
+        }
+        return bytes.toByteArray();
+    }
+
+    // Log lines with repeating structure and varying fields, like the archive's typical input
+    private static byte[] accessLog(int size, Random random) {
+        String[] paths = {"/", "/index.html", "/api/orders", "/api/orders/42", "/api/users", "/static/app.js",
+                "/static/style.css", "/login", "/search?q=charger", "/cart"};
+        String[] agents = {"Mozilla/5.0 (X11; Linux x86_64)", "Mozilla/5.0 (Windows NT 10.0; Win64; x64)",
+                "curl/8.4.0", "Googlebot/2.1"};
+        int[] statuses = {200, 200, 200, 200, 304, 404, 500};
+        StringBuilder log = new StringBuilder(size + 256);
+        long time = 1_700_000_000L;
+        while (log.length() < size) {
+            time += random.nextInt(3);
+            log.append(random.nextInt(256)).append('.').append(random.nextInt(256)).append(".0.")
+                    .append(random.nextInt(256))
+                    .append(" - - [").append(time).append("] \"GET ").append(paths[random.nextInt(paths.length)])
+                    .append(" HTTP/1.1\" ").append(statuses[random.nextInt(statuses.length)])
+                    .append(' ').append(random.nextInt(50_000))
+                    .append(" \"").append(agents[random.nextInt(agents.length)]).append("\"\n");
+        }
+        return log.substring(0, size).getBytes(StandardCharsets.US_ASCII);
+    }
+}
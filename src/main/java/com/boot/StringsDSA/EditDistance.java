@@ -0,0 +1,277 @@
+package com.boot.StringsDSA;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Levenshtein distance with Myers' bit-vector algorithm ("A fast bit-vector
+ * algorithm for approximate string matching based on dynamic programming", 1999,
+ * in Hyyrö's formulation for global distance).
+ *
+ * Instead of filling the (m+1) x (n+1) DP matrix, a column of the matrix is
+ * kept as two bit vectors of +1 / -1 vertical differences, 64 query chars per
+ * long, and a whole column is advanced with a handful of word operations per
+ * candidate char. Queries longer than 64 chars use several words (blocks) whose
+ * horizontal differences carry from one block to the next.
+ *
+ * The query is compiled once (one match mask per distinct query char) and
+ * compared against any number of candidates. With a threshold max:
+ *  - candidates whose length differs by more than max are rejected up front
+ *  - blocks below the Ukkonen band (rows more than max below the diagonal) are
+ *    not computed until the band reaches them
+ *  - the scan stops as soon as a lower bound on the final distance exceeds max
+ * and max + 1 is returned for anything farther than max.
+ *
+ * A compiled query is immutable and can be shared by threads; {@link #distances}
+ * compares one query against a list of candidates in parallel.
+ */
+public final class EditDistance {
+
+    private static final int NO_LIMIT = Integer.MAX_VALUE - 1;
+
+    private final int length;
+    private final int blocks;
+    private final long lastHigh;     // the bit of the last query row in the last block
+
+    // masks[symbol * blocks + b]: bit i set where query char (64 * b + i) is the symbol; symbol 0 matches nothing
+    private final long[] masks;
+    private final int[] asciiSymbol;
+    private final char[] otherChars;
+    private final int[] otherSymbol;
+
+    private EditDistance(CharSequence query) {
+        length = query.length();
+        blocks = Math.max(1, (length + 63) >>> 6);
+        lastHigh = length == 0 ? 0 : 1L << ((length - 1) & 63);
+
+        asciiSymbol = new int[128];
+        char[] others = new char[length];
+        int otherCount = 0;
+        int symbols = 1;
+        for (int i = 0; i < length; i++) {
+            char c = query.charAt(i);
+            if (c < 128) {
+                if (asciiSymbol[c] == 0) {
+                    asciiSymbol[c] = symbols++;
+                }
+            } else {
+                others[otherCount++] = c;
+            }
+        }
+        Arrays.sort(others, 0, otherCount);
+        int distinct = 0;
+        for (int i = 0; i < otherCount; i++) {
+            if (distinct == 0 || others[distinct - 1] != others[i]) {
+                others[distinct++] = others[i];
+            }
+        }
+        otherChars = Arrays.copyOf(others, distinct);
+        otherSymbol = new int[distinct];
+        for (int i = 0; i < distinct; i++) {
+            otherSymbol[i] = symbols++;
+        }
+
+        masks = new long[symbols * blocks];
+        for (int i = 0; i < length; i++) {
+            masks[symbol(query.charAt(i)) * blocks + (i >>> 6)] |= 1L << i;
+        }
+    }
+
+    /**
+     * Precomputes the match masks of query for repeated comparisons.
+     */
+    public static EditDistance compile(CharSequence query) {
+        return new EditDistance(query);
+    }
+
+    /**
+     * @return the Levenshtein distance between a and b
+     */
+    public static int distance(CharSequence a, CharSequence b) {
+        return new EditDistance(a).distance(b);
+    }
+
+    /**
+     * @return the Levenshtein distance between a and b, or max + 1 if it is larger than max
+     */
+    public static int distance(CharSequence a, CharSequence b, int max) {
+        return new EditDistance(a).distance(b, max);
+    }
+
+    /**
+     * @return the query length
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @return the distance between the query and candidate
+     */
+    public int distance(CharSequence candidate) {
+        return distance(candidate, NO_LIMIT);
+    }
+
+    /**
+     * @return the distance between the query and candidate, or max + 1 if it is larger than max
+     */
+    public int distance(CharSequence candidate, int max) {
+        if (max < 0) {
+            throw new IllegalArgumentException("max must not be negative: " + max);
+        }
+        max = Math.min(max, NO_LIMIT);
+        int n = candidate.length();
+        if (Math.abs(length - n) > max) {
+            return max + 1;
+        }
+        if (length == 0) {
+            return n;
+        }
+        return blocks == 1 ? singleBlock(candidate, max) : multiBlock(candidate, max);
+    }
+
+    /**
+     * Compares the query against every candidate, in parallel on the common pool.
+     *
+     * @return per candidate the distance, or max + 1 if it is larger than max
+     */
+    public int[] distances(List<? extends CharSequence> candidates, int max) {
+        int[] result = new int[candidates.size()];
+        IntStream.range(0, result.length).parallel().forEach(i -> result[i] = distance(candidates.get(i), max));
+        return result;
+    }
+
+    /**
+     * @return the indexes of the candidates within distance max of the query, ascending
+     */
+    public int[] matches(List<? extends CharSequence> candidates, int max) {
+        return IntStream.range(0, candidates.size()).parallel()
+                .filter(i -> distance(candidates.get(i), max) <= max)
+                .toArray();
+    }
+
+    private int singleBlock(CharSequence candidate, int max) {
+        int n = candidate.length();
+        long pv = -1L;
+        long mv = 0;
+        int score = length;
+        for (int j = 0; j < n; j++) {
+            long eq = masks[symbol(candidate.charAt(j))];
+            long xv = eq | mv;
+            long xh = (((eq & pv) + pv) ^ pv) | eq;
+            long ph = mv | ~(xh | pv);
+            long mh = pv & xh;
+            if ((ph & lastHigh) != 0) {
+                score++;
+            } else if ((mh & lastHigh) != 0) {
+                score--;
+            }
+            // Row 0 of the matrix is 0, 1, 2, ...: every column enters with a +1 horizontal difference
+            ph = (ph << 1) | 1;
+            mh <<= 1;
+            pv = mh | ~(xv | ph);
+            mv = ph & xv;
+            // Each remaining column can lower the last row by at most one
+            if (score - (n - j - 1) > max) {
+                return max + 1;
+            }
+        }
+        return score <= max ? score : max + 1;
+    }
+
+    private int multiBlock(CharSequence candidate, int max) {
+        int n = candidate.length();
+        long[] pv = new long[blocks];
+        long[] mv = new long[blocks];
+        int[] score = new int[blocks]; // value of the bottom row of each block in the current column
+
+        // Rows deeper than max below the diagonal can't be on a path of cost <= max
+        int lastBlock = Math.min(blocks - 1, Math.min(length, max) >>> 6);
+        for (int b = 0; b <= lastBlock; b++) {
+            pv[b] = -1L;
+            score[b] = bottomRow(b);
+        }
+
+        for (int j = 0; j < n; j++) {
+            int base = symbol(candidate.charAt(j)) * blocks;
+            int carry = 1;
+            for (int b = 0; b <= lastBlock; b++) {
+                carry = advance(pv, mv, b, masks[base + b], carry, b == blocks - 1 ? lastHigh : Long.MIN_VALUE);
+                score[b] += carry;
+            }
+            // The band moves down one row per column: start the next block once its first row is in it.
+            // Its previous column is taken as the block above plus one per row, which overestimates
+            // only cells that were outside the band.
+            if (lastBlock < blocks - 1 && (lastBlock + 1) * 64 + 1 <= j + 1 + max) {
+                int b = ++lastBlock;
+                pv[b] = -1L;
+                mv[b] = 0;
+                score[b] = score[b - 1] - carry + (bottomRow(b) - bottomRow(b - 1));
+                carry = advance(pv, mv, b, masks[base + b], carry, b == blocks - 1 ? lastHigh : Long.MIN_VALUE);
+                score[b] += carry;
+            }
+
+            if (lastBlock == blocks - 1 && score[lastBlock] - (n - j - 1) > max) {
+                return max + 1;
+            }
+            // Going up a block, values drop by at most one per row: stop when no active cell is <= max
+            boolean reachable = false;
+            for (int b = 0; b <= lastBlock && !reachable; b++) {
+                reachable = score[b] - (bottomRow(b) - (b << 6)) <= max;
+            }
+            if (!reachable) {
+                return max + 1;
+            }
+        }
+        return score[blocks - 1] <= max ? score[blocks - 1] : max + 1;
+    }
+
+    // Advances block b by one column; carry is the horizontal difference (-1, 0, +1) entering from above
+    private static int advance(long[] pvs, long[] mvs, int b, long eq, int carry, long high) {
+        long pv = pvs[b];
+        long mv = mvs[b];
+        long xv = eq | mv;
+        if (carry < 0) {
+            eq |= 1;
+        }
+        long xh = (((eq & pv) + pv) ^ pv) | eq;
+        long ph = mv | ~(xh | pv);
+        long mh = pv & xh;
+        int out = (ph & high) != 0 ? 1 : (mh & high) != 0 ? -1 : 0;
+        ph <<= 1;
+        mh <<= 1;
+        if (carry < 0) {
+            mh |= 1;
+        } else if (carry > 0) {
+            ph |= 1;
+        }
+        pvs[b] = mh | ~(xv | ph);
+        mvs[b] = ph & xv;
+        return out;
+    }
+
+    // 1-based query row at the bottom of block b
+    private int bottomRow(int b) {
+        return Math.min(length, (b + 1) << 6);
+    }
+
+    private int symbol(char c) {
+        if (c < 128) {
+            return asciiSymbol[c];
+        }
+        int i = Arrays.binarySearch(otherChars, c);
+        return i < 0 ? 0 : otherSymbol[i];
+    }
+
+    public static void main(String[] args) {
+        System.out.println(distance("kitten", "sitting"));          // 3
+        System.out.println(distance("flaw", "lawn"));               // 2
+        System.out.println(distance("kitten", "sitting", 2));       // 3 (= max + 1)
+
+        EditDistance query = compile("wireless charger");
+        List<String> catalog = List.of("wireles charger", "wireless charge", "wired charger", "usb cable");
+        System.out.println(Arrays.toString(query.distances(catalog, 3)));   // [1, 1, 4, 4]
+        System.out.println(Arrays.toString(query.matches(catalog, 1)));     // [0, 1]
+    }
+}
@@ -1,4 +1,190 @@
 package com.boot.StringsDSA;
 
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Streaming tracker for the first non-repeating character.
+ *
+ * Characters are fed one at a time (or in CharBuffer chunks) and the current
+ * first non-repeating character can be read at any point in O(1).
+ *
+ * Instead of a LinkedHashMap<Character, Integer> (which boxes every character
+ * and allocates a node per entry) the tracker keeps:
+ *  - an array-indexed doubly linked list of characters seen exactly once,
+ *    in arrival order (prev/next arrays indexed by the char value itself)
+ *  - two bitsets: "seen at least once" and "seen twice or more"
+ *
+ * Every update is O(1) and allocation-free; all memory is allocated up front.
+ */
 public class FirstNonRepeating {
+
+    /** Returned by {@link #firstNonRepeating()} when every character so far repeats. */
+    public static final int NONE = -1;
+
+    private static final int ALPHABET = Character.MAX_VALUE + 1; // 65536 UTF-16 code units
+    private static final int NIL = -1;
+
+    // Doubly linked list of characters seen exactly once, indexed by char value
+    private final int[] prev = new int[ALPHABET];
+    private final int[] next = new int[ALPHABET];
+    private int head = NIL;
+    private int tail = NIL;
+
+    // One bit per char value
+    private final long[] seenOnce = new long[ALPHABET >>> 6];
+    private final long[] seenTwice = new long[ALPHABET >>> 6];
+
+    private long count;
+
+    /**
+     * Feeds a single character into the tracker.
+     *
+     * @param c the next character of the stream
+     */
+    public void accept(char c) {
+        count++;
+        int word = c >>> 6;
+        long bit = 1L << c;
+
+        if ((seenTwice[word] & bit) != 0) {
+            // Already repeating, nothing changes
+            return;
+        }
+
+        if ((seenOnce[word] & bit) != 0) {
+            // Second occurrence: move to "repeating" and unlink from the list
+            seenTwice[word] |= bit;
+            unlink(c);
+            return;
+        }
+
+        // First occurrence: append to the tail of the list
+        seenOnce[word] |= bit;
+        prev[c] = tail;
+        next[c] = NIL;
+        if (tail == NIL) {
+            head = c;
+        } else {
+            next[tail] = c;
+        }
+        tail = c;
+    }
+
+    /**
+     * Feeds all remaining characters of the buffer into the tracker.
+     * The buffer's position is advanced to its limit.
+     *
+     * @param chunk the next chunk of the stream
+     */
+    public void accept(CharBuffer chunk) {
+        if (chunk.hasArray()) {
+            // Heap buffer: walk the backing array directly
+            char[] array = chunk.array();
+            int from = chunk.arrayOffset() + chunk.position();
+            int to = chunk.arrayOffset() + chunk.limit();
+            for (int i = from; i < to; i++) {
+                accept(array[i]);
+            }
+            chunk.position(chunk.limit());
+        } else {
+            while (chunk.hasRemaining()) {
+                accept(chunk.get());
+            }
+        }
+    }
+
+    /**
+     * Feeds every character of the sequence into the tracker.
+     *
+     * @param chars the next characters of the stream
+     */
+    public void accept(CharSequence chars) {
+        for (int i = 0, n = chars.length(); i < n; i++) {
+            accept(chars.charAt(i));
+        }
+    }
+
+    /**
+     * @return the first character seen exactly once so far, or {@link #NONE}
+     */
+    public int firstNonRepeating() {
+        return head;
+    }
+
+    /**
+     * @return true if at least one character has been seen exactly once
+     */
+    public boolean hasNonRepeating() {
+        return head != NIL;
+    }
+
+    /**
+     * @return the total number of characters fed into the tracker
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Clears the tracker so it can be reused for a new stream.
+     * Only the bitsets are cleared; the list arrays are overwritten on use.
+     */
+    public void reset() {
+        Arrays.fill(seenOnce, 0L);
+        Arrays.fill(seenTwice, 0L);
+        head = NIL;
+        tail = NIL;
+        count = 0;
+    }
+
+    private void unlink(int c) {
+        int p = prev[c];
+        int n = next[c];
+        if (p == NIL) {
+            head = n;
+        } else {
+            next[p] = n;
+        }
+        if (n == NIL) {
+            tail = p;
+        } else {
+            prev[n] = p;
+        }
+    }
+
+    /**
+     * Convenience method for a single string.
+     *
+     * @param str the input string
+     * @return the first non-repeating character, or {@link #NONE}
+     */
+    public static int firstNonRepeating(CharSequence str) {
+        FirstNonRepeating tracker = new FirstNonRepeating();
+        tracker.accept(str);
+        return tracker.firstNonRepeating();
+    }
+
+    // Test method
+    public static void main(String[] args) {
+        FirstNonRepeating tracker = new FirstNonRepeating();
+        String stream = "aabcbcd";
+
+        // Print the answer after every character of the stream
+        for (int i = 0; i < stream.length(); i++) {
+            tracker.accept(stream.charAt(i));
+            int first = tracker.firstNonRepeating();
+            System.out.println("After '" + stream.charAt(i) + "': "
+                    + (first == NONE ? "none" : String.valueOf((char) first)));
+        }
+
+        // Chunked input
+        tracker.reset();
+        tracker.accept(CharBuffer.wrap("swiss"));
+        tracker.accept(CharBuffer.wrap(" cheese"));
+        System.out.println("First non-repeating in \"swiss cheese\": " + (char) tracker.firstNonRepeating()); // w
+
+        System.out.println(firstNonRepeating("leetcode") == 'l');    // true
+        System.out.println(firstNonRepeating("aabb") == NONE);       // true
+    }
 }
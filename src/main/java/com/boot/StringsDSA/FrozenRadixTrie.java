@@ -0,0 +1,106 @@
+package com.boot.StringsDSA;
+
+/**
+ * Immutable snapshot of a {@link RadixTrie}, made by {@link RadixTrie#freeze()}.
+ *
+ * Nodes are numbered breadth-first, so the children of node n are the nodes
+ * firstChild[n] .. firstChild[n + 1] - 1, sorted by the first char of their
+ * labels (firstChar), and all labels are concatenated in node order: per node
+ * the snapshot costs an int child offset, an int label offset, a char, a long
+ * value and a has-value bit, with no object per node or per key.
+ *
+ * All fields are final and never written after construction, so a snapshot can
+ * be queried by any number of threads without locking.
+ */
+public final class FrozenRadixTrie extends AbstractRadixTrie {
+
+    private final int size;
+    private final int[] firstChild;
+    private final char[] firstChar;
+    private final char[] labels;
+    private final int[] labelStart;
+    private final long[] values;
+    private final long[] hasValue;
+
+    FrozenRadixTrie(long missingValue, int size, int[] firstChild, char[] firstChar, char[] labels, int[] labelStart,
+                    long[] values, long[] hasValue) {
+        super(missingValue);
+        this.size = size;
+        this.firstChild = firstChild;
+        this.firstChar = firstChar;
+        this.labels = labels;
+        this.labelStart = labelStart;
+        this.values = values;
+        this.hasValue = hasValue;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the bytes used by the snapshot's arrays (excluding object headers)
+     */
+    public long sizeInBytes() {
+        return (long) firstChild.length * Integer.BYTES
+                + (long) firstChar.length * Character.BYTES
+                + (long) labels.length * Character.BYTES
+                + (long) labelStart.length * Integer.BYTES
+                + (long) values.length * Long.BYTES
+                + (long) hasValue.length * Long.BYTES;
+    }
+
+    @Override
+    int childCount(int node) {
+        return firstChild[node + 1] - firstChild[node];
+    }
+
+    @Override
+    int child(int node, int k) {
+        return firstChild[node] + k;
+    }
+
+    @Override
+    int findChild(int node, char c) {
+        int lo = firstChild[node];
+        int hi = firstChild[node + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char key = firstChar[mid];
+            if (key < c) {
+                lo = mid + 1;
+            } else if (key > c) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    int labelStart(int node) {
+        return labelStart[node];
+    }
+
+    @Override
+    int labelLength(int node) {
+        return labelStart[node + 1] - labelStart[node];
+    }
+
+    @Override
+    char labelChar(int index) {
+        return labels[index];
+    }
+
+    @Override
+    boolean hasValue(int node) {
+        return (hasValue[node >>> 6] & (1L << node)) != 0;
+    }
+
+    @Override
+    long value(int node) {
+        return values[node];
+    }
+}
@@ -0,0 +1,279 @@
+package com.boot.StringsDSA;
+
+import java.util.Arrays;
+
+/**
+ * Canonical, length-limited Huffman code over the symbols 0 .. alphabetSize - 1,
+ * the entropy coder of {@link LzHuffmanOutputStream}.
+ *
+ * Code lengths are computed with Moffat and Katajainen's in-place algorithm
+ * ("In-Place Calculation of Minimum-Redundancy Codes", 1995) on the used symbols
+ * sorted by frequency, packed as (frequency << 16 | symbol) longs. Lengths over
+ * the limit are clamped and the Kraft sum is restored by lengthening the
+ * deepest codes still under the limit, then the lengths are handed out again
+ * from the rarest symbol up, so frequent symbols keep the short codes.
+ *
+ * The code is canonical: codes of equal length are consecutive in symbol order,
+ * so the lengths alone describe it and are all that is stored in a stream.
+ * Codes are written most significant bit first, which lets the decoder resolve
+ * a symbol with one lookup of the next maxLength() bits in a table where every
+ * code of length l fills 2^(maxLength - l) consecutive entries.
+ *
+ * All buffers are allocated by the constructor; {@link #build} and
+ * {@link #setLengths} reuse them for every block. Not thread-safe.
+ */
+public final class HuffmanCode {
+
+    public static final int MAX_CODE_LENGTH = 15;
+
+    private final int alphabetSize;
+    private final int limit;
+    private final int[] lengths;
+    private final int[] codes;
+    private final long[] sorted;
+    private final int[] work;
+    private final int[] lengthCounts = new int[MAX_CODE_LENGTH + 2];
+    private final int[] nextCode = new int[MAX_CODE_LENGTH + 2];
+    // table[bits]: symbol << 4 | code length, 0 where no code starts with bits
+    private final int[] table;
+    private int maxLength;
+
+    public HuffmanCode(int alphabetSize) {
+        this(alphabetSize, MAX_CODE_LENGTH);
+    }
+
+    /**
+     * @param limit the maximum code length, at most {@link #MAX_CODE_LENGTH}
+     */
+    public HuffmanCode(int alphabetSize, int limit) {
+        if (alphabetSize < 2 || alphabetSize > 1 << 16) {
+            throw new IllegalArgumentException("Alphabet size must be between 2 and 65536: " + alphabetSize);
+        }
+        if (limit < 1 || limit > MAX_CODE_LENGTH || 1L << limit < alphabetSize) {
+            throw new IllegalArgumentException("Invalid code length limit " + limit + " for " + alphabetSize + " symbols");
+        }
+        this.alphabetSize = alphabetSize;
+        this.limit = limit;
+        lengths = new int[alphabetSize];
+        codes = new int[alphabetSize];
+        sorted = new long[alphabetSize];
+        work = new int[alphabetSize];
+        table = new int[1 << limit];
+    }
+
+    public int alphabetSize() {
+        return alphabetSize;
+    }
+
+    /**
+     * Builds an optimal code, within the length limit, for the given symbol
+     * frequencies. Symbols with frequency 0 get no code (length 0); a single used
+     * symbol gets a 1-bit code.
+     */
+    public void build(int[] frequencies) {
+        int used = 0;
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            lengths[symbol] = 0;
+            if (frequencies[symbol] != 0) {
+                sorted[used++] = (long) frequencies[symbol] << 16 | symbol;
+            }
+        }
+        if (used == 1) {
+            lengths[(int) (sorted[0] & 0xFFFF)] = 1;
+        } else if (used > 1) {
+            Arrays.sort(sorted, 0, used);
+            // Caps the weights so no subtree sum overflows
+            int cap = Integer.MAX_VALUE / used;
+            for (int i = 0; i < used; i++) {
+                work[i] = (int) Math.min(sorted[i] >>> 16, cap);
+            }
+            minimumRedundancy(work, used);
+            limitLengths(used);
+        }
+        assignCodes();
+    }
+
+    /**
+     * Installs a code given by its lengths (as written by {@link #length}), for
+     * decoding.
+     *
+     * @throws IllegalArgumentException If a length is out of range or the lengths don't form a prefix code
+     */
+    public void setLengths(int[] codeLengths) {
+        long kraft = 0;
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            int length = codeLengths[symbol];
+            if (length < 0 || length > limit) {
+                throw new IllegalArgumentException("Invalid code length " + length + " for symbol " + symbol);
+            }
+            lengths[symbol] = length;
+            if (length > 0) {
+                kraft += 1L << (limit - length);
+            }
+        }
+        if (kraft > 1L << limit) {
+            throw new IllegalArgumentException("Code lengths over-subscribe the code space");
+        }
+        assignCodes();
+    }
+
+    public int length(int symbol) {
+        return lengths[symbol];
+    }
+
+    /**
+     * @return the code of symbol, in the low length(symbol) bits
+     */
+    public int code(int symbol) {
+        return codes[symbol];
+    }
+
+    /**
+     * @return the longest code length, the number of bits {@link #decode} looks at
+     */
+    public int maxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Prepares the decoding table; call after {@link #build} or {@link #setLengths}.
+     */
+    public void buildDecoder() {
+        int bits = maxLength;
+        Arrays.fill(table, 0, 1 << bits, 0);
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            int length = lengths[symbol];
+            if (length > 0) {
+                int from = codes[symbol] << (bits - length);
+                Arrays.fill(table, from, from + (1 << (bits - length)), symbol << 4 | length);
+            }
+        }
+    }
+
+    /**
+     * Looks up the symbol whose code is a prefix of bits.
+     *
+     * @param bits the next maxLength() bits of the stream, first bit highest
+     * @return symbol << 4 | code length, or 0 if no code matches (corrupt input)
+     */
+    public int decode(int bits) {
+        return table[bits];
+    }
+
+    /**
+     * @return the number of bits the given frequencies encode to with this code
+     */
+    public long encodedBits(int[] frequencies) {
+        long bits = 0;
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            bits += (long) frequencies[symbol] * lengths[symbol];
+        }
+        return bits;
+    }
+
+    // In place: weights a[0, n) ascending in, code lengths (descending) out
+    private static void minimumRedundancy(int[] a, int n) {
+        // Phase 1: build the tree, internal nodes store their weight and later their parent
+        a[0] += a[1];
+        int root = 0;
+        int leaf = 2;
+        for (int next = 1; next < n - 1; next++) {
+            if (leaf >= n || a[root] < a[leaf]) {
+                a[next] = a[root];
+                a[root++] = next;
+            } else {
+                a[next] = a[leaf++];
+            }
+            if (leaf >= n || (root < next && a[root] < a[leaf])) {
+                a[next] += a[root];
+                a[root++] = next;
+            } else {
+                a[next] += a[leaf++];
+            }
+        }
+        // Phase 2: parent pointers to internal node depths
+        a[n - 2] = 0;
+        for (int next = n - 3; next >= 0; next--) {
+            a[next] = a[a[next]] + 1;
+        }
+        // Phase 3: internal node depths to leaf depths
+        int available = 1;
+        int depth = 0;
+        root = n - 2;
+        int next = n - 1;
+        while (available > 0) {
+            int internal = 0;
+            while (root >= 0 && a[root] == depth) {
+                internal++;
+                root--;
+            }
+            while (available > internal) {
+                a[next--] = depth;
+                available--;
+            }
+            available = 2 * internal;
+            depth++;
+        }
+    }
+
+    // work[0, used) holds the lengths of sorted[0, used), rarest symbol first
+    private void limitLengths(int used) {
+        int[] counts = lengthCounts;
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < used; i++) {
+            counts[Math.min(work[i], limit)]++;
+        }
+        long kraft = 0;
+        for (int length = 1; length <= limit; length++) {
+            kraft += (long) counts[length] << (limit - length);
+        }
+        // Each step turns a leaf at the limit and a shallower leaf into two leaves one level deeper
+        while (kraft > 1L << limit) {
+            counts[limit]--;
+            for (int length = limit - 1; length > 0; length--) {
+                if (counts[length] != 0) {
+                    counts[length]--;
+                    counts[length + 1] += 2;
+                    break;
+                }
+            }
+            kraft--;
+        }
+        int i = 0;
+        for (int length = limit; length > 0; length--) {
+            for (int k = counts[length]; k > 0; k--) {
+                lengths[(int) (sorted[i++] & 0xFFFF)] = length;
+            }
+        }
+    }
+
+    private void assignCodes() {
+        Arrays.fill(lengthCounts, 0);
+        maxLength = 1;
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            lengthCounts[lengths[symbol]]++;
+            maxLength = Math.max(maxLength, lengths[symbol]);
+        }
+        lengthCounts[0] = 0;
+        int code = 0;
+        for (int length = 1; length <= MAX_CODE_LENGTH; length++) {
+            code = (code + lengthCounts[length - 1]) << 1;
+            nextCode[length] = code;
+        }
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            int length = lengths[symbol];
+            codes[symbol] = length == 0 ? 0 : nextCode[length]++;
+        }
+    }
+
+    public static void main(String[] args) {
+        HuffmanCode code = new HuffmanCode(6);
+        code.build(new int[]{45, 13, 12, 16, 9, 5});
+        StringBuilder codes = new StringBuilder();
+        for (int symbol = 0; symbol < 6; symbol++) {
+            String bits = Integer.toBinaryString(code.code(symbol) | 1 << code.length(symbol)).substring(1);
+            codes.append(symbol).append('=').append(bits).append(' ');
+        }
+        System.out.println(codes.toString().trim());   // 0=0 1=100 2=101 3=110 4=1110 5=1111
+    }
+}
@@ -0,0 +1,200 @@
+package com.boot.StringsDSA;
+
+import java.util.Arrays;
+
+/**
+ * LZ77 tokenizer with a hash-chain match finder, the first stage of
+ * {@link LzHuffmanOutputStream}.
+ *
+ * Every position is hashed on its next MIN_MATCH bytes; head[hash] holds the
+ * most recent position with that hash and prev[position & WINDOW_MASK] the one
+ * before it, so the candidates for a match form a chain through the last
+ * WINDOW_SIZE bytes, newest first. The search follows at most maxChain links and
+ * stops early at a match of niceLength bytes; with lazy matching a match is
+ * deferred by one byte when the next position starts a longer one. Those three
+ * knobs are what the levels 1 .. 9 trade between speed and ratio.
+ *
+ * Output tokens are ints: a literal byte is 0 .. 255, a match is
+ * length << 16 | distance with length MIN_MATCH .. MAX_MATCH and distance
+ * 1 .. WINDOW_SIZE, the ranges of the deflate length and distance codes.
+ *
+ * The finder keeps positions into the caller's buffer; when the caller moves its
+ * history to the front of the buffer it calls {@link #slide}. The tables are
+ * allocated once and reused for every block. Not thread-safe.
+ */
+public final class Lz77MatchFinder {
+
+    public static final int WINDOW_SIZE = 1 << 15;
+    public static final int MIN_MATCH = 4;
+    public static final int MAX_MATCH = 258;
+    public static final int MIN_LEVEL = 1;
+    public static final int MAX_LEVEL = 9;
+    public static final int DEFAULT_LEVEL = 6;
+
+    private static final int WINDOW_MASK = WINDOW_SIZE - 1;
+    private static final int HASH_BITS = 15;
+
+    // Per level: chain links followed, length that ends the search, lazy matching
+    private static final int[] MAX_CHAIN = {0, 4, 8, 16, 16, 32, 64, 128, 512, 4096};
+    private static final int[] NICE_LENGTH = {0, 16, 32, 32, 32, 64, 128, 128, 258, 258};
+    private static final boolean[] LAZY = {false, false, false, false, true, true, true, true, true, true};
+
+    private final int level;
+    private final int maxChain;
+    private final int niceLength;
+    private final boolean lazy;
+    private final int[] head = new int[1 << HASH_BITS];
+    private int[] prev = new int[WINDOW_SIZE];
+    private int[] spare = new int[WINDOW_SIZE];   // receives prev re-indexed by slide
+    private int nextInsert;   // first buffer position not yet in the hash chains
+
+    public Lz77MatchFinder() {
+        this(DEFAULT_LEVEL);
+    }
+
+    /**
+     * @param level 1 (fastest) .. 9 (best ratio)
+     */
+    public Lz77MatchFinder(int level) {
+        if (level < MIN_LEVEL || level > MAX_LEVEL) {
+            throw new IllegalArgumentException("Level must be between " + MIN_LEVEL + " and " + MAX_LEVEL + ": " + level);
+        }
+        this.level = level;
+        this.maxChain = MAX_CHAIN[level];
+        this.niceLength = NICE_LENGTH[level];
+        this.lazy = LAZY[level];
+        reset();
+    }
+
+    public int level() {
+        return level;
+    }
+
+    /**
+     * Forgets all history, for a new stream.
+     */
+    public void reset() {
+        Arrays.fill(head, -1);
+        Arrays.fill(prev, -1);
+        nextInsert = 0;
+    }
+
+    /**
+     * Tokenizes data[from, to). Matches may reach back into data[from - WINDOW_SIZE, from),
+     * which must be the bytes passed to the previous calls since the last
+     * {@link #reset} (at the positions they had, adjusted by {@link #slide}).
+     *
+     * @param tokens receives the tokens, at most to - from of them
+     * @return the number of tokens
+     */
+    public int tokenize(byte[] data, int from, int to, int[] tokens) {
+        int count = 0;
+        int p = from;
+        while (p < to) {
+            int match = p + MIN_MATCH <= to ? longestMatch(data, p, to) : 0;
+            if (match == 0) {
+                tokens[count++] = data[p++] & 0xFF;
+                continue;
+            }
+            // Lazy evaluation: while the next position starts a longer match, emit a literal instead
+            while (lazy && match >>> 16 < niceLength && p + 1 + MIN_MATCH <= to) {
+                int next = longestMatch(data, p + 1, to);
+                if (next >>> 16 <= match >>> 16) {
+                    break;
+                }
+                tokens[count++] = data[p++] & 0xFF;
+                match = next;
+            }
+            tokens[count++] = match;
+            p += match >>> 16;
+        }
+        return count;
+    }
+
+    /**
+     * Adjusts the stored positions after the caller moved data[shift, ...) to data[0, ...).
+     */
+    public void slide(int shift) {
+        for (int i = 0; i < head.length; i++) {
+            head[i] = slide(head[i], shift);
+        }
+        // prev is indexed by position & WINDOW_MASK: the link of position p moves from
+        // slot p to slot p - shift, a rotation unless shift is a multiple of WINDOW_SIZE
+        int rotation = shift & WINDOW_MASK;
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            spare[(i - rotation) & WINDOW_MASK] = slide(prev[i], shift);
+        }
+        int[] rotated = spare;
+        spare = prev;
+        prev = rotated;
+        nextInsert = Math.max(0, nextInsert - shift);
+    }
+
+    public static boolean isMatch(int token) {
+        return token > 0xFF;
+    }
+
+    public static int matchLength(int token) {
+        return token >>> 16;
+    }
+
+    public static int matchDistance(int token) {
+        return token & 0xFFFF;
+    }
+
+    private static int slide(int position, int shift) {
+        return position < shift ? -1 : position - shift;
+    }
+
+    // Inserts the positions up to p into the chains and returns the best match at p as a token, or 0
+    private int longestMatch(byte[] data, int p, int to) {
+        while (nextInsert < p) {
+            insert(data, nextInsert++);
+        }
+        int hash = hash(data, p);
+        int candidate = head[hash];
+        int maxLength = Math.min(MAX_MATCH, to - p);
+        int minPosition = Math.max(0, p - WINDOW_SIZE);
+        int best = MIN_MATCH - 1;
+        int bestDistance = 0;
+        int chain = maxChain;
+        while (candidate >= minPosition && chain-- > 0) {
+            // The byte that would extend the best match rejects most candidates with one compare
+            if (data[candidate + best] == data[p + best] && data[candidate] == data[p]) {
+                int length = 1;
+                while (length < maxLength && data[candidate + length] == data[p + length]) {
+                    length++;
+                }
+                if (length > best) {
+                    best = length;
+                    bestDistance = p - candidate;
+                    if (length >= niceLength || length == maxLength) {
+                        break;
+                    }
+                }
+            }
+            int next = prev[candidate & WINDOW_MASK];
+            if (next >= candidate) {
+                break;   // the slot was reused by a newer position: the chain ends here
+            }
+            candidate = next;
+        }
+        if (nextInsert == p) {
+            prev[p & WINDOW_MASK] = head[hash];
+            head[hash] = p;
+            nextInsert = p + 1;
+        }
+        return best >= MIN_MATCH ? best << 16 | bestDistance : 0;
+    }
+
+    private void insert(byte[] data, int p) {
+        int hash = hash(data, p);
+        prev[p & WINDOW_MASK] = head[hash];
+        head[hash] = p;
+    }
+
+    private static int hash(byte[] data, int p) {
+        int word = (data[p] & 0xFF) | (data[p + 1] & 0xFF) << 8 | (data[p + 2] & 0xFF) << 16 | data[p + 3] << 24;
+        return (word * 0x9E3779B1) >>> (32 - HASH_BITS);
+    }
+}
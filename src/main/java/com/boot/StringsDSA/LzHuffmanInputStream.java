@@ -0,0 +1,304 @@
+package com.boot.StringsDSA;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static com.boot.StringsDSA.LzHuffmanOutputStream.BLOCK_SIZE;
+import static com.boot.StringsDSA.LzHuffmanOutputStream.COMPRESSED;
+import static com.boot.StringsDSA.LzHuffmanOutputStream.DISTANCE_BASE;
+import static com.boot.StringsDSA.LzHuffmanOutputStream.DISTANCE_EXTRA;
+import static com.boot.StringsDSA.LzHuffmanOutputStream.DISTANCE_SYMBOLS;
+import static com.boot.StringsDSA.LzHuffmanOutputStream.LENGTH_BASE;
+import static com.boot.StringsDSA.LzHuffmanOutputStream.LENGTH_EXTRA;
+import static com.boot.StringsDSA.LzHuffmanOutputStream.LITERAL_LENGTH_SYMBOLS;
+import static com.boot.StringsDSA.LzHuffmanOutputStream.MAGIC;
+import static com.boot.StringsDSA.LzHuffmanOutputStream.STORED;
+import static com.boot.StringsDSA.LzHuffmanOutputStream.WINDOW_SIZE;
+
+/**
+ * Decompressing stream for the format written by {@link LzHuffmanOutputStream}.
+ *
+ * A block is read whole into a payload buffer and decoded into a window that
+ * keeps the last WINDOW_SIZE bytes of the previous blocks in front of it, so
+ * matches are copies within one array. Symbols are decoded MSB-first from a
+ * 64-bit bit buffer, refilled once per token (a token takes at most 48 bits),
+ * with one {@link HuffmanCode#decode} table lookup each. Every length,
+ * distance and code table is validated, so corrupt input fails with an
+ * IOException instead of an index error.
+ *
+ * Like the output stream, all buffers are allocated by the constructor and
+ * reused by {@link #reset(InputStream)}. Reads
+ * of the block headers go to the underlying stream a byte at a time; wrap
+ * unbuffered sources (files, sockets) in a BufferedInputStream. Not thread-safe.
+ */
+public class LzHuffmanInputStream extends InputStream {
+
+    private InputStream in;
+    private final byte[] window = new byte[WINDOW_SIZE + BLOCK_SIZE];
+    private int position;   // next byte to return
+    private int end;        // end of the decoded bytes
+    private final byte[] payload = new byte[BLOCK_SIZE];
+    private final int[] literalLengths = new int[LITERAL_LENGTH_SYMBOLS];
+    private final int[] distanceLengths = new int[DISTANCE_SYMBOLS];
+    private final HuffmanCode literalHuffman = new HuffmanCode(LITERAL_LENGTH_SYMBOLS);
+    private final HuffmanCode distanceHuffman = new HuffmanCode(DISTANCE_SYMBOLS);
+    private int payloadPosition;
+    private int payloadLength;
+    private int padding;      // zero bytes fed to the bit buffer past the payload
+    private long bitBuffer;   // left-aligned: the next bit is bit 63
+    private int bitCount;
+    private boolean endOfStream;
+    private boolean closed;
+
+    /**
+     * @throws IOException If the stream header can't be read or is not an LZ/Huffman header
+     */
+    public LzHuffmanInputStream(InputStream in) throws IOException {
+        this.in = in;
+        readMagic();
+    }
+
+    @Override
+    public int read() throws IOException {
+        ensureOpen();
+        if (position == end && !nextBlock()) {
+            return -1;
+        }
+        return window[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if (off < 0 || len < 0 || off + len > b.length || off + len < 0) {
+            throw new IndexOutOfBoundsException("Range [" + off + ", " + off + " + " + len + ") out of bounds for length " + b.length);
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (position == end && !nextBlock()) {
+            return -1;
+        }
+        int n = Math.min(len, end - position);
+        System.arraycopy(window, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    /**
+     * @return the bytes that can be read without decoding another block
+     */
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return end - position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            in.close();
+        }
+    }
+
+    /**
+     * Starts reading a new stream from in, reusing this stream's buffers. The
+     * previous underlying stream is not closed.
+     *
+     * @throws IOException If the stream header can't be read or is not an LZ/Huffman header
+     */
+    public void reset(InputStream in) throws IOException {
+        this.in = in;
+        position = 0;
+        end = 0;
+        endOfStream = false;
+        closed = false;
+        readMagic();
+    }
+
+    /**
+     * Decompresses data in one call.
+     *
+     * @throws IllegalArgumentException If data is not a complete LZ/Huffman stream
+     */
+    public static byte[] decompress(byte[] data) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length * 3);
+        try (LzHuffmanInputStream stream = new LzHuffmanInputStream(new ByteArrayInputStream(data))) {
+            stream.transferTo(bytes);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid compressed data: " + e.getMessage(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void readMagic() throws IOException {
+        for (byte expected : MAGIC) {
+            if (in.read() != expected) {
+                throw new IOException("Not an LZ/Huffman stream");
+            }
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private boolean nextBlock() throws IOException {
+        if (endOfStream) {
+            return false;
+        }
+        // Keep the last WINDOW_SIZE bytes for the matches of the next block
+        if (end > WINDOW_SIZE) {
+            System.arraycopy(window, end - WINDOW_SIZE, window, 0, WINDOW_SIZE);
+            end = WINDOW_SIZE;
+            position = WINDOW_SIZE;
+        }
+        int rawLength = readVarint();
+        if (rawLength == 0) {
+            endOfStream = true;
+            return false;
+        }
+        if (rawLength > BLOCK_SIZE) {
+            throw new IOException("Corrupt stream: block of " + rawLength + " bytes");
+        }
+        int type = in.read();
+        if (type == STORED) {
+            readFully(window, end, rawLength);
+        } else if (type == COMPRESSED) {
+            int length = readVarint();
+            if (length > BLOCK_SIZE) {
+                throw new IOException("Corrupt stream: payload of " + length + " bytes");
+            }
+            readFully(payload, 0, length);
+            decodeBlock(length, rawLength);
+        } else if (type < 0) {
+            throw new EOFException("Unexpected end of stream");
+        } else {
+            throw new IOException("Corrupt stream: unknown block type " + type);
+        }
+        end += rawLength;
+        return true;
+    }
+
+    private void decodeBlock(int length, int rawLength) throws IOException {
+        payloadPosition = 0;
+        payloadLength = length;
+        padding = 0;
+        bitBuffer = 0;
+        bitCount = 0;
+        for (int symbol = 0; symbol < LITERAL_LENGTH_SYMBOLS; symbol++) {
+            refill();
+            literalLengths[symbol] = readBits(4);
+        }
+        for (int symbol = 0; symbol < DISTANCE_SYMBOLS; symbol++) {
+            refill();
+            distanceLengths[symbol] = readBits(4);
+        }
+        try {
+            literalHuffman.setLengths(literalLengths);
+            distanceHuffman.setLengths(distanceLengths);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt stream: " + e.getMessage(), e);
+        }
+        literalHuffman.buildDecoder();
+        distanceHuffman.buildDecoder();
+
+        byte[] window = this.window;
+        int out = end;
+        int target = end + rawLength;
+        while (out < target) {
+            refill();
+            int symbol = readSymbol(literalHuffman);
+            if (symbol < 256) {
+                window[out++] = (byte) symbol;
+                continue;
+            }
+            int code = symbol - 256;
+            int matchLength = LENGTH_BASE[code] + readBits(LENGTH_EXTRA[code]);
+            code = readSymbol(distanceHuffman);
+            int distance = DISTANCE_BASE[code] + readBits(DISTANCE_EXTRA[code]);
+            if (distance > out || matchLength > target - out) {
+                throw new IOException("Corrupt stream: match of " + matchLength + " bytes at distance " + distance);
+            }
+            int from = out - distance;
+            if (distance >= matchLength) {
+                System.arraycopy(window, from, window, out, matchLength);
+                out += matchLength;
+            } else {
+                // Overlapping match: repeats the last distance bytes
+                for (int k = 0; k < matchLength; k++) {
+                    window[out++] = window[from++];
+                }
+            }
+        }
+        if (padding * 8 > bitCount) {
+            throw new IOException("Corrupt stream: block payload too short");
+        }
+    }
+
+    private int readSymbol(HuffmanCode code) throws IOException {
+        int entry = code.decode((int) (bitBuffer >>> (64 - code.maxLength())));
+        if (entry == 0) {
+            throw new IOException("Corrupt stream: invalid Huffman code");
+        }
+        int length = entry & 0xF;
+        bitBuffer <<= length;
+        bitCount -= length;
+        return entry >>> 4;
+    }
+
+    // The caller has refilled: at least 57 bits are buffered
+    private int readBits(int n) {
+        if (n == 0) {
+            return 0;
+        }
+        int value = (int) (bitBuffer >>> (64 - n));
+        bitBuffer <<= n;
+        bitCount -= n;
+        return value;
+    }
+
+    private void refill() {
+        while (bitCount <= 56) {
+            int b;
+            if (payloadPosition < payloadLength) {
+                b = payload[payloadPosition++] & 0xFF;
+            } else {
+                b = 0;
+                padding++;
+            }
+            bitBuffer |= (long) b << (56 - bitCount);
+            bitCount += 8;
+        }
+    }
+
+    private int readVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Unexpected end of stream");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException("Corrupt stream: invalid length");
+    }
+
+    private void readFully(byte[] buffer, int offset, int length) throws IOException {
+        if (in.readNBytes(buffer, offset, length) != length) {
+            throw new EOFException("Unexpected end of stream");
+        }
+    }
+}
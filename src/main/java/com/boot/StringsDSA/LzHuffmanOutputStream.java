@@ -0,0 +1,342 @@
+package com.boot.StringsDSA;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compressing stream of the LZ/Huffman block format: LZ77 tokens from a
+ * {@link Lz77MatchFinder}, entropy coded with two canonical {@link HuffmanCode}s
+ * as in deflate, one for literals and match lengths and one for distances.
+ * Read it back with {@link LzHuffmanInputStream}.
+ *
+ * Format (varints are unsigned LEB128):
+ * <pre>
+ *   stream := "LZH1" block* varint(0)
+ *   block  := varint(rawLength) 0x00 raw bytes                                  (stored)
+ *           | varint(rawLength) 0x01 varint(payloadLength) payload              (compressed)
+ *   payload := 4-bit code lengths of the 285 literal/length and 30 distance symbols,
+ *              then the tokens, codes and extra bits most significant bit first,
+ *              zero-padded to a byte
+ * </pre>
+ * Literal/length symbols 0 .. 255 are literals and 256 + c is deflate length
+ * code c; distance symbols are the deflate distance codes. A block holds at most
+ * BLOCK_SIZE bytes and its matches may reach back WINDOW_SIZE bytes into the
+ * previous blocks. A block that would not shrink is stored.
+ *
+ * The window, token, frequency and output buffers are allocated by the
+ * constructor, so writing allocates nothing however long the stream, and
+ * {@link #reset(OutputStream)} starts another stream on the same buffers. The
+ * level is the {@link Lz77MatchFinder} level. Not thread-safe.
+ */
+public class LzHuffmanOutputStream extends OutputStream {
+
+    public static final int BLOCK_SIZE = 1 << 17;
+
+    static final byte[] MAGIC = {'L', 'Z', 'H', '1'};
+    static final int STORED = 0;
+    static final int COMPRESSED = 1;
+    static final int WINDOW_SIZE = Lz77MatchFinder.WINDOW_SIZE;
+
+    static final int LITERAL_LENGTH_SYMBOLS = 256 + 29;
+    static final int DISTANCE_SYMBOLS = 30;
+    static final int[] LENGTH_BASE = {3, 4, 5, 6, 7, 8, 9, 10, 11, 13, 15, 17, 19, 23, 27, 31, 35, 43, 51, 59,
+            67, 83, 99, 115, 131, 163, 195, 227, 258};
+    static final int[] LENGTH_EXTRA = {0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 1, 1, 2, 2, 2, 2, 3, 3, 3, 3,
+            4, 4, 4, 4, 5, 5, 5, 5, 0};
+    static final int[] DISTANCE_BASE = {1, 2, 3, 4, 5, 7, 9, 13, 17, 25, 33, 49, 65, 97, 129, 193, 257, 385,
+            513, 769, 1025, 1537, 2049, 3073, 4097, 6145, 8193, 12289, 16385, 24577};
+    static final int[] DISTANCE_EXTRA = {0, 0, 0, 0, 1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7,
+            8, 8, 9, 9, 10, 10, 11, 11, 12, 12, 13, 13};
+
+    // LENGTH_CODE[length]; DISTANCE_CODE[d - 1] for d <= 256, DISTANCE_CODE[256 + ((d - 1) >> 7)] above
+    private static final byte[] LENGTH_CODE = new byte[Lz77MatchFinder.MAX_MATCH + 1];
+    private static final byte[] DISTANCE_CODE = new byte[512];
+
+    static {
+        for (int code = 0; code < LENGTH_BASE.length; code++) {
+            int end = code == LENGTH_BASE.length - 1 ? 259 : LENGTH_BASE[code + 1];
+            for (int length = LENGTH_BASE[code]; length < end; length++) {
+                LENGTH_CODE[length] = (byte) code;
+            }
+        }
+        for (int code = 0; code < DISTANCE_BASE.length; code++) {
+            int last = DISTANCE_BASE[code] + (1 << DISTANCE_EXTRA[code]) - 1;
+            for (int distance = DISTANCE_BASE[code]; distance <= last; distance++) {
+                int index = distance <= 256 ? distance - 1 : 256 + ((distance - 1) >> 7);
+                DISTANCE_CODE[index] = (byte) code;
+            }
+        }
+    }
+
+    private OutputStream out;
+    private final Lz77MatchFinder finder;
+    private final byte[] window = new byte[WINDOW_SIZE + BLOCK_SIZE];
+    private int blockStart;   // window[0, blockStart) is history, window[blockStart, end) pending input
+    private int end;
+    private final int[] tokens = new int[BLOCK_SIZE];
+    private final int[] literalFrequencies = new int[LITERAL_LENGTH_SYMBOLS];
+    private final int[] distanceFrequencies = new int[DISTANCE_SYMBOLS];
+    private final HuffmanCode literalHuffman = new HuffmanCode(LITERAL_LENGTH_SYMBOLS);
+    private final HuffmanCode distanceHuffman = new HuffmanCode(DISTANCE_SYMBOLS);
+    // Only blocks that shrink are encoded
+    private final byte[] payload = new byte[BLOCK_SIZE];
+    private final byte[] header = new byte[16];
+    private int payloadLength;
+    private long bitBuffer;
+    private int bitCount;
+    private long bytesIn;
+    private long bytesOut;
+    private boolean finished;
+
+    public LzHuffmanOutputStream(OutputStream out) throws IOException {
+        this(out, Lz77MatchFinder.DEFAULT_LEVEL);
+    }
+
+    /**
+     * @param level 1 (fastest) .. 9 (best ratio)
+     * @throws IOException If writing the stream header fails
+     */
+    public LzHuffmanOutputStream(OutputStream out, int level) throws IOException {
+        this.out = out;
+        this.finder = new Lz77MatchFinder(level);
+        out.write(MAGIC);
+        bytesOut = MAGIC.length;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (end - blockStart == BLOCK_SIZE) {
+            writeBlock();
+        }
+        window[end++] = (byte) b;
+        bytesIn++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if (off < 0 || len < 0 || off + len > b.length || off + len < 0) {
+            throw new IndexOutOfBoundsException("Range [" + off + ", " + off + " + " + len + ") out of bounds for length " + b.length);
+        }
+        while (len > 0) {
+            if (end - blockStart == BLOCK_SIZE) {
+                writeBlock();
+            }
+            int n = Math.min(len, BLOCK_SIZE - (end - blockStart));
+            System.arraycopy(b, off, window, end, n);
+            end += n;
+            off += n;
+            len -= n;
+            bytesIn += n;
+        }
+    }
+
+    /**
+     * Compresses the pending input as a (short) block and flushes the underlying
+     * stream. Frequent flushes cost ratio.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        if (end > blockStart) {
+            writeBlock();
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes the pending input and the end marker without closing the
+     * underlying stream.
+     *
+     * @throws IOException If writing fails
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        if (end > blockStart) {
+            writeBlock();
+        }
+        out.write(0);
+        bytesOut++;
+        finished = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Starts a new stream on out, reusing this stream's buffers. Input not yet
+     * written as a block is discarded and the previous underlying stream is
+     * neither finished nor closed.
+     *
+     * @throws IOException If writing the stream header fails
+     */
+    public void reset(OutputStream out) throws IOException {
+        this.out = out;
+        finder.reset();
+        blockStart = 0;
+        end = 0;
+        bytesIn = 0;
+        finished = false;
+        out.write(MAGIC);
+        bytesOut = MAGIC.length;
+    }
+
+    /**
+     * @return the number of uncompressed bytes written so far
+     */
+    public long bytesIn() {
+        return bytesIn;
+    }
+
+    /**
+     * @return the number of compressed bytes written to the underlying stream so far
+     */
+    public long bytesOut() {
+        return bytesOut;
+    }
+
+    /**
+     * Compresses data in one call.
+     */
+    public static byte[] compress(byte[] data, int level) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length / 2 + 64);
+        try (LzHuffmanOutputStream stream = new LzHuffmanOutputStream(bytes, level)) {
+            stream.write(data);
+        } catch (IOException e) {
+            throw new IllegalStateException("ByteArrayOutputStream can't fail", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (finished) {
+            throw new IOException("Stream finished");
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        int rawLength = end - blockStart;
+        int count = finder.tokenize(window, blockStart, end, tokens);
+        Arrays.fill(literalFrequencies, 0);
+        Arrays.fill(distanceFrequencies, 0);
+        long extraBits = 0;
+        for (int i = 0; i < count; i++) {
+            int token = tokens[i];
+            if (Lz77MatchFinder.isMatch(token)) {
+                int lengthSymbol = LENGTH_CODE[Lz77MatchFinder.matchLength(token)];
+                int distanceSymbol = distanceCode(Lz77MatchFinder.matchDistance(token));
+                literalFrequencies[256 + lengthSymbol]++;
+                distanceFrequencies[distanceSymbol]++;
+                extraBits += LENGTH_EXTRA[lengthSymbol] + DISTANCE_EXTRA[distanceSymbol];
+            } else {
+                literalFrequencies[token]++;
+            }
+        }
+        literalHuffman.build(literalFrequencies);
+        distanceHuffman.build(distanceFrequencies);
+
+        // The exact payload size is known before encoding: a block that doesn't shrink is stored
+        long bits = 4L * (LITERAL_LENGTH_SYMBOLS + DISTANCE_SYMBOLS) + extraBits
+                + literalHuffman.encodedBits(literalFrequencies) + distanceHuffman.encodedBits(distanceFrequencies);
+        int headerLength = writeVarint(header, 0, rawLength);
+        if ((bits + 7) / 8 < rawLength) {
+            encodeTokens(count);
+            header[headerLength++] = COMPRESSED;
+            headerLength = writeVarint(header, headerLength, payloadLength);
+            out.write(header, 0, headerLength);
+            out.write(payload, 0, payloadLength);
+            bytesOut += headerLength + payloadLength;
+        } else {
+            header[headerLength++] = STORED;
+            out.write(header, 0, headerLength);
+            out.write(window, blockStart, rawLength);
+            bytesOut += headerLength + rawLength;
+        }
+
+        // Keep the last WINDOW_SIZE bytes as history for the next block
+        if (end > WINDOW_SIZE) {
+            int shift = end - WINDOW_SIZE;
+            System.arraycopy(window, shift, window, 0, WINDOW_SIZE);
+            finder.slide(shift);
+            end = WINDOW_SIZE;
+        }
+        blockStart = end;
+    }
+
+    private void encodeTokens(int count) {
+        payloadLength = 0;
+        bitBuffer = 0;
+        bitCount = 0;
+        for (int symbol = 0; symbol < LITERAL_LENGTH_SYMBOLS; symbol++) {
+            writeBits(literalHuffman.length(symbol), 4);
+        }
+        for (int symbol = 0; symbol < DISTANCE_SYMBOLS; symbol++) {
+            writeBits(distanceHuffman.length(symbol), 4);
+        }
+        for (int i = 0; i < count; i++) {
+            int token = tokens[i];
+            if (Lz77MatchFinder.isMatch(token)) {
+                int length = Lz77MatchFinder.matchLength(token);
+                int code = LENGTH_CODE[length];
+                writeBits(literalHuffman.code(256 + code), literalHuffman.length(256 + code));
+                writeBits(length - LENGTH_BASE[code], LENGTH_EXTRA[code]);
+                int distance = Lz77MatchFinder.matchDistance(token);
+                code = distanceCode(distance);
+                writeBits(distanceHuffman.code(code), distanceHuffman.length(code));
+                writeBits(distance - DISTANCE_BASE[code], DISTANCE_EXTRA[code]);
+            } else {
+                writeBits(literalHuffman.code(token), literalHuffman.length(token));
+            }
+        }
+        if (bitCount > 0) {
+            writeBits(0, 8 - bitCount);
+        }
+    }
+
+    // n <= 16; bitCount stays below 8 between calls, so the buffer never overflows
+    private void writeBits(int value, int n) {
+        bitBuffer = bitBuffer << n | value;
+        bitCount += n;
+        while (bitCount >= 8) {
+            bitCount -= 8;
+            payload[payloadLength++] = (byte) (bitBuffer >>> bitCount);
+        }
+    }
+
+    static int distanceCode(int distance) {
+        return DISTANCE_CODE[distance <= 256 ? distance - 1 : 256 + ((distance - 1) >> 7)];
+    }
+
+    static int writeVarint(byte[] buffer, int offset, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[offset++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        buffer[offset++] = (byte) value;
+        return offset;
+    }
+
+    public static void main(String[] args) throws IOException {
+        byte[] text = "to be or not to be, that is the question; to be or not to be".repeat(100)
+                .getBytes(StandardCharsets.US_ASCII);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (LzHuffmanOutputStream out = new LzHuffmanOutputStream(bytes, 9)) {
+            out.write(text);
+        }
+        System.out.println(text.length + " -> " + bytes.size() + " bytes");
+        byte[] restored = LzHuffmanInputStream.decompress(bytes.toByteArray());
+        System.out.println(Arrays.equals(text, restored));   // true
+    }
+}
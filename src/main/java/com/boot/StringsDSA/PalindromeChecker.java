@@ -1,12 +1,16 @@
-// O(n^2) time / O(n) space
+package com.boot.StringsDSA;
+
+// O(n) time / O(1) space: compares chars from both ends, no reversed copy.
+// Takes any CharSequence, so a String, StringBuilder or Rope is checked in place.
 public class PalindromeChecker {
 
-    public static boolean isPalindrome(String string) {
-        String reversedString = "";
-        for (int i = string.length() - 1; i >= 0; i--) {
-            reversedString += string.charAt(i);
+    public static boolean isPalindrome(CharSequence string) {
+        for (int left = 0, right = string.length() - 1; left < right; left++, right--) {
+            if (string.charAt(left) != string.charAt(right)) {
+                return false;
+            }
         }
-        return string.equals(reversedString);
+        return true;
     }
 
     // Test method
@@ -17,5 +21,6 @@ public class PalindromeChecker {
         System.out.println(isPalindrome("madam"));   // true
         System.out.println(isPalindrome(""));        // true
         System.out.println(isPalindrome("a"));       // true
+        System.out.println(isPalindrome(Rope.of("step on").concat(" no pets")));  // true
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,265 @@
+package com.boot.StringsDSA;
+
+import java.util.Arrays;
+
+/**
+ * Compressed radix trie from String keys to long values, for prefix lookups
+ * (autocomplete) at a fraction of a TreeMap's memory.
+ *
+ * Chains of single-child nodes are collapsed into one node whose edge label is a
+ * range of a shared char[] pool: appending a key copies only the chars that no
+ * other key shares, and splitting an edge just narrows a range. Nodes are ints
+ * indexing parallel primitive arrays (label start/length, value, has-value);
+ * the children of a node are kept in a char[] of first label chars, sorted so
+ * lookups binary-search them and enumeration walks keys in sorted order.
+ *
+ * This trie is not thread-safe. {@link #freeze()} takes an immutable, compacted
+ * {@link FrozenRadixTrie} snapshot that any number of threads can query without
+ * locks while this trie keeps changing.
+ */
+public class RadixTrie extends AbstractRadixTrie {
+
+    /** Functional interface for {@link #forEachWithPrefix}. */
+    public interface EntryConsumer {
+        void accept(CharSequence key, long value);
+    }
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final int[] NO_NODES = new int[0];
+
+    private char[] labels = new char[64];
+    private int labelsLength;
+
+    private int[] labelStart = new int[16];
+    private int[] labelLength = new int[16];
+    private long[] values = new long[16];
+    private boolean[] hasValue = new boolean[16];
+    private char[][] childKeys = new char[16][];
+    private int[][] childNodes = new int[16][];
+    private int[] childCount = new int[16];
+    private int nodeCount;
+    private int size;
+
+    public RadixTrie() {
+        this(0);
+    }
+
+    /**
+     * @param missingValue value returned by {@link #get(CharSequence)} for absent keys
+     */
+    public RadixTrie(long missingValue) {
+        super(missingValue);
+        newNode(0, 0); // root
+    }
+
+    /**
+     * @return the previous value for key, or the missing value if there was none
+     */
+    public long put(CharSequence key, long value) {
+        int node = ROOT;
+        int i = 0;
+        while (i < key.length()) {
+            char c = key.charAt(i);
+            int k = indexOfChild(node, c);
+            if (k < 0) {
+                int leaf = newNode(appendLabel(key, i), key.length() - i);
+                insertChild(node, -(k + 1), c, leaf);
+                node = leaf;
+                break;
+            }
+            int child = childNodes[node][k];
+            int start = labelStart[child];
+            int length = labelLength[child];
+            int matched = 1;
+            while (matched < length && i + matched < key.length() && labels[start + matched] == key.charAt(i + matched)) {
+                matched++;
+            }
+            if (matched < length) {
+                // Split the edge: a new node takes the matched part of the label
+                int middle = newNode(start, matched);
+                childNodes[node][k] = middle;
+                labelStart[child] = start + matched;
+                labelLength[child] = length - matched;
+                insertChild(middle, 0, labels[start + matched], child);
+                child = middle;
+            }
+            node = child;
+            i += matched;
+        }
+        long previous = hasValue[node] ? values[node] : missingValue;
+        if (!hasValue[node]) {
+            hasValue[node] = true;
+            size++;
+        }
+        values[node] = value;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of trie nodes, including the root
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Copies the trie into an immutable, compacted form. Later changes to this
+     * trie do not affect the snapshot.
+     */
+    public FrozenRadixTrie freeze() {
+        // Breadth-first numbering makes the children of every node a contiguous range
+        int[] order = new int[nodeCount];
+        int[] firstChild = new int[nodeCount + 1];
+        char[] firstChar = new char[nodeCount];
+        int head = 0;
+        int tail = 1;
+        order[0] = ROOT;
+        while (head < tail) {
+            int node = order[head];
+            firstChild[head] = tail;
+            for (int k = 0; k < childCount[node]; k++) {
+                firstChar[tail] = childKeys[node][k];
+                order[tail++] = childNodes[node][k];
+            }
+            head++;
+        }
+        firstChild[nodeCount] = nodeCount;
+
+        int[] frozenLabelStart = new int[nodeCount + 1];
+        int labelChars = 0;
+        for (int id = 0; id < nodeCount; id++) {
+            labelChars += labelLength[order[id]];
+        }
+        char[] frozenLabels = new char[labelChars];
+        long[] frozenValues = new long[nodeCount];
+        long[] frozenHasValue = new long[(nodeCount + 63) >>> 6];
+        int position = 0;
+        for (int id = 0; id < nodeCount; id++) {
+            int node = order[id];
+            frozenLabelStart[id] = position;
+            System.arraycopy(labels, labelStart[node], frozenLabels, position, labelLength[node]);
+            position += labelLength[node];
+            if (hasValue[node]) {
+                frozenValues[id] = values[node];
+                frozenHasValue[id >>> 6] |= 1L << id;
+            }
+        }
+        frozenLabelStart[nodeCount] = position;
+        return new FrozenRadixTrie(missingValue, size, firstChild, firstChar, frozenLabels, frozenLabelStart,
+                frozenValues, frozenHasValue);
+    }
+
+    @Override
+    int childCount(int node) {
+        return childCount[node];
+    }
+
+    @Override
+    int child(int node, int k) {
+        return childNodes[node][k];
+    }
+
+    @Override
+    int findChild(int node, char c) {
+        int k = indexOfChild(node, c);
+        return k < 0 ? -1 : childNodes[node][k];
+    }
+
+    @Override
+    int labelStart(int node) {
+        return labelStart[node];
+    }
+
+    @Override
+    int labelLength(int node) {
+        return labelLength[node];
+    }
+
+    @Override
+    char labelChar(int index) {
+        return labels[index];
+    }
+
+    @Override
+    boolean hasValue(int node) {
+        return hasValue[node];
+    }
+
+    @Override
+    long value(int node) {
+        return values[node];
+    }
+
+    // Index of the child starting with c, or -(insertion point + 1)
+    private int indexOfChild(int node, char c) {
+        return Arrays.binarySearch(childKeys[node], 0, childCount[node], c);
+    }
+
+    private void insertChild(int node, int index, char c, int child) {
+        int count = childCount[node];
+        if (count == childKeys[node].length) {
+            int capacity = Math.max(2, count * 2);
+            childKeys[node] = Arrays.copyOf(childKeys[node], capacity);
+            childNodes[node] = Arrays.copyOf(childNodes[node], capacity);
+        }
+        System.arraycopy(childKeys[node], index, childKeys[node], index + 1, count - index);
+        System.arraycopy(childNodes[node], index, childNodes[node], index + 1, count - index);
+        childKeys[node][index] = c;
+        childNodes[node][index] = child;
+        childCount[node] = count + 1;
+    }
+
+    private int appendLabel(CharSequence key, int from) {
+        int length = key.length() - from;
+        if (labelsLength + length > labels.length) {
+            labels = Arrays.copyOf(labels, Math.max(labels.length * 2, labelsLength + length));
+        }
+        int start = labelsLength;
+        for (int i = 0; i < length; i++) {
+            labels[start + i] = key.charAt(from + i);
+        }
+        labelsLength += length;
+        return start;
+    }
+
+    private int newNode(int start, int length) {
+        if (nodeCount == labelStart.length) {
+            int capacity = nodeCount * 2;
+            labelStart = Arrays.copyOf(labelStart, capacity);
+            labelLength = Arrays.copyOf(labelLength, capacity);
+            values = Arrays.copyOf(values, capacity);
+            hasValue = Arrays.copyOf(hasValue, capacity);
+            childKeys = Arrays.copyOf(childKeys, capacity);
+            childNodes = Arrays.copyOf(childNodes, capacity);
+            childCount = Arrays.copyOf(childCount, capacity);
+        }
+        int node = nodeCount++;
+        labelStart[node] = start;
+        labelLength[node] = length;
+        childKeys[node] = NO_KEYS;
+        childNodes[node] = NO_NODES;
+        return node;
+    }
+
+    public static void main(String[] args) {
+        RadixTrie trie = new RadixTrie(-1);
+        String[] products = {"apple", "apple pie", "applesauce", "apricot", "banana", "band"};
+        for (int i = 0; i < products.length; i++) {
+            trie.put(products[i], i);
+        }
+        System.out.println(trie.get("apricot"));                    // 3
+        System.out.println(trie.get("app"));                        // -1
+        System.out.println(trie.keysWithPrefix("app", 10));         // [apple, apple pie, applesauce]
+
+        FrozenRadixTrie snapshot = trie.freeze();
+        trie.put("banjo", 6);
+        System.out.println(snapshot.keysWithPrefix("ban", 10));     // [banana, band]
+        System.out.println(trie.keysWithPrefix("ban", 2));          // [banana, band]
+        System.out.println(snapshot.sizeInBytes() + " bytes for " + snapshot.size() + " keys");
+    }
+}
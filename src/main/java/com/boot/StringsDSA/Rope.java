@@ -0,0 +1,442 @@
+package com.boot.StringsDSA;
+
+/**
+ * Persistent rope: an immutable text stored as a balanced binary tree whose
+ * leaves are char chunks, for editing large documents without copying them.
+ *
+ * Every edit returns a new Rope and leaves the old one intact; only the O(log n)
+ * nodes on the path to the edit are new, everything else (including the char
+ * arrays) is shared between versions:
+ *  - concat joins two trees AVL-style, rotating along the spine of the taller one
+ *  - split cuts along one root-to-leaf path; leaves are split by sharing their
+ *    char[] with a different offset, so no chars are copied
+ *  - insert, delete, replace and subSequence are two splits and concats
+ *  - on concat the two leaves that meet at the seam are merged when they fit
+ *    in one leaf, however deep they are, so many tiny edits don't degrade the
+ *    tree into single-char leaves
+ *
+ * Rope implements CharSequence, so String-based algorithms can consume it
+ * directly. charAt is O(log n), but the two most recently used leaves are
+ * remembered, so forward, backward and two-pointer scans cost O(1) per char
+ * outside leaf boundaries. A Rope is immutable and can be shared by threads.
+ */
+public final class Rope implements CharSequence {
+
+    /** Receives the chars of a rope chunk by chunk, see {@link #forEachChunk}. */
+    public interface ChunkConsumer {
+        void accept(char[] chars, int from, int to);
+    }
+
+    private static final int MAX_LEAF = 1024;
+
+    private static final char[] NO_CHARS = new char[0];
+    private static final Rope EMPTY = new Rope(new Leaf(NO_CHARS, 0, 0));
+
+    private final Node root;
+
+    // Leaves found by the last two charAt misses. Races only cost a lookup: cursors are immutable.
+    private Cursor recent;
+    private Cursor previous;
+
+    private Rope(Node root) {
+        this.root = root;
+    }
+
+    public static Rope empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a rope with the chars of text (copied once, unless text is a Rope).
+     */
+    public static Rope of(CharSequence text) {
+        if (text instanceof Rope) {
+            return (Rope) text;
+        }
+        return text.length() == 0 ? EMPTY : new Rope(build(text));
+    }
+
+    @Override
+    public int length() {
+        return root.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root.length == 0;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= root.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + root.length);
+        }
+        Cursor cursor = recent;
+        if (cursor != null && cursor.contains(index)) {
+            return cursor.charAt(index);
+        }
+        Cursor older = previous;
+        if (older != null && older.contains(index)) {
+            return older.charAt(index);
+        }
+        Node node = root;
+        int start = 0;
+        while (node instanceof Concat) {
+            Concat concat = (Concat) node;
+            if (index - start < concat.left.length) {
+                node = concat.left;
+            } else {
+                start += concat.left.length;
+                node = concat.right;
+            }
+        }
+        Cursor found = new Cursor((Leaf) node, start);
+        previous = cursor;
+        recent = found;
+        return found.charAt(index);
+    }
+
+    /**
+     * @return the rope of chars [from, to), sharing this rope's chunks
+     */
+    @Override
+    public Rope subSequence(int from, int to) {
+        checkRange(from, to);
+        if (from == 0 && to == root.length) {
+            return this;
+        }
+        Node right = split(root, from)[1];
+        return wrap(split(right, to - from)[0]);
+    }
+
+    public Rope concat(CharSequence text) {
+        return insert(root.length, text);
+    }
+
+    public Rope insert(int index, CharSequence text) {
+        if (index < 0 || index > root.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + root.length);
+        }
+        if (text.length() == 0) {
+            return this;
+        }
+        Node inserted = text instanceof Rope ? ((Rope) text).root : build(text);
+        if (index == root.length) {
+            return wrap(concat(root, inserted));
+        }
+        if (index == 0) {
+            return wrap(concat(inserted, root));
+        }
+        Node[] parts = split(root, index);
+        return wrap(concat(concat(parts[0], inserted), parts[1]));
+    }
+
+    /**
+     * @return this rope without the chars [from, to)
+     */
+    public Rope delete(int from, int to) {
+        checkRange(from, to);
+        if (from == to) {
+            return this;
+        }
+        Node[] head = split(root, from);
+        Node[] tail = split(head[1], to - from);
+        return wrap(concat(head[0], tail[1]));
+    }
+
+    /**
+     * @return this rope with the chars [from, to) replaced by text
+     */
+    public Rope replace(int from, int to, CharSequence text) {
+        return delete(from, to).insert(from, text);
+    }
+
+    /**
+     * Passes the chars to consumer in order, one leaf chunk at a time, without copying.
+     * The consumer must not modify the arrays.
+     */
+    public void forEachChunk(ChunkConsumer consumer) {
+        forEachChunk(root, consumer);
+    }
+
+    /**
+     * Copies chars [from, to) into destination at position at.
+     */
+    public void getChars(int from, int to, char[] destination, int at) {
+        checkRange(from, to);
+        copy(root, from, to, destination, at);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[root.length];
+        copy(root, 0, root.length, chars, 0);
+        return new String(chars);
+    }
+
+    // Tree height, leaves are 0
+    int height() {
+        return root.height;
+    }
+
+    int leafCount() {
+        return leafCount(root);
+    }
+
+    private static Rope wrap(Node node) {
+        return node.length == 0 ? EMPTY : new Rope(node);
+    }
+
+    private void checkRange(int from, int to) {
+        if (from < 0 || to > root.length || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + root.length);
+        }
+    }
+
+    // Balanced tree over chunks of MAX_LEAF chars
+    private static Node build(CharSequence text) {
+        int length = text.length();
+        int leafCount = (length + MAX_LEAF - 1) / MAX_LEAF;
+        Node[] level = new Node[leafCount];
+        for (int k = 0; k < leafCount; k++) {
+            int from = k * MAX_LEAF;
+            int to = Math.min(length, from + MAX_LEAF);
+            char[] chars = new char[to - from];
+            if (text instanceof String) {
+                ((String) text).getChars(from, to, chars, 0);
+            } else {
+                for (int i = from; i < to; i++) {
+                    chars[i - from] = text.charAt(i);
+                }
+            }
+            level[k] = new Leaf(chars, 0, chars.length);
+        }
+        return balanced(level, 0, leafCount);
+    }
+
+    // Halving keeps sibling heights within one of each other
+    private static Node balanced(Node[] leaves, int from, int to) {
+        if (to - from == 1) {
+            return leaves[from];
+        }
+        int middle = (from + to) >>> 1;
+        return new Concat(balanced(leaves, from, middle), balanced(leaves, middle, to));
+    }
+
+    // Concatenation that merges the leaves meeting at the seam (the last leaf of
+    // left and the first of right) when they fit in one, wherever they sit in the trees
+    private static Node concat(Node left, Node right) {
+        if (left.length == 0) {
+            return right;
+        }
+        if (right.length == 0) {
+            return left;
+        }
+        Leaf last = lastLeaf(left);
+        Leaf first = firstLeaf(right);
+        if (last.length + first.length > MAX_LEAF) {
+            return join(left, right);
+        }
+        return join(join(withoutLastLeaf(left), merge(last, first)), withoutFirstLeaf(right));
+    }
+
+    private static Leaf lastLeaf(Node node) {
+        while (node instanceof Concat) {
+            node = ((Concat) node).right;
+        }
+        return (Leaf) node;
+    }
+
+    private static Leaf firstLeaf(Node node) {
+        while (node instanceof Concat) {
+            node = ((Concat) node).left;
+        }
+        return (Leaf) node;
+    }
+
+    // Rejoining along the spine keeps the tree balanced, in O(height)
+    private static Node withoutLastLeaf(Node node) {
+        if (node instanceof Leaf) {
+            return EMPTY.root;
+        }
+        Concat concat = (Concat) node;
+        return join(concat.left, withoutLastLeaf(concat.right));
+    }
+
+    private static Node withoutFirstLeaf(Node node) {
+        if (node instanceof Leaf) {
+            return EMPTY.root;
+        }
+        Concat concat = (Concat) node;
+        return join(withoutFirstLeaf(concat.left), concat.right);
+    }
+
+    private static Leaf merge(Leaf left, Leaf right) {
+        char[] chars = new char[left.length + right.length];
+        System.arraycopy(left.chars, left.offset, chars, 0, left.length);
+        System.arraycopy(right.chars, right.offset, chars, left.length, right.length);
+        return new Leaf(chars, 0, chars.length);
+    }
+
+    // AVL join: the result is balanced if both inputs are, in O(|height difference| + 1)
+    private static Node join(Node left, Node right) {
+        if (left.length == 0) {
+            return right;
+        }
+        if (right.length == 0) {
+            return left;
+        }
+        if (left.height > right.height + 1) {
+            Concat l = (Concat) left;
+            Node t = join(l.right, right);
+            if (t.height <= l.left.height + 1) {
+                return new Concat(l.left, t);
+            }
+            Concat tc = (Concat) t;
+            if (tc.left.height <= tc.right.height) {
+                return new Concat(new Concat(l.left, tc.left), tc.right);
+            }
+            Concat inner = (Concat) tc.left;
+            return new Concat(new Concat(l.left, inner.left), new Concat(inner.right, tc.right));
+        }
+        if (right.height > left.height + 1) {
+            Concat r = (Concat) right;
+            Node t = join(left, r.left);
+            if (t.height <= r.right.height + 1) {
+                return new Concat(t, r.right);
+            }
+            Concat tc = (Concat) t;
+            if (tc.right.height <= tc.left.height) {
+                return new Concat(tc.left, new Concat(tc.right, r.right));
+            }
+            Concat inner = (Concat) tc.right;
+            return new Concat(new Concat(tc.left, inner.left), new Concat(inner.right, r.right));
+        }
+        return new Concat(left, right);
+    }
+
+    // [chars before index, chars from index]
+    private static Node[] split(Node node, int index) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            return new Node[]{
+                    new Leaf(leaf.chars, leaf.offset, index),
+                    new Leaf(leaf.chars, leaf.offset + index, leaf.length - index)};
+        }
+        Concat concat = (Concat) node;
+        int leftLength = concat.left.length;
+        if (index == leftLength) {
+            return new Node[]{concat.left, concat.right};
+        }
+        if (index < leftLength) {
+            Node[] parts = split(concat.left, index);
+            parts[1] = join(parts[1], concat.right);
+            return parts;
+        }
+        Node[] parts = split(concat.right, index - leftLength);
+        parts[0] = join(concat.left, parts[0]);
+        return parts;
+    }
+
+    private static void copy(Node node, int from, int to, char[] destination, int at) {
+        while (node instanceof Concat) {
+            Concat concat = (Concat) node;
+            int leftLength = concat.left.length;
+            if (to <= leftLength) {
+                node = concat.left;
+            } else if (from >= leftLength) {
+                node = concat.right;
+                from -= leftLength;
+                to -= leftLength;
+            } else {
+                copy(concat.left, from, leftLength, destination, at);
+                at += leftLength - from;
+                node = concat.right;
+                from = 0;
+                to -= leftLength;
+            }
+        }
+        Leaf leaf = (Leaf) node;
+        System.arraycopy(leaf.chars, leaf.offset + from, destination, at, to - from);
+    }
+
+    private static int leafCount(Node node) {
+        return node instanceof Concat ? leafCount(((Concat) node).left) + leafCount(((Concat) node).right) : 1;
+    }
+
+    private static void forEachChunk(Node node, ChunkConsumer consumer) {
+        while (node instanceof Concat) {
+            forEachChunk(((Concat) node).left, consumer);
+            node = ((Concat) node).right;
+        }
+        Leaf leaf = (Leaf) node;
+        if (leaf.length > 0) {
+            consumer.accept(leaf.chars, leaf.offset, leaf.offset + leaf.length);
+        }
+    }
+
+    private abstract static class Node {
+        final int length;
+        final int height;
+
+        Node(int length, int height) {
+            this.length = length;
+            this.height = height;
+        }
+    }
+
+    private static final class Leaf extends Node {
+        final char[] chars;
+        final int offset;
+
+        Leaf(char[] chars, int offset, int length) {
+            super(length, 0);
+            this.chars = chars;
+            this.offset = offset;
+        }
+    }
+
+    private static final class Concat extends Node {
+        final Node left;
+        final Node right;
+
+        Concat(Node left, Node right) {
+            super(left.length + right.length, Math.max(left.height, right.height) + 1);
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    private static final class Cursor {
+        final Leaf leaf;
+        final int start;
+
+        Cursor(Leaf leaf, int start) {
+            this.leaf = leaf;
+            this.start = start;
+        }
+
+        boolean contains(int index) {
+            return index >= start && index < start + leaf.length;
+        }
+
+        char charAt(int index) {
+            return leaf.chars[leaf.offset + index - start];
+        }
+    }
+
+    public static void main(String[] args) {
+        Rope v1 = Rope.of("Hello world");
+        Rope v2 = v1.insert(5, ",").concat("!");
+        Rope v3 = v2.replace(7, 12, "rope");
+        System.out.println(v1);                     // Hello world
+        System.out.println(v2);                     // Hello, world!
+        System.out.println(v3);                     // Hello, rope!
+        System.out.println(v3.subSequence(7, 11));  // rope
+        System.out.println(v3.delete(5, 11));       // Hello!
+
+        // Consumed as a CharSequence without converting to a String first
+        Rope palindrome = Rope.of("race").concat("car");
+        System.out.println(PalindromeChecker.isPalindrome(palindrome));   // true
+    }
+}
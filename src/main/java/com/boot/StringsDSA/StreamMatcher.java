@@ -0,0 +1,189 @@
+package com.boot.StringsDSA;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Single-pattern substring search over arbitrarily large byte streams (grep over
+ * archives), in guaranteed linear time and constant memory.
+ *
+ * The pattern's KMP failure function (for every prefix, the length of its
+ * longest proper border) is computed once. The stream is then read through one
+ * fixed-size direct ByteBuffer and each byte is consumed exactly once: on a
+ * mismatch the automaton falls back along the failure function instead of
+ * re-reading input, so the scan never backtracks and the match state simply
+ * carries over from one chunk to the next. Matches that straddle a chunk
+ * boundary are found like any other. While no prefix of the pattern is
+ * matched, the scan skips ahead to the next occurrence of the pattern's first
+ * byte.
+ *
+ * Memory is the pattern, its failure table and the buffer, whatever the stream
+ * size. A matcher is immutable and can be shared by threads; every scan uses
+ * its own buffer and state.
+ */
+public final class StreamMatcher {
+
+    /** Receives the offset of the first byte of every match, counted from the start of the stream. */
+    public interface MatchListener {
+        void match(long offset);
+    }
+
+    public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
+    private final byte[] pattern;
+    private final int[] failure;
+    private final int bufferSize;
+
+    private StreamMatcher(byte[] pattern, int bufferSize) {
+        if (pattern.length == 0) {
+            throw new IllegalArgumentException("Pattern must not be empty");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+        this.pattern = pattern.clone();
+        this.failure = failureFunction(this.pattern);
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Matches the UTF-8 encoding of pattern.
+     */
+    public static StreamMatcher of(CharSequence pattern) {
+        return of(pattern.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static StreamMatcher of(byte[] pattern) {
+        return new StreamMatcher(pattern, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param bufferSize size in bytes of the direct buffer each scan reads through
+     */
+    public static StreamMatcher of(byte[] pattern, int bufferSize) {
+        return new StreamMatcher(pattern, bufferSize);
+    }
+
+    /**
+     * Reads the channel to its end and reports every match, including
+     * overlapping ones. The channel is not closed.
+     *
+     * @return the number of matches
+     * @throws IOException If reading fails
+     */
+    public long scan(ReadableByteChannel channel, MatchListener listener) throws IOException {
+        return scan(channel, ByteBuffer.allocateDirect(bufferSize), listener);
+    }
+
+    /**
+     * Like {@link #scan(ReadableByteChannel, MatchListener)}, reading through the
+     * given (reusable) buffer instead of allocating one.
+     */
+    public long scan(ReadableByteChannel channel, ByteBuffer buffer, MatchListener listener) throws IOException {
+        byte[] pattern = this.pattern;
+        int[] failure = this.failure;
+        int m = pattern.length;
+        byte first = pattern[0];
+
+        long count = 0;
+        long position = 0;  // stream offset of buffer index 0
+        int state = 0;      // length of the pattern prefix matched so far
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer);
+            if (read < 0) {
+                return count;
+            }
+            int i = 0;
+            while (i < read) {
+                if (state == 0) {
+                    while (i < read && buffer.get(i) != first) {
+                        i++;
+                    }
+                    if (i == read) {
+                        break;
+                    }
+                }
+                byte b = buffer.get(i++);
+                while (state > 0 && pattern[state] != b) {
+                    state = failure[state - 1];
+                }
+                if (pattern[state] == b) {
+                    state++;
+                }
+                if (state == m) {
+                    count++;
+                    listener.match(position + i - m);
+                    state = failure[m - 1];
+                }
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Scans a file, see {@link #scan(ReadableByteChannel, MatchListener)}.
+     *
+     * @throws IOException If reading the file fails
+     */
+    public long scan(Path file, MatchListener listener) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return scan(channel, listener);
+        }
+    }
+
+    /**
+     * @return the number of (possibly overlapping) matches in the file
+     * @throws IOException If reading the file fails
+     */
+    public long count(Path file) throws IOException {
+        return scan(file, offset -> { });
+    }
+
+    public int patternLength() {
+        return pattern.length;
+    }
+
+    // failure[i] = length of the longest proper prefix of pattern[0..i] that is also its suffix
+    private static int[] failureFunction(byte[] pattern) {
+        int[] failure = new int[pattern.length];
+        int k = 0;
+        for (int i = 1; i < pattern.length; i++) {
+            while (k > 0 && pattern[k] != pattern[i]) {
+                k = failure[k - 1];
+            }
+            if (pattern[k] == pattern[i]) {
+                k++;
+            }
+            failure[i] = k;
+        }
+        return failure;
+    }
+
+    public static void main(String[] args) throws IOException {
+        StreamMatcher matcher = StreamMatcher.of("abab".getBytes(StandardCharsets.US_ASCII), 3);
+        byte[] text = "xababababx".getBytes(StandardCharsets.US_ASCII);
+        StringBuilder offsets = new StringBuilder();
+        // 3-byte chunks: every match crosses a chunk boundary
+        long count = matcher.scan(Channels.newChannel(new ByteArrayInputStream(text)),
+                offset -> offsets.append(offset).append(' '));
+        System.out.println(count + " matches at " + offsets.toString().trim());   // 3 matches at 1 3 5
+
+        // Usage on a large file: java com.boot.StringsDSA.StreamMatcher pattern archive.log
+        if (args.length > 1) {
+            Path file = Path.of(args[1]);
+            long start = System.nanoTime();
+            long matches = StreamMatcher.of(args[0]).count(file);
+            long nanos = System.nanoTime() - start;
+            System.out.printf("%d matches in %d ms (%.0f MB/s)%n", matches, nanos / 1_000_000,
+                    file.toFile().length() / 1e6 / (nanos / 1e9));
+        }
+    }
+}
@@ -0,0 +1,654 @@
+package com.boot.StringsDSA;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Suffix array + LCP index over a text, for substring queries on large corpora
+ * that naive substring comparison can't handle.
+ *
+ * The text is indexed as bytes (CharSequence input is UTF-8 encoded, whose byte
+ * order is code point order), so positions and lengths are byte offsets:
+ *  - the suffix array is built with SA-IS (Nong, Zhang and Chan, "Linear Suffix
+ *    Array Construction by Almost Pure Induced-Sorting", 2009) in O(n) time
+ *  - the LCP array (longest common prefix of neighbouring suffixes) with Kasai's
+ *    algorithm, also O(n)
+ *  - count / locate binary-search the suffix array in O(m log n), skipping the
+ *    prefix already known to match both search bounds
+ *  - longestRepeated is the maximum of the LCP array
+ *
+ * The index holds one byte[] and two int[] (9 bytes per text byte, plus one more
+ * int[] temporarily while building). {@link #save(Path)} writes it to a file that
+ * {@link #open(Path)} maps read-only in regions of at most 1 GB, so a saved index
+ * is queried straight from the page cache without being rebuilt or loaded.
+ * An index is immutable and can be shared by threads.
+ */
+public class SuffixArray {
+
+    private static final long MAGIC = 0x53_55_46_46_41_52_52_31L; // "SUFFARR1"
+    private static final int VERSION = 1;
+
+    // Header: magic, version, text length, UTF-8 flag; then text (padded to 4 bytes), suffix array, LCP array
+    private static final int HEADER_BYTES = 32;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 8;
+    private static final int LENGTH_OFFSET = 12;
+    private static final int UTF8_OFFSET = 16;
+
+    private static final int REGION_SHIFT = 30;                 // 1 GB per mapping
+    private static final int REGION_MASK = (1 << REGION_SHIFT) - 1;
+    private static final int INT_REGION_SHIFT = REGION_SHIFT - 2;
+    private static final int INT_REGION_MASK = (1 << INT_REGION_SHIFT) - 1;
+
+    /**
+     * Result of {@link #longestRepeated()}.
+     */
+    public static final class Repeat {
+        private final int position;
+        private final int length;
+        private final int occurrences;
+        private final String text;
+
+        Repeat(int position, int length, int occurrences, String text) {
+            this.position = position;
+            this.length = length;
+            this.occurrences = occurrences;
+            this.text = text;
+        }
+
+        /** @return byte offset of the first occurrence (in suffix order) */
+        public int getPosition() {
+            return position;
+        }
+
+        /** @return length in bytes */
+        public int getLength() {
+            return length;
+        }
+
+        public int getOccurrences() {
+            return occurrences;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public String toString() {
+            return "Repeat{text='" + text + "', position=" + position + ", length=" + length
+                    + ", occurrences=" + occurrences + "}";
+        }
+    }
+
+    private final int length;
+    private final boolean utf8;
+
+    // Built in memory: arrays; opened from a file: mapped regions
+    private final byte[] text;
+    private final int[] suffixes;
+    private final int[] lcp;
+    private final MappedByteBuffer[] textRegions;
+    private final MappedByteBuffer[] suffixRegions;
+    private final MappedByteBuffer[] lcpRegions;
+
+    private SuffixArray(byte[] text, int length, boolean utf8, int[] suffixes, int[] lcp) {
+        this.length = length;
+        this.utf8 = utf8;
+        this.text = text;
+        this.suffixes = suffixes;
+        this.lcp = lcp;
+        this.textRegions = null;
+        this.suffixRegions = null;
+        this.lcpRegions = null;
+    }
+
+    private SuffixArray(int length, boolean utf8, MappedByteBuffer[] textRegions, MappedByteBuffer[] suffixRegions,
+                        MappedByteBuffer[] lcpRegions) {
+        this.length = length;
+        this.utf8 = utf8;
+        this.text = null;
+        this.suffixes = null;
+        this.lcp = null;
+        this.textRegions = textRegions;
+        this.suffixRegions = suffixRegions;
+        this.lcpRegions = lcpRegions;
+    }
+
+    /**
+     * Indexes the UTF-8 encoding of text.
+     */
+    public static SuffixArray build(CharSequence text) {
+        return build(text.toString().getBytes(StandardCharsets.UTF_8), true);
+    }
+
+    /**
+     * Indexes raw bytes. The array is used as is and must not be modified afterwards.
+     */
+    public static SuffixArray build(byte[] text) {
+        return build(text, false);
+    }
+
+    /**
+     * Indexes the content of a UTF-8 file (at most 2 GB).
+     *
+     * @throws IOException If reading the file fails
+     */
+    public static SuffixArray build(Path file) throws IOException {
+        return build(Files.readAllBytes(file), true);
+    }
+
+    private static SuffixArray build(byte[] text, boolean utf8) {
+        int n = text.length;
+        if (n > Integer.MAX_VALUE - 16) {
+            throw new IllegalArgumentException("Text too large: " + n + " bytes");
+        }
+        // SA-IS needs a unique smallest sentinel at the end: symbols are byte + 1, the sentinel is 0.
+        // The sentinel suffix sorts first; shifting it out leaves the suffix array in suffixes[0, n).
+        int[] suffixes = new int[n + 1];
+        if (n > 0) {
+            sais(new ByteSymbols(text), suffixes, n + 1, 256);
+            System.arraycopy(suffixes, 1, suffixes, 0, n);
+        }
+        return new SuffixArray(text, n, utf8, suffixes, kasai(text, suffixes, n));
+    }
+
+    /**
+     * @return the text length in bytes
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @return the start of the suffix with the given rank in sorted order
+     */
+    public int suffixAt(int rank) {
+        return suffixes != null ? suffixes[rank] : getInt(suffixRegions, rank);
+    }
+
+    /**
+     * @return the length of the common prefix of the suffixes ranked rank - 1 and rank (0 for rank 0)
+     */
+    public int lcpAt(int rank) {
+        return lcp != null ? lcp[rank] : getInt(lcpRegions, rank);
+    }
+
+    /**
+     * @return the number of occurrences of pattern (UTF-8 encoded) in the text
+     */
+    public int count(CharSequence pattern) {
+        return count(pattern.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int count(byte[] pattern) {
+        return upperBound(pattern) - lowerBound(pattern);
+    }
+
+    /**
+     * @return the byte offsets of all occurrences of pattern, ascending
+     */
+    public int[] locate(CharSequence pattern) {
+        return locate(pattern.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int[] locate(byte[] pattern) {
+        int from = lowerBound(pattern);
+        int to = upperBound(pattern);
+        int[] positions = new int[to - from];
+        for (int rank = from; rank < to; rank++) {
+            positions[rank - from] = suffixAt(rank);
+        }
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    /**
+     * Finds the longest substring that occurs at least twice (occurrences may
+     * overlap). For UTF-8 text only whole characters are considered.
+     *
+     * @return the longest repeat, or null if no byte occurs twice
+     */
+    public Repeat longestRepeated() {
+        int bestRank = -1;
+        int bestLength = 0;
+        for (int rank = 1; rank < length; rank++) {
+            int common = lcpAt(rank);
+            if (common <= bestLength) {
+                continue;
+            }
+            int position = suffixAt(rank);
+            if (utf8) {
+                if (isContinuation(position)) {
+                    continue;
+                }
+                // Don't end in the middle of a multi-byte sequence
+                while (common > 0 && position + common < length && isContinuation(position + common)) {
+                    common--;
+                }
+                if (common <= bestLength) {
+                    continue;
+                }
+            }
+            bestRank = rank;
+            bestLength = common;
+        }
+        if (bestRank < 0) {
+            return null;
+        }
+        // All suffixes sharing the prefix are next to each other in sorted order
+        int from = bestRank - 1;
+        while (from > 0 && lcpAt(from) >= bestLength) {
+            from--;
+        }
+        int to = bestRank + 1;
+        while (to < length && lcpAt(to) >= bestLength) {
+            to++;
+        }
+        int position = suffixAt(bestRank);
+        return new Repeat(position, bestLength, to - from, substring(position, bestLength));
+    }
+
+    /**
+     * Decodes text[position, position + length) as UTF-8.
+     */
+    public String substring(int position, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) textAt(position + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the text, suffix array and LCP array to a file for {@link #open(Path)}.
+     *
+     * @throws IOException If writing fails
+     */
+    public void save(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putLong(MAGIC_OFFSET, MAGIC)
+                    .putInt(VERSION_OFFSET, VERSION)
+                    .putInt(LENGTH_OFFSET, length)
+                    .putInt(UTF8_OFFSET, utf8 ? 1 : 0)
+                    .position(HEADER_BYTES);
+            for (int i = 0; i < paddedTextBytes(length); i++) {
+                if (!buffer.hasRemaining()) {
+                    drain(channel, buffer);
+                }
+                buffer.put(i < length ? (byte) textAt(i) : 0);
+            }
+            for (int rank = 0; rank < length; rank++) {
+                if (buffer.remaining() < Integer.BYTES) {
+                    drain(channel, buffer);
+                }
+                buffer.putInt(suffixAt(rank));
+            }
+            for (int rank = 0; rank < length; rank++) {
+                if (buffer.remaining() < Integer.BYTES) {
+                    drain(channel, buffer);
+                }
+                buffer.putInt(lcpAt(rank));
+            }
+            drain(channel, buffer);
+        }
+    }
+
+    /**
+     * Maps an index written by {@link #save(Path)} read-only.
+     *
+     * @throws IOException If the file can't be read or is not an index file
+     */
+    public static SuffixArray open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a suffix array file: " + file);
+            }
+            MappedByteBuffer header = map(channel, 0, HEADER_BYTES);
+            if (header.getLong(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+                throw new IOException("Not a suffix array file: " + file);
+            }
+            int length = header.getInt(LENGTH_OFFSET);
+            long textBytes = paddedTextBytes(length);
+            long intBytes = (long) length * Integer.BYTES;
+            if (length < 0 || channel.size() != HEADER_BYTES + textBytes + 2 * intBytes) {
+                throw new IOException("Corrupt suffix array file: " + file);
+            }
+            // The mappings stay valid after the channel is closed
+            return new SuffixArray(length, header.getInt(UTF8_OFFSET) != 0,
+                    mapRegions(channel, HEADER_BYTES, length),
+                    mapRegions(channel, HEADER_BYTES + textBytes, intBytes),
+                    mapRegions(channel, HEADER_BYTES + textBytes + intBytes, intBytes));
+        }
+    }
+
+    private int lowerBound(byte[] pattern) {
+        // All suffixes between the bounds share min(matchLo, matchHi) bytes with the pattern
+        int lo = 0;
+        int hi = length;
+        int matchLo = 0;
+        int matchHi = 0;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int position = suffixAt(mid);
+            int matched = match(pattern, position, Math.min(matchLo, matchHi));
+            if (matched < pattern.length && greater(pattern, position, matched)) {
+                lo = mid + 1;
+                matchLo = matched;
+            } else {
+                hi = mid;
+                matchHi = matched;
+            }
+        }
+        return lo;
+    }
+
+    private int upperBound(byte[] pattern) {
+        int lo = 0;
+        int hi = length;
+        int matchLo = 0;
+        int matchHi = 0;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int position = suffixAt(mid);
+            int matched = match(pattern, position, Math.min(matchLo, matchHi));
+            if (matched == pattern.length || greater(pattern, position, matched)) {
+                lo = mid + 1;
+                matchLo = matched;
+            } else {
+                hi = mid;
+                matchHi = matched;
+            }
+        }
+        return lo;
+    }
+
+    // Length of the common prefix of pattern and the suffix at position, knowing the first `from` bytes match
+    private int match(byte[] pattern, int position, int from) {
+        int matched = from;
+        while (matched < pattern.length && position + matched < length
+                && (pattern[matched] & 0xFF) == textAt(position + matched)) {
+            matched++;
+        }
+        return matched;
+    }
+
+    // Whether pattern sorts after the suffix at position, given they differ at byte `matched`
+    private boolean greater(byte[] pattern, int position, int matched) {
+        return position + matched == length || (pattern[matched] & 0xFF) > textAt(position + matched);
+    }
+
+    private boolean isContinuation(int position) {
+        return (textAt(position) & 0xC0) == 0x80;
+    }
+
+    private int textAt(int position) {
+        return text != null
+                ? text[position] & 0xFF
+                : textRegions[position >>> REGION_SHIFT].get(position & REGION_MASK) & 0xFF;
+    }
+
+    private static int getInt(MappedByteBuffer[] regions, int index) {
+        return regions[index >>> INT_REGION_SHIFT].getInt((index & INT_REGION_MASK) << 2);
+    }
+
+    private static long paddedTextBytes(int length) {
+        return ((long) length + 3) & ~3L;
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static MappedByteBuffer[] mapRegions(FileChannel channel, long offset, long size) throws IOException {
+        int count = (int) ((size + REGION_MASK) >>> REGION_SHIFT);
+        MappedByteBuffer[] regions = new MappedByteBuffer[count];
+        for (int r = 0; r < count; r++) {
+            long start = (long) r << REGION_SHIFT;
+            regions[r] = map(channel, offset + start, Math.min(1L << REGION_SHIFT, size - start));
+        }
+        return regions;
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long offset, long size) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN); // fixed file format, and native on x86 and ARM
+        return buffer;
+    }
+
+    // Kasai et al.: going through the suffixes in text order, the common prefix with the
+    // previous suffix in sorted order shrinks by at most one each step
+    private static int[] kasai(byte[] text, int[] suffixes, int n) {
+        int[] rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            rank[suffixes[i]] = i;
+        }
+        int[] lcp = new int[n];
+        int h = 0;
+        for (int position = 0; position < n; position++) {
+            int r = rank[position];
+            if (r == 0) {
+                h = 0;
+                continue;
+            }
+            int previous = suffixes[r - 1];
+            while (position + h < n && previous + h < n && text[position + h] == text[previous + h]) {
+                h++;
+            }
+            lcp[r] = h;
+            if (h > 0) {
+                h--;
+            }
+        }
+        return lcp;
+    }
+
+    // ---- SA-IS ----
+
+    /** Symbol string for SA-IS: the input text on the first level, the reduced string below. */
+    private interface Symbols {
+        int get(int i);
+    }
+
+    private static final class ByteSymbols implements Symbols {
+        private final byte[] text;
+
+        ByteSymbols(byte[] text) {
+            this.text = text;
+        }
+
+        @Override
+        public int get(int i) {
+            return i == text.length ? 0 : (text[i] & 0xFF) + 1;
+        }
+    }
+
+    private static final class IntSymbols implements Symbols {
+        private final int[] array;
+        private final int offset;
+
+        IntSymbols(int[] array, int offset) {
+            this.array = array;
+            this.offset = offset;
+        }
+
+        @Override
+        public int get(int i) {
+            return array[offset + i];
+        }
+    }
+
+    /**
+     * Sorts the suffixes of s[0, n) into sa[0, n). s[n - 1] must be the unique
+     * smallest symbol, all symbols are in [0, k].
+     */
+    private static void sais(Symbols s, int[] sa, int n, int k) {
+        // Suffix types: S if smaller than the next suffix, L otherwise; one bit per suffix
+        long[] sType = new long[(n + 63) >>> 6];
+        setBit(sType, n - 1);
+        for (int i = n - 3; i >= 0; i--) {
+            int c = s.get(i);
+            int next = s.get(i + 1);
+            if (c < next || (c == next && getBit(sType, i + 1))) {
+                setBit(sType, i);
+            }
+        }
+        int[] counts = new int[k + 1];
+        for (int i = 0; i < n; i++) {
+            counts[s.get(i)]++;
+        }
+        int[] bucket = new int[k + 1];
+
+        // Stage 1: sort the LMS substrings by inducing from their unsorted positions
+        bucketEnds(counts, bucket);
+        Arrays.fill(sa, 0, n, -1);
+        for (int i = 1; i < n; i++) {
+            if (isLms(sType, i)) {
+                sa[--bucket[s.get(i)]] = i;
+            }
+        }
+        induce(s, sa, n, sType, counts, bucket);
+
+        // Compact the sorted LMS substrings into sa[0, n1) and name them; equal substrings share a name
+        int n1 = 0;
+        for (int i = 0; i < n; i++) {
+            if (isLms(sType, sa[i])) {
+                sa[n1++] = sa[i];
+            }
+        }
+        Arrays.fill(sa, n1, n, -1);
+        int name = 0;
+        int previous = -1;
+        for (int i = 0; i < n1; i++) {
+            int position = sa[i];
+            boolean different = false;
+            for (int d = 0; ; d++) {
+                if (previous == -1 || s.get(position + d) != s.get(previous + d)
+                        || getBit(sType, position + d) != getBit(sType, previous + d)) {
+                    different = true;
+                    break;
+                }
+                if (d > 0 && (isLms(sType, position + d) || isLms(sType, previous + d))) {
+                    break;
+                }
+            }
+            if (different) {
+                name++;
+                previous = position;
+            }
+            // LMS positions are at least two apart, so position / 2 is a unique slot
+            sa[n1 + (position >>> 1)] = name - 1;
+        }
+        for (int i = n - 1, j = n - 1; i >= n1; i--) {
+            if (sa[i] >= 0) {
+                sa[j--] = sa[i];
+            }
+        }
+
+        // Stage 2: sort the reduced string s1 = sa[n - n1, n), recursing while names repeat
+        int s1 = n - n1;
+        if (name < n1) {
+            sais(new IntSymbols(sa, s1), sa, n1, name - 1);
+        } else {
+            for (int i = 0; i < n1; i++) {
+                sa[sa[s1 + i]] = i;
+            }
+        }
+
+        // Stage 3: place the LMS suffixes in sorted order and induce all others from them
+        for (int i = 1, j = 0; i < n; i++) {
+            if (isLms(sType, i)) {
+                sa[s1 + j++] = i;
+            }
+        }
+        for (int i = 0; i < n1; i++) {
+            sa[i] = sa[s1 + sa[i]];
+        }
+        Arrays.fill(sa, n1, n, -1);
+        bucketEnds(counts, bucket);
+        for (int i = n1 - 1; i >= 0; i--) {
+            int position = sa[i];
+            sa[i] = -1;
+            sa[--bucket[s.get(position)]] = position;
+        }
+        induce(s, sa, n, sType, counts, bucket);
+    }
+
+    // Induces the L suffixes left to right from bucket heads, then the S suffixes right to left from bucket ends
+    private static void induce(Symbols s, int[] sa, int n, long[] sType, int[] counts, int[] bucket) {
+        bucketHeads(counts, bucket);
+        for (int i = 0; i < n; i++) {
+            int j = sa[i] - 1;
+            if (j >= 0 && !getBit(sType, j)) {
+                sa[bucket[s.get(j)]++] = j;
+            }
+        }
+        bucketEnds(counts, bucket);
+        for (int i = n - 1; i >= 0; i--) {
+            int j = sa[i] - 1;
+            if (j >= 0 && getBit(sType, j)) {
+                sa[--bucket[s.get(j)]] = j;
+            }
+        }
+    }
+
+    private static void bucketHeads(int[] counts, int[] bucket) {
+        int sum = 0;
+        for (int c = 0; c < counts.length; c++) {
+            bucket[c] = sum;
+            sum += counts[c];
+        }
+    }
+
+    private static void bucketEnds(int[] counts, int[] bucket) {
+        int sum = 0;
+        for (int c = 0; c < counts.length; c++) {
+            sum += counts[c];
+            bucket[c] = sum;
+        }
+    }
+
+    // Leftmost S: an S suffix right after an L suffix
+    private static boolean isLms(long[] sType, int i) {
+        return i > 0 && getBit(sType, i) && !getBit(sType, i - 1);
+    }
+
+    private static boolean getBit(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    private static void setBit(long[] bits, int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+
+    public static void main(String[] args) throws IOException {
+        SuffixArray index = SuffixArray.build("banana bandana");
+        System.out.println(index.count("ana"));                        // 3
+        System.out.println(Arrays.toString(index.locate("ban")));      // [0, 7]
+        System.out.println(index.longestRepeated().getText());         // "ana" (first of the 3-byte repeats)
+
+        // Usage on a large file: java com.boot.StringsDSA.SuffixArray corpus.txt corpus.sa
+        if (args.length > 1) {
+            long start = System.nanoTime();
+            SuffixArray corpus = SuffixArray.build(Path.of(args[0]));
+            System.out.println("Built index of " + corpus.length() + " bytes in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+            corpus.save(Path.of(args[1]));
+            System.out.println(SuffixArray.open(Path.of(args[1])).longestRepeated());
+        }
+    }
+}
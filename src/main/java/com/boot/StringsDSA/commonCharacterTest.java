@@ -1,4 +1,260 @@
 package com.boot.StringsDSA;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Characters common to all N strings.
+ *
+ * Two flavours of query:
+ *  - presence: which characters appear in every string. The ASCII part of each
+ *    string is folded into a 128-bit mask (two longs) and the masks are ANDed together.
+ *  - multiplicity: how many times each character appears in every string
+ *    (e.g. "bella", "label", "roller" -> e, l, l). The ASCII part of each string is
+ *    counted into a 128-slot count vector and the vectors are reduced with an
+ *    element-wise min.
+ *
+ * Characters outside ASCII fall back to a sparse set / count map keyed by code
+ * point, allocated only for strings that contain them; once no non-ASCII
+ * character is common to the strings seen so far, the fallback is skipped.
+ *
+ * Both work on a Stream<CharSequence>, so millions of lines can be read lazily
+ * from a file and the reduction can run in parallel (AND and min are associative,
+ * so the per-thread partial results are simply combined at the end).
+ */
 public class commonCharacterTest {
+
+    private static final int ASCII = 128;
+
+    /**
+     * Mutable intersection used as the container of a parallel collect.
+     */
+    static final class CharMask {
+        long lo = -1L;   // chars 0..63
+        long hi = -1L;   // chars 64..127
+        Set<Integer> others;   // non-ASCII code points in every string, null before the first string
+        long strings;
+
+        void add(CharSequence s) {
+            long sLo = 0L;
+            long sHi = 0L;
+            boolean skipOthers = others != null && others.isEmpty();
+            Set<Integer> sOthers = Collections.emptySet();
+            for (int i = 0, n = s.length(); i < n; i++) {
+                char c = s.charAt(i);
+                if (c < 64) {
+                    sLo |= 1L << c;
+                } else if (c < ASCII) {
+                    sHi |= 1L << c;  // shift distance is taken mod 64
+                } else if (!skipOthers) {
+                    if (sOthers.isEmpty()) {
+                        sOthers = new HashSet<>();
+                    }
+                    int codePoint = Character.codePointAt(s, i);
+                    sOthers.add(codePoint);
+                    i += Character.charCount(codePoint) - 1;
+                }
+            }
+            lo &= sLo;
+            hi &= sHi;
+            if (others == null) {
+                others = sOthers;
+            } else if (!skipOthers) {
+                others.retainAll(sOthers);
+            }
+            strings++;
+        }
+
+        void combine(CharMask other) {
+            lo &= other.lo;
+            hi &= other.hi;
+            if (others == null) {
+                others = other.others;
+            } else if (other.others != null) {
+                others.retainAll(other.others);
+            }
+            strings += other.strings;
+        }
+
+        String toSortedString() {
+            if (strings == 0) {
+                return "";
+            }
+            StringBuilder sb = new StringBuilder(Long.bitCount(lo) + Long.bitCount(hi) + others.size());
+            appendBits(sb, lo, 0);
+            appendBits(sb, hi, 64);
+            // Every non-ASCII code point sorts after the ASCII chars
+            others.stream().sorted().forEach(sb::appendCodePoint);
+            return sb.toString();
+        }
+
+        private static void appendBits(StringBuilder sb, long bits, int base) {
+            while (bits != 0) {
+                sb.append((char) (base + Long.numberOfTrailingZeros(bits)));
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    /**
+     * Mutable min-reduced counts used as the container of a parallel collect.
+     */
+    static final class CharCounts {
+        final int[] min = new int[ASCII];
+        final int[] scratch = new int[ASCII];
+        Map<Integer, Integer> others;   // non-ASCII code point -> min count, null before the first string
+        long strings;
+
+        CharCounts() {
+            Arrays.fill(min, Integer.MAX_VALUE);
+        }
+
+        void add(CharSequence s) {
+            boolean skipOthers = others != null && others.isEmpty();
+            Map<Integer, Integer> sOthers = Collections.emptyMap();
+            for (int i = 0, n = s.length(); i < n; i++) {
+                char c = s.charAt(i);
+                if (c < ASCII) {
+                    scratch[c]++;
+                } else if (!skipOthers) {
+                    if (sOthers.isEmpty()) {
+                        sOthers = new HashMap<>();
+                    }
+                    int codePoint = Character.codePointAt(s, i);
+                    sOthers.merge(codePoint, 1, Integer::sum);
+                    i += Character.charCount(codePoint) - 1;
+                }
+            }
+            for (int c = 0; c < ASCII; c++) {
+                if (scratch[c] < min[c]) {
+                    min[c] = scratch[c];
+                }
+                scratch[c] = 0;
+            }
+            if (others == null) {
+                others = sOthers;
+            } else if (!skipOthers) {
+                minWith(others, sOthers);
+            }
+            strings++;
+        }
+
+        void combine(CharCounts other) {
+            for (int c = 0; c < ASCII; c++) {
+                if (other.min[c] < min[c]) {
+                    min[c] = other.min[c];
+                }
+            }
+            if (others == null) {
+                others = other.others;
+            } else if (other.others != null) {
+                minWith(others, other.others);
+            }
+            strings += other.strings;
+        }
+
+        int[] result() {
+            return strings == 0 ? new int[ASCII] : min;
+        }
+
+        Map<Integer, Integer> otherResult() {
+            return others == null ? Collections.emptyMap() : others;
+        }
+
+        // Keeps the code points present in both, with the smaller count
+        private static void minWith(Map<Integer, Integer> counts, Map<Integer, Integer> other) {
+            counts.entrySet().removeIf(entry -> !other.containsKey(entry.getKey()));
+            counts.replaceAll((codePoint, count) -> Math.min(count, other.get(codePoint)));
+        }
+    }
+
+    /**
+     * Returns the characters that appear in every string, in ascending code point order.
+     *
+     * @param strings the strings to intersect (consumed)
+     * @param parallel whether to run the reduction in parallel
+     * @return the common characters, or "" if the stream is empty
+     */
+    public static String commonChars(Stream<? extends CharSequence> strings, boolean parallel) {
+        Stream<? extends CharSequence> source = parallel ? strings.parallel() : strings.sequential();
+        CharMask mask = source.collect(CharMask::new, CharMask::add, CharMask::combine);
+        return mask.toSortedString();
+    }
+
+    /**
+     * Returns, for every ASCII character, the minimum number of times it occurs
+     * in any of the strings. Non-ASCII characters are not part of this vector;
+     * {@link #commonCharsWithDuplicates} includes them.
+     *
+     * @param strings the strings to intersect (consumed)
+     * @param parallel whether to run the reduction in parallel
+     * @return a 128-slot count vector indexed by character
+     */
+    public static int[] commonCharCounts(Stream<? extends CharSequence> strings, boolean parallel) {
+        return collectCounts(strings, parallel).result();
+    }
+
+    /**
+     * Multiplicity-aware result expanded into a string, e.g. "bella","label","roller" -> "ell".
+     *
+     * @param strings the strings to intersect (consumed)
+     * @param parallel whether to run the reduction in parallel
+     * @return every common character repeated by its minimum count, in ascending order
+     */
+    public static String commonCharsWithDuplicates(Stream<? extends CharSequence> strings, boolean parallel) {
+        CharCounts counts = collectCounts(strings, parallel);
+        int[] ascii = counts.result();
+        StringBuilder sb = new StringBuilder();
+        for (int c = 0; c < ASCII; c++) {
+            for (int k = 0; k < ascii[c]; k++) {
+                sb.append((char) c);
+            }
+        }
+        counts.otherResult().entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            for (int k = 0; k < entry.getValue(); k++) {
+                sb.appendCodePoint(entry.getKey());
+            }
+        });
+        return sb.toString();
+    }
+
+    private static CharCounts collectCounts(Stream<? extends CharSequence> strings, boolean parallel) {
+        Stream<? extends CharSequence> source = parallel ? strings.parallel() : strings.sequential();
+        return source.collect(CharCounts::new, CharCounts::add, CharCounts::combine);
+    }
+
+    /**
+     * Runs the presence query over every line of a UTF-8 text file without
+     * materializing the lines in memory.
+     *
+     * @param file the file to read, one string per line
+     * @return the characters common to every line
+     * @throws IOException If there's an error opening the file
+     */
+    public static String commonCharsInFile(Path file) throws IOException {
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return commonChars(lines, true);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Test method
+    public static void main(String[] args) {
+        System.out.println(commonChars(Stream.of("apple", "grape", "pear"), false));                  // aep
+        System.out.println(commonCharsWithDuplicates(Stream.of("bella", "label", "roller"), false));  // ell
+        System.out.println(commonCharsWithDuplicates(Stream.of("cool", "lock", "cook"), true));       // co
+        System.out.println(commonChars(Stream.of("café", "thé", "été"), false));                      // é
+        System.out.println("[" + commonChars(Stream.empty(), false) + "]");                            // []
+    }
 }
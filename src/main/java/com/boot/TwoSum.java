@@ -1,7 +1,8 @@
 package com.boot;
 
+import com.boot.HashMapDSA.IntIntMap;
+
 import java.util.Arrays;
-import java.util.HashMap;
 
 public class TwoSum {
 
@@ -18,15 +19,17 @@ public class TwoSum {
 
     }
     public static int[] findTwoSum() {
-        HashMap<Integer, Integer> map = new HashMap<>();
+        // value -> index, -1 when the value has not been seen
+        IntIntMap map = new IntIntMap(16, 0.75f, -1);
         int[] arr={1,2,3,4,5};
         int target=6;
         for (int i=0;i<arr.length;i++)
         {
             int compliment=target-arr[i];
-            if (map.containsKey(compliment))
+            int index = map.get(compliment);
+            if (index != -1)
             {
-                return new int[]{map.get(compliment),i};
+                return new int[]{index,i};
 
             }
 
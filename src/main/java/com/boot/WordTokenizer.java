@@ -0,0 +1,217 @@
+package com.boot;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Whitespace tokenizer shared by {@link DistinctWords} and {@link HyperLogLog}.
+ *
+ * No regex and no per-token allocation: each word is handed to a {@link WordSink}
+ * as a char range of the input (or of a reusable buffer), and the sink decides
+ * whether it ever needs to become a String.
+ */
+public final class WordTokenizer {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final int FILE_CHUNK_SIZE = 64 * 1024 * 1024;
+
+    private WordTokenizer() {
+    }
+
+    /**
+     * Receives words as char ranges. The ranges are only valid during the call.
+     */
+    public interface WordSink {
+        void word(char[] chars, int from, int to);
+
+        void word(CharSequence text, int from, int to);
+    }
+
+    /**
+     * Tokenizes the text on whitespace.
+     */
+    public static void tokenize(CharSequence text, WordSink sink) {
+        int n = text.length();
+        int i = 0;
+        while (i < n) {
+            while (i < n && isSpace(text.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < n && !isSpace(text.charAt(i))) {
+                i++;
+            }
+            if (i > start) {
+                sink.word(text, start, i);
+            }
+        }
+    }
+
+    /**
+     * Reads the reader to the end, tokenizing on whitespace. A word cut by the end
+     * of one read is carried over to the next. The reader is not closed.
+     *
+     * @throws IOException If reading fails
+     */
+    public static void tokenize(Reader reader, WordSink sink) throws IOException {
+        char[] buffer = new char[READ_BUFFER_SIZE];
+        char[] pending = new char[64];
+        int pendingLength = 0;
+        int read;
+        while ((read = reader.read(buffer, 0, buffer.length)) != -1) {
+            int i = 0;
+            while (i < read) {
+                int start = i;
+                while (i < read && !isSpace(buffer[i])) {
+                    i++;
+                }
+                if (i == read || pendingLength > 0) {
+                    int needed = pendingLength + (i - start);
+                    if (needed > pending.length) {
+                        pending = Arrays.copyOf(pending, Math.max(needed, pending.length * 2));
+                    }
+                    System.arraycopy(buffer, start, pending, pendingLength, i - start);
+                    pendingLength = needed;
+                    if (i == read) {
+                        // Word may continue in the next read
+                        break;
+                    }
+                    sink.word(pending, 0, pendingLength);
+                    pendingLength = 0;
+                } else if (i > start) {
+                    sink.word(buffer, start, i);
+                }
+                i++; // skip the whitespace char
+            }
+        }
+        if (pendingLength > 0) {
+            sink.word(pending, 0, pendingLength);
+        }
+    }
+
+    /**
+     * Tokenizes UTF-8 bytes on ASCII whitespace. Each token is decoded into a
+     * reusable char buffer before it is handed to the sink.
+     */
+    public static void tokenizeUtf8(ByteBuffer bytes, WordSink sink) {
+        char[] chars = new char[256];
+        int n = bytes.limit();
+        int i = 0;
+        while (i < n) {
+            while (i < n && isSpace((char) bytes.get(i))) {
+                i++;
+            }
+            int length = 0;
+            while (i < n) {
+                int b = bytes.get(i) & 0xFF;
+                if (isSpace((char) b)) {
+                    break;
+                }
+                if (length + 2 > chars.length) {
+                    chars = Arrays.copyOf(chars, chars.length * 2);
+                }
+                if (b < 0x80) {
+                    chars[length++] = (char) b;
+                    i++;
+                    continue;
+                }
+                int len = b >= 0xF0 ? 4 : b >= 0xE0 ? 3 : b >= 0xC0 ? 2 : 1;
+                int codePoint = len == 1 ? 0xFFFD : b & (0xFF >>> (len + 1));
+                int j = 1;
+                for (; j < len && i + j < n && (bytes.get(i + j) & 0xC0) == 0x80; j++) {
+                    codePoint = (codePoint << 6) | (bytes.get(i + j) & 0x3F);
+                }
+                if (j < len || codePoint > Character.MAX_CODE_POINT) {
+                    codePoint = 0xFFFD; // truncated or invalid sequence
+                }
+                length += Character.toChars(codePoint, chars, length);
+                i += j;
+            }
+            if (length > 0) {
+                sink.word(chars, 0, length);
+            }
+        }
+    }
+
+    /**
+     * Tokenizes a UTF-8 file. The file is memory-mapped in chunks that end on
+     * whitespace and every chunk gets its own target; with parallel = true the
+     * chunks are tokenized on the common pool.
+     *
+     * @param file the file to read
+     * @param parallel whether to tokenize the chunks in parallel
+     * @param newTarget creates the target of one chunk
+     * @param sinkOf the sink feeding a target
+     * @return the targets of all chunks, in file order
+     * @throws IOException If reading the file fails
+     */
+    public static <T> List<T> tokenizeFile(Path file, boolean parallel, Supplier<T> newTarget,
+                                           Function<T, WordSink> sinkOf) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            int parts = (int) Math.max(parallel ? Runtime.getRuntime().availableProcessors() : 1,
+                    (fileSize + FILE_CHUNK_SIZE - 1) / FILE_CHUNK_SIZE);
+            long[] bounds = chunkBounds(channel, fileSize, parts);
+
+            IntStream chunks = IntStream.range(0, parts);
+            if (parallel) {
+                chunks = chunks.parallel();
+            }
+            return chunks.mapToObj(k -> {
+                T target = newTarget.get();
+                try {
+                    if (bounds[k + 1] > bounds[k]) {
+                        ByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, bounds[k], bounds[k + 1] - bounds[k]);
+                        tokenizeUtf8(chunk, sinkOf.apply(target));
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return target;
+            }).toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public static boolean isSpace(char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f';
+    }
+
+    // Splits [0, size) into parts whose boundaries are moved forward to the next whitespace byte
+    private static long[] chunkBounds(FileChannel channel, long fileSize, int parts) throws IOException {
+        long[] bounds = new long[parts + 1];
+        bounds[parts] = fileSize;
+        ByteBuffer probe = ByteBuffer.allocate(256);
+        for (int k = 1; k < parts; k++) {
+            long b = Math.max(bounds[k - 1], fileSize * k / parts);
+            search:
+            while (b < fileSize) {
+                probe.clear();
+                int read = channel.read(probe, b);
+                if (read <= 0) {
+                    break;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (isSpace((char) probe.get(i))) {
+                        b += i;
+                        break search;
+                    }
+                }
+                b += read;
+            }
+            bounds[k] = Math.min(b, fileSize);
+        }
+        return bounds;
+    }
+}
@@ -1,4 +1,596 @@
 package com.boot.trianglePatternsDSA;
 
+import com.boot.util.HashUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Counts duplicate characters and duplicate words in large UTF-8 texts and
+ * returns the top-K most frequent duplicates.
+ *
+ * - Characters are counted in a primitive long[65536] indexed by code point
+ *   (supplementary code points go to the same primitive table used for words).
+ * - Words are hashed straight from the bytes (64-bit FNV-1a + finalizer) into
+ *   an open-addressing long->long table; no String is created per token. The
+ *   table remembers one file offset per word so only the K winners are decoded.
+ * - Files are split into chunks that are memory-mapped and processed by a
+ *   fork-join pool. Each leaf counts into its own tables and returns them;
+ *   results are merged pairwise as the tasks join, so nothing outlives the run.
+ * - Top-K is selected with a bounded min-heap of primitive arrays.
+ *
+ * Words are maximal runs of ASCII letters/digits and non-ASCII bytes.
+ * Two different words colliding on the 64-bit hash would be counted together;
+ * for crawl-sized inputs the probability of that is negligible.
+ */
 public class CountDuplicates {
+
+    /** Bytes per fork-join leaf. */
+    private static final int CHUNK_SIZE = 16 * 1024 * 1024;
+
+    /** Extra bytes mapped past a chunk so a word or UTF-8 sequence crossing the boundary can be finished. */
+    private static final int MAX_WORD_BYTES = 4096;
+
+    private static final int BMP = 1 << 16;
+
+    /**
+     * A duplicated character or word with its number of occurrences.
+     */
+    public static final class Duplicate {
+        private final String value;
+        private final long count;
+
+        Duplicate(String value, long count) {
+            this.value = value;
+            this.count = count;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return value + "=" + count;
+        }
+    }
+
+    /**
+     * Top-K duplicates of a single run.
+     */
+    public static final class Report {
+        private final List<Duplicate> topChars;
+        private final List<Duplicate> topWords;
+        private final long totalChars;
+        private final long totalWords;
+
+        Report(List<Duplicate> topChars, List<Duplicate> topWords, long totalChars, long totalWords) {
+            this.topChars = topChars;
+            this.topWords = topWords;
+            this.totalChars = totalChars;
+            this.totalWords = totalWords;
+        }
+
+        public List<Duplicate> getTopChars() {
+            return topChars;
+        }
+
+        public List<Duplicate> getTopWords() {
+            return topWords;
+        }
+
+        public long getTotalChars() {
+            return totalChars;
+        }
+
+        public long getTotalWords() {
+            return totalWords;
+        }
+
+        @Override
+        public String toString() {
+            return "chars=" + totalChars + " words=" + totalWords
+                    + "\ntop chars: " + topChars + "\ntop words: " + topWords;
+        }
+    }
+
+    /**
+     * Analyzes a UTF-8 text file of any size.
+     *
+     * @param file the file to analyze
+     * @param k how many duplicates to return per category
+     * @param ignoreCase whether ASCII letters in words are compared case-insensitively
+     * @return the top-K duplicate characters and words
+     * @throws IOException If there's an error reading the file
+     */
+    public static Report analyze(Path file, int k, boolean ignoreCase) throws IOException {
+        return analyze(file, k, ignoreCase, CHUNK_SIZE);
+    }
+
+    // chunkSize is the fork-join leaf size; tests use small ones to exercise the chunk boundaries
+    static Report analyze(Path file, int k, boolean ignoreCase, int chunkSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Source source = new Source() {
+                @Override
+                public ByteBuffer slice(long from, long to) {
+                    try {
+                        return channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                @Override
+                public byte[] read(long offset, int length) {
+                    ByteBuffer dst = ByteBuffer.allocate(length);
+                    try {
+                        while (dst.hasRemaining() && channel.read(dst, offset + dst.position()) >= 0) {
+                            // keep reading
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return dst.array();
+                }
+            };
+            try {
+                return analyze(source, channel.size(), k, ignoreCase, chunkSize);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Analyzes an in-memory UTF-8 text.
+     *
+     * @param utf8 the text bytes
+     * @param k how many duplicates to return per category
+     * @param ignoreCase whether ASCII letters in words are compared case-insensitively
+     * @return the top-K duplicate characters and words
+     */
+    public static Report analyze(byte[] utf8, int k, boolean ignoreCase) {
+        ByteBuffer whole = ByteBuffer.wrap(utf8);
+        Source source = new Source() {
+            @Override
+            public ByteBuffer slice(long from, long to) {
+                return whole.slice((int) from, (int) (to - from));
+            }
+
+            @Override
+            public byte[] read(long offset, int length) {
+                byte[] out = new byte[length];
+                System.arraycopy(utf8, (int) offset, out, 0, length);
+                return out;
+            }
+        };
+        return analyze(source, utf8.length, k, ignoreCase, CHUNK_SIZE);
+    }
+
+    private static Report analyze(Source source, long size, int k, boolean ignoreCase, int chunkSize) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+
+        Counts merged = ForkJoinPool.commonPool().invoke(new ChunkTask(source, size, 0, size, ignoreCase, chunkSize));
+
+        return new Report(topChars(merged, k), topWords(merged, source, k, ignoreCase),
+                merged.totalChars, merged.totalWords);
+    }
+
+    /**
+     * Access to the bytes of the input, either a mapped file or an array.
+     */
+    private interface Source {
+        ByteBuffer slice(long from, long to);
+
+        byte[] read(long offset, int length);
+    }
+
+    /**
+     * Splits the byte range in halves until it fits a leaf, then scans it into
+     * fresh tables; the halves' tables are merged on join.
+     */
+    private static final class ChunkTask extends RecursiveTask<Counts> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Source source;
+        private final long size;
+        private final long start;
+        private final long end;
+        private final boolean ignoreCase;
+        private final int chunkSize;
+
+        ChunkTask(Source source, long size, long start, long end, boolean ignoreCase, int chunkSize) {
+            this.source = source;
+            this.size = size;
+            this.start = start;
+            this.end = end;
+            this.ignoreCase = ignoreCase;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected Counts compute() {
+            if (end - start <= chunkSize) {
+                return scan();
+            }
+            long mid = start + (end - start) / 2;
+            ChunkTask left = new ChunkTask(source, size, start, mid, ignoreCase, chunkSize);
+            ChunkTask right = new ChunkTask(source, size, mid, end, ignoreCase, chunkSize);
+            left.fork();
+            Counts counts = right.compute();
+            counts.merge(left.join());
+            return counts;
+        }
+
+        private Counts scan() {
+            Counts counts = new Counts();
+            // Map one byte before the chunk (to see whether a word continues into it)
+            // and some slack after it (to finish a word or char crossing the end)
+            long mapFrom = Math.max(0, start - 1);
+            long mapTo = Math.min(size, end + MAX_WORD_BYTES);
+            if (mapTo <= mapFrom) {
+                return counts;
+            }
+            ByteBuffer buf = source.slice(mapFrom, mapTo);
+            int from = (int) (start - mapFrom);
+            int to = (int) (end - mapFrom);
+            countChars(buf, from, to, counts);
+            countWords(buf, mapFrom, from, to, counts, ignoreCase);
+            return counts;
+        }
+    }
+
+    /**
+     * Counts every code point whose first byte lies in [from, to).
+     */
+    private static void countChars(ByteBuffer buf, int from, int to, Counts counts) {
+        int limit = buf.limit();
+        int i = from;
+        while (i < to) {
+            int b = buf.get(i) & 0xFF;
+            int cp;
+            int len;
+            if (b < 0x80) {
+                cp = b;
+                len = 1;
+            } else if ((b & 0xC0) == 0x80) {
+                // Continuation byte of a char owned by the previous chunk (or malformed input)
+                i++;
+                continue;
+            } else if ((b & 0xE0) == 0xC0) {
+                cp = b & 0x1F;
+                len = 2;
+            } else if ((b & 0xF0) == 0xE0) {
+                cp = b & 0x0F;
+                len = 3;
+            } else {
+                cp = b & 0x07;
+                len = 4;
+            }
+            if (i + len > limit) {
+                break;
+            }
+            for (int j = 1; j < len; j++) {
+                cp = (cp << 6) | (buf.get(i + j) & 0x3F);
+            }
+            if (cp < BMP) {
+                counts.chars[cp]++;
+            } else {
+                counts.supplementary.add(cp, 1, -1, 0);
+            }
+            counts.totalChars++;
+            i += len;
+        }
+    }
+
+    /**
+     * Counts every word that starts in [from, to). A word still open at {@code to}
+     * is finished using the slack bytes mapped after the chunk.
+     */
+    private static void countWords(ByteBuffer buf, long base, int from, int to, Counts counts, boolean ignoreCase) {
+        int limit = buf.limit();
+        int i = from;
+
+        // Skip the tail of a word that started in the previous chunk
+        if (from > 0 && isWordByte(buf.get(from - 1))) {
+            while (i < to && isWordByte(buf.get(i))) {
+                i++;
+            }
+        }
+
+        while (i < to) {
+            byte b = buf.get(i);
+            if (!isWordByte(b)) {
+                i++;
+                continue;
+            }
+            int wordStart = i;
+            long hash = HashUtil.FNV_OFFSET;
+            while (i < limit && i - wordStart < MAX_WORD_BYTES) {
+                b = buf.get(i);
+                if (!isWordByte(b)) {
+                    break;
+                }
+                hash = (hash ^ (ignoreCase ? toLowerAscii(b) : b)) * HashUtil.FNV_PRIME;
+                i++;
+            }
+            counts.words.add(HashUtil.fmix64(hash), 1, base + wordStart, i - wordStart);
+            counts.totalWords++;
+            // A word longer than MAX_WORD_BYTES is counted by its prefix; skip the rest of it
+            while (i < limit && isWordByte(buf.get(i))) {
+                i++;
+            }
+        }
+    }
+
+    private static boolean isWordByte(byte b) {
+        return b < 0                                   // non-ASCII UTF-8 byte
+                || (b >= '0' && b <= '9')
+                || (b >= 'a' && b <= 'z')
+                || (b >= 'A' && b <= 'Z');
+    }
+
+    private static int toLowerAscii(byte b) {
+        return (b >= 'A' && b <= 'Z') ? b + ('a' - 'A') : b;
+    }
+
+    /**
+     * Counts accumulated by one chunk, or merged from several.
+     */
+    private static final class Counts {
+        final long[] chars = new long[BMP];
+        final CountTable supplementary = new CountTable(16);
+        final CountTable words = new CountTable(1 << 12);
+        long totalChars;
+        long totalWords;
+
+        void merge(Counts other) {
+            for (int c = 0; c < BMP; c++) {
+                chars[c] += other.chars[c];
+            }
+            supplementary.mergeFrom(other.supplementary);
+            words.mergeFrom(other.words);
+            totalChars += other.totalChars;
+            totalWords += other.totalWords;
+        }
+    }
+
+    /**
+     * Open-addressing (linear probing) long->long count table. Each key also
+     * remembers where one of its occurrences is, so the text can be recovered.
+     * Key 0 is reserved for empty slots.
+     */
+    private static final class CountTable {
+        long[] keys;
+        long[] counts;
+        long[] offsets;
+        int[] lengths;
+        int size;
+        int mask;
+
+        CountTable(int capacity) {
+            int cap = Integer.highestOneBit(Math.max(4, capacity) - 1) << 1;
+            keys = new long[cap];
+            counts = new long[cap];
+            offsets = new long[cap];
+            lengths = new int[cap];
+            mask = cap - 1;
+        }
+
+        void add(long key, long count, long offset, int length) {
+            if (key == 0) {
+                key = 1;
+            }
+            int slot = (int) key & mask;
+            while (true) {
+                long k = keys[slot];
+                if (k == key) {
+                    counts[slot] += count;
+                    return;
+                }
+                if (k == 0) {
+                    keys[slot] = key;
+                    counts[slot] = count;
+                    offsets[slot] = offset;
+                    lengths[slot] = length;
+                    if (++size * 2 > keys.length) {
+                        grow();
+                    }
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        void mergeFrom(CountTable other) {
+            for (int i = 0; i < other.keys.length; i++) {
+                if (other.keys[i] != 0) {
+                    add(other.keys[i], other.counts[i], other.offsets[i], other.lengths[i]);
+                }
+            }
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            long[] oldCounts = counts;
+            long[] oldOffsets = offsets;
+            int[] oldLengths = lengths;
+            int cap = oldKeys.length * 2;
+            keys = new long[cap];
+            counts = new long[cap];
+            offsets = new long[cap];
+            lengths = new int[cap];
+            mask = cap - 1;
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    add(oldKeys[i], oldCounts[i], oldOffsets[i], oldLengths[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Bounded min-heap keeping the K largest (count, id) pairs.
+     */
+    private static final class TopK {
+        final long[] counts;
+        final long[] ids;
+        int size;
+
+        TopK(int k) {
+            counts = new long[k];
+            ids = new long[k];
+        }
+
+        void offer(long count, long id) {
+            if (size < counts.length) {
+                counts[size] = count;
+                ids[size] = id;
+                siftUp(size++);
+            } else if (count > counts[0]) {
+                counts[0] = count;
+                ids[0] = id;
+                siftDown(0);
+            }
+        }
+
+        /** Empties the heap, returning ids ordered by descending count. */
+        long[] drainDescending(long[] outCounts) {
+            int n = size;
+            long[] out = new long[n];
+            for (int i = n - 1; i >= 0; i--) {
+                out[i] = ids[0];
+                outCounts[i] = counts[0];
+                size--;
+                counts[0] = counts[size];
+                ids[0] = ids[size];
+                siftDown(0);
+            }
+            return out;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (counts[parent] <= counts[i]) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int smallest = (left + 1 < size && counts[left + 1] < counts[left]) ? left + 1 : left;
+                if (counts[i] <= counts[smallest]) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long c = counts[a];
+            counts[a] = counts[b];
+            counts[b] = c;
+            long id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+        }
+    }
+
+    private static List<Duplicate> topChars(Counts counts, int k) {
+        TopK heap = new TopK(k);
+        // Whitespace and control characters are skipped, they would dominate every report
+        for (int c = '!'; c < BMP; c++) {
+            if (counts.chars[c] > 1 && !Character.isWhitespace(c)) {
+                heap.offer(counts.chars[c], c);
+            }
+        }
+        CountTable supplementary = counts.supplementary;
+        for (int i = 0; i < supplementary.keys.length; i++) {
+            if (supplementary.keys[i] != 0 && supplementary.counts[i] > 1) {
+                heap.offer(supplementary.counts[i], supplementary.keys[i]);
+            }
+        }
+
+        long[] topCounts = new long[heap.size];
+        long[] codePoints = heap.drainDescending(topCounts);
+        List<Duplicate> result = new ArrayList<>(codePoints.length);
+        for (int i = 0; i < codePoints.length; i++) {
+            result.add(new Duplicate(new String(Character.toChars((int) codePoints[i])), topCounts[i]));
+        }
+        return result;
+    }
+
+    private static List<Duplicate> topWords(Counts counts, Source source, int k, boolean ignoreCase) {
+        TopK heap = new TopK(k);
+        CountTable words = counts.words;
+        for (int i = 0; i < words.keys.length; i++) {
+            if (words.keys[i] != 0 && words.counts[i] > 1) {
+                heap.offer(words.counts[i], i);
+            }
+        }
+
+        long[] topCounts = new long[heap.size];
+        long[] slots = heap.drainDescending(topCounts);
+        List<Duplicate> result = new ArrayList<>(slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            int slot = (int) slots[i];
+            // Only the K winners are ever decoded into Strings
+            String word = new String(source.read(words.offsets[slot], words.lengths[slot]), StandardCharsets.UTF_8);
+            result.add(new Duplicate(ignoreCase ? toLowerAscii(word) : word, topCounts[i]));
+        }
+        return result;
+    }
+
+    private static String toLowerAscii(String word) {
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] >= 'A' && chars[i] <= 'Z') {
+                chars[i] += 'a' - 'A';
+            }
+        }
+        return new String(chars);
+    }
+
+    public static void main(String[] args) throws IOException {
+        String text = "The quick brown fox jumps over the lazy dog. The dog sleeps, the fox runs.";
+        Report report = analyze(text.getBytes(StandardCharsets.UTF_8), 3, true);
+        System.out.println(report);
+
+        // Usage on a large file: java com.boot.trianglePatternsDSA.CountDuplicates dump.txt 20
+        if (args.length > 0) {
+            int k = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+            long startTime = System.nanoTime();
+            Report fileReport = analyze(Path.of(args[0]), k, true);
+            System.out.println(fileReport);
+            System.out.println("Took " + (System.nanoTime() - startTime) / 1_000_000 + " ms");
+        }
+    }
 }
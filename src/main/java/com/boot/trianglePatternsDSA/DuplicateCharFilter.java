@@ -0,0 +1,148 @@
+package com.boot.trianglePatternsDSA;
+
+import com.boot.util.HashUtil;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Allocation-free core shared by {@link RemoveDuplicatesFromString} and
+ * {@link RemoveDuplicatesFromStringWithoutChars}.
+ *
+ * Keeps the first occurrence of every code point and drops the rest, preserving order.
+ * BMP characters are tracked in a 65536-bit BitSet; supplementary code points
+ * (emoji etc.) go into a small primitive open-addressing int set. A high surrogate
+ * at the end of one chunk is carried over to the next, so input can be fed in
+ * arbitrary pieces.
+ */
+final class DuplicateCharFilter {
+
+    private static final int NO_PENDING = -1;
+
+    private final BitSet seenBmp = new BitSet(Character.MAX_VALUE + 1);
+
+    // Open-addressing set of supplementary code points, 0 marks an empty slot
+    private int[] seenSupplementary = new int[16];
+    private int supplementaryCount;
+
+    private int pendingHighSurrogate = NO_PENDING;
+
+    /**
+     * Copies the first occurrence of every code point of in[from, to) into out.
+     *
+     * @param in input characters
+     * @param from first index to read
+     * @param to index after the last one to read
+     * @param out output buffer, must have room for (to - from + 1) chars
+     * @param outPos index in out to start writing at
+     * @return the index in out after the last written char
+     */
+    int filter(char[] in, int from, int to, char[] out, int outPos) {
+        for (int i = from; i < to; i++) {
+            outPos = accept(in[i], out, outPos);
+        }
+        return outPos;
+    }
+
+    /**
+     * Same as {@link #filter(char[], int, int, char[], int)} for a CharSequence,
+     * read with charAt so no char[] copy of the input is made.
+     */
+    int filter(CharSequence in, int from, int to, char[] out, int outPos) {
+        for (int i = from; i < to; i++) {
+            outPos = accept(in.charAt(i), out, outPos);
+        }
+        return outPos;
+    }
+
+    /**
+     * Flushes a dangling high surrogate at the end of the input (malformed, kept as is).
+     *
+     * @return the index in out after the last written char
+     */
+    int finish(char[] out, int outPos) {
+        if (pendingHighSurrogate != NO_PENDING) {
+            char high = (char) pendingHighSurrogate;
+            pendingHighSurrogate = NO_PENDING;
+            outPos = acceptBmp(high, out, outPos);
+        }
+        return outPos;
+    }
+
+    /**
+     * Forgets everything seen so far so the filter can be reused.
+     */
+    void reset() {
+        seenBmp.clear();
+        Arrays.fill(seenSupplementary, 0);
+        supplementaryCount = 0;
+        pendingHighSurrogate = NO_PENDING;
+    }
+
+    private int accept(char c, char[] out, int outPos) {
+        if (pendingHighSurrogate != NO_PENDING) {
+            char high = (char) pendingHighSurrogate;
+            pendingHighSurrogate = NO_PENDING;
+            if (Character.isLowSurrogate(c)) {
+                if (addSupplementary(Character.toCodePoint(high, c))) {
+                    out[outPos++] = high;
+                    out[outPos++] = c;
+                }
+                return outPos;
+            }
+            // Unpaired high surrogate, treat it as a plain char
+            outPos = acceptBmp(high, out, outPos);
+        }
+        if (Character.isHighSurrogate(c)) {
+            pendingHighSurrogate = c;
+            return outPos;
+        }
+        return acceptBmp(c, out, outPos);
+    }
+
+    private int acceptBmp(char c, char[] out, int outPos) {
+        if (!seenBmp.get(c)) {
+            seenBmp.set(c);
+            out[outPos++] = c;
+        }
+        return outPos;
+    }
+
+    /**
+     * @return true if the code point was not in the set yet
+     */
+    private boolean addSupplementary(int codePoint) {
+        int mask = seenSupplementary.length - 1;
+        int slot = slot(codePoint, mask);
+        while (seenSupplementary[slot] != 0) {
+            if (seenSupplementary[slot] == codePoint) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        seenSupplementary[slot] = codePoint;
+        if (++supplementaryCount * 2 > seenSupplementary.length) {
+            growSupplementary();
+        }
+        return true;
+    }
+
+    private static int slot(int codePoint, int mask) {
+        return HashUtil.mix(codePoint) & mask;
+    }
+
+    private void growSupplementary() {
+        int[] old = seenSupplementary;
+        seenSupplementary = new int[old.length * 2];
+        int mask = seenSupplementary.length - 1;
+        for (int codePoint : old) {
+            if (codePoint != 0) {
+                int slot = slot(codePoint, mask);
+                while (seenSupplementary[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                seenSupplementary[slot] = codePoint;
+            }
+        }
+    }
+}
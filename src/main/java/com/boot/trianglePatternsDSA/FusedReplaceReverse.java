@@ -0,0 +1,297 @@
+package com.boot.trianglePatternsDSA;
+
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+
+/**
+ * Replace-and-reverse with a whole {@link ReplacementTable} in one fused pass.
+ *
+ * ReplaceAndReverse.reverseandReplace copies the string, replaces one char in a
+ * first pass and reverses in a second. Here every character is looked up in the
+ * table at the moment it is swapped to its mirrored position, so each char is
+ * read and written once.
+ *
+ * - CharBuffer: in place, two pointers moving towards the middle. Deleted chars
+ *   leave a hole that is squeezed out by a compaction sweep, which only runs when
+ *   the table deletes something that actually occurred. Surrogate pairs are
+ *   restored to (high, low) order in that same sweep.
+ * - UTF-8 byte[]: the input is decoded backwards one code point at a time and
+ *   re-encoded forwards, so multi-byte sequences stay intact. A replacement can
+ *   change the encoded length, so this variant writes into a separate (reusable)
+ *   output array instead of overwriting the input.
+ *
+ * Both have a parallel mode that splits the input into chunks on the common pool.
+ */
+public class FusedReplaceReverse {
+
+    /** Below this many chars/bytes the parallel mode falls back to sequential. */
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private static final long SURROGATE_FLAG = 1L << 62;
+
+    /**
+     * Replaces and reverses the remaining chars of the buffer in place.
+     * On return the buffer's position is unchanged and its limit is moved back by
+     * the number of deleted chars.
+     *
+     * @param buf the chars to transform
+     * @param table the replacement rules
+     * @param parallel whether to split the work over the common pool
+     * @return the number of chars left in the buffer
+     */
+    public static int replaceAndReverse(CharBuffer buf, ReplacementTable table, boolean parallel) {
+        int pos = buf.position();
+        int n = buf.remaining();
+        int half = n / 2;
+
+        long result;
+        if (parallel && n >= PARALLEL_THRESHOLD) {
+            int chunks = Math.max(1, Runtime.getRuntime().availableProcessors() * 4);
+            int chunkSize = (half + chunks - 1) / chunks;
+            result = IntStream.range(0, chunks).parallel()
+                    .mapToLong(k -> swapPairs(buf, pos, n, k * chunkSize, Math.min(half, (k + 1) * chunkSize), table))
+                    .reduce(0L, FusedReplaceReverse::combine);
+        } else {
+            result = swapPairs(buf, pos, n, 0, half, table);
+        }
+
+        // Middle char of an odd-length input stays where it is
+        if ((n & 1) == 1) {
+            char mid = buf.get(pos + half);
+            char mapped = table.mapOrHole(mid);
+            buf.put(pos + half, mapped);
+            result = combine(result, tally(mid, mapped, table));
+        }
+
+        int holes = (int) (result & ~SURROGATE_FLAG);
+        if (holes == 0 && (result & SURROGATE_FLAG) == 0) {
+            return n;
+        }
+        int length = compact(buf, pos, n, holes > 0 ? table.hole() : -1);
+        buf.limit(pos + length);
+        return length;
+    }
+
+    /**
+     * Convenience method for a String.
+     *
+     * @param str the input string
+     * @param table the replacement rules
+     * @return the replaced and reversed string
+     */
+    public static String replaceAndReverse(String str, ReplacementTable table) {
+        CharBuffer buf = CharBuffer.wrap(str.toCharArray());
+        int length = replaceAndReverse(buf, table, false);
+        return new String(buf.array(), 0, length);
+    }
+
+    /**
+     * Swaps chars i and n-1-i for every i in [from, to), mapping both on the way.
+     *
+     * @return the number of holes written, plus SURROGATE_FLAG if a surrogate was moved
+     */
+    private static long swapPairs(CharBuffer buf, int pos, int n, int from, int to, ReplacementTable table) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            int left = pos + i;
+            int right = pos + n - 1 - i;
+            char a = buf.get(left);
+            char b = buf.get(right);
+            char mappedA = table.mapOrHole(a);
+            char mappedB = table.mapOrHole(b);
+            buf.put(left, mappedB);
+            buf.put(right, mappedA);
+            result = combine(result, tally(a, mappedA, table));
+            result = combine(result, tally(b, mappedB, table));
+        }
+        return result;
+    }
+
+    private static long tally(char original, char mapped, ReplacementTable table) {
+        if (Character.isSurrogate(original)) {
+            return SURROGATE_FLAG;
+        }
+        return (table.hasDeletions() && mapped == table.hole() && table.map(original) == ReplacementTable.DELETE) ? 1 : 0;
+    }
+
+    private static long combine(long x, long y) {
+        return ((x | y) & SURROGATE_FLAG) + (x & ~SURROGATE_FLAG) + (y & ~SURROGATE_FLAG);
+    }
+
+    /**
+     * Removes holes and turns reversed (low, high) surrogate pairs back into (high, low).
+     */
+    private static int compact(CharBuffer buf, int pos, int n, int hole) {
+        int write = pos;
+        int end = pos + n;
+        for (int read = pos; read < end; read++) {
+            char c = buf.get(read);
+            if (c == hole) {
+                continue;
+            }
+            if (Character.isLowSurrogate(c) && read + 1 < end && Character.isHighSurrogate(buf.get(read + 1))) {
+                buf.put(write++, buf.get(read + 1));
+                buf.put(write++, c);
+                read++;
+                continue;
+            }
+            buf.put(write++, c);
+        }
+        return write - pos;
+    }
+
+    /**
+     * Worst-case output size of {@link #replaceAndReverse(byte[], int, int, byte[], int, ReplacementTable, boolean)}:
+     * a one-byte char can be replaced by a three-byte one.
+     */
+    public static int maxUtf8OutputLength(int inputLength) {
+        return Math.multiplyExact(inputLength, 3);
+    }
+
+    /**
+     * Replaces and reverses the UTF-8 text src[from, to) into dst, keeping every
+     * multi-byte sequence intact. Malformed bytes are copied through unchanged.
+     *
+     * @param src UTF-8 input
+     * @param from first input byte
+     * @param to index after the last input byte
+     * @param dst output array, must not be src
+     * @param dstOff where to start writing in dst
+     * @param table the replacement rules
+     * @param parallel whether to split the work over the common pool
+     * @return the number of bytes written
+     */
+    public static int replaceAndReverse(byte[] src, int from, int to, byte[] dst, int dstOff,
+                                        ReplacementTable table, boolean parallel) {
+        if (src == dst) {
+            throw new IllegalArgumentException("UTF-8 replacement can change the length, use a separate output array");
+        }
+        if (!parallel || to - from < PARALLEL_THRESHOLD) {
+            return reverseUtf8(src, from, to, dst, dstOff, table, true);
+        }
+
+        // Chunk boundaries moved forward onto the start of a sequence
+        int chunks = Math.max(1, Runtime.getRuntime().availableProcessors() * 4);
+        int[] bounds = new int[chunks + 1];
+        bounds[0] = from;
+        bounds[chunks] = to;
+        for (int k = 1; k < chunks; k++) {
+            int b = Math.max(bounds[k - 1], from + (int) ((long) (to - from) * k / chunks));
+            for (int step = 0; step < 3 && b < to && (src[b] & 0xC0) == 0x80; step++) {
+                b++;
+            }
+            bounds[k] = b;
+        }
+
+        // Output length of each chunk, then offsets: the last chunk is written first
+        int[] lengths = new int[chunks];
+        IntStream.range(0, chunks).parallel()
+                .forEach(k -> lengths[k] = reverseUtf8(src, bounds[k], bounds[k + 1], null, 0, table, false));
+        int[] offsets = new int[chunks];
+        int offset = dstOff;
+        for (int k = chunks - 1; k >= 0; k--) {
+            offsets[k] = offset;
+            offset += lengths[k];
+        }
+        IntStream.range(0, chunks).parallel()
+                .forEach(k -> reverseUtf8(src, bounds[k], bounds[k + 1], dst, offsets[k], table, true));
+        return offset - dstOff;
+    }
+
+    /**
+     * Walks src[from, to) backwards one code point at a time and writes the mapped
+     * code points forwards into dst. With write == false only the length is computed.
+     */
+    private static int reverseUtf8(byte[] src, int from, int to, byte[] dst, int dstOff,
+                                   ReplacementTable table, boolean write) {
+        int out = dstOff;
+        int end = to;
+        while (end > from) {
+            // Step back over continuation bytes to the lead byte
+            int start = end - 1;
+            while (start > from && end - start < 4 && (src[start] & 0xC0) == 0x80) {
+                start--;
+            }
+            int lead = src[start] & 0xFF;
+            int len = end - start;
+            if (sequenceLength(lead) != len) {
+                // Malformed: copy the last byte through and continue before it
+                if (write) {
+                    dst[out] = src[end - 1];
+                }
+                out++;
+                end--;
+                continue;
+            }
+
+            int codePoint = len == 1 ? lead : lead & (0xFF >>> (len + 1));
+            for (int i = start + 1; i < end; i++) {
+                codePoint = (codePoint << 6) | (src[i] & 0x3F);
+            }
+            int mapped = table.mapCodePoint(codePoint);
+            if (mapped == codePoint) {
+                if (write) {
+                    System.arraycopy(src, start, dst, out, len);
+                }
+                out += len;
+            } else if (mapped != ReplacementTable.DELETE) {
+                out = write ? encode(mapped, dst, out) : out + encodedLength(mapped);
+            }
+            end = start;
+        }
+        return out - dstOff;
+    }
+
+    private static int sequenceLength(int lead) {
+        if (lead < 0x80) {
+            return 1;
+        } else if ((lead & 0xE0) == 0xC0) {
+            return 2;
+        } else if ((lead & 0xF0) == 0xE0) {
+            return 3;
+        } else if ((lead & 0xF8) == 0xF0) {
+            return 4;
+        }
+        return -1;
+    }
+
+    private static int encodedLength(int codePoint) {
+        return codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : 3;
+    }
+
+    // Replacements are BMP chars, so at most three bytes
+    private static int encode(int codePoint, byte[] dst, int out) {
+        if (codePoint < 0x80) {
+            dst[out++] = (byte) codePoint;
+        } else if (codePoint < 0x800) {
+            dst[out++] = (byte) (0xC0 | (codePoint >>> 6));
+            dst[out++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else {
+            dst[out++] = (byte) (0xE0 | (codePoint >>> 12));
+            dst[out++] = (byte) (0x80 | ((codePoint >>> 6) & 0x3F));
+            dst[out++] = (byte) (0x80 | (codePoint & 0x3F));
+        }
+        return out;
+    }
+
+    public static void main(String[] args) {
+        // Same example as ReplaceAndReverse: replace 'D' with 'X', then reverse
+        ReplacementTable single = new ReplacementTable.ReplacementTableBuilder().replace('D', 'X').build();
+        System.out.println(replaceAndReverse("abcdD", single));                    // Xdcba
+
+        // Many rules at once, including deletions
+        ReplacementTable normalize = new ReplacementTable.ReplacementTableBuilder()
+                .replaceAll("éèà", "eea")
+                .replace('\t', ' ')
+                .deleteAll("!?")
+                .build();
+        System.out.println(replaceAndReverse("café!\tlà?", normalize));     // al efac
+
+        // UTF-8 bytes, multi-byte sequences stay intact
+        byte[] utf8 = "naïve €5!".getBytes(StandardCharsets.UTF_8);
+        byte[] out = new byte[maxUtf8OutputLength(utf8.length)];
+        int written = replaceAndReverse(utf8, 0, utf8.length, out, 0, normalize, false);
+        System.out.println(new String(out, 0, written, StandardCharsets.UTF_8));   // 5€ evïan
+    }
+}
@@ -0,0 +1,90 @@
+package com.boot.trianglePatternsDSA;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Simple timing comparison of the streaming de-duplication against the naive
+ * LinkedHashSet<Character> solution. Run with larger sizes via the first argument.
+ */
+public class RemoveDuplicatesBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    // Naive reference solution: boxes every char and allocates a node per distinct one
+    static String naiveRemoveDuplicates(String str) {
+        Set<Character> seen = new LinkedHashSet<>();
+        for (char c : str.toCharArray()) {
+            seen.add(c);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (char c : seen) {
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int length = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        String input = randomText(length, new Random(42));
+
+        RemoveDuplicatesFromString streaming = new RemoveDuplicatesFromString();
+        RemoveDuplicatesFromStringWithoutChars withoutChars = new RemoveDuplicatesFromStringWithoutChars();
+        StringBuilder result = new StringBuilder();
+        Writer sink = Writer.nullWriter();
+
+        // Sanity check before timing
+        String expected = naiveRemoveDuplicates(input);
+        withoutChars.removeDuplicates(input, result);
+        if (!expected.equals(result.toString()) || !expected.equals(RemoveDuplicatesFromString.removeDuplicates(input))) {
+            throw new IllegalStateException("Implementations disagree");
+        }
+
+        System.out.println("Input length: " + length);
+        time("LinkedHashSet (naive)", () -> naiveRemoveDuplicates(input));
+        time("Reader/Writer streaming", () -> {
+            try {
+                streaming.removeDuplicates(new StringReader(input), sink);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        time("CharSequence (without chars)", () -> {
+            result.setLength(0);
+            withoutChars.removeDuplicates(input, result);
+        });
+    }
+
+    private static void time(String name, Runnable task) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            task.run();
+        }
+        long avgMicros = (System.nanoTime() - start) / MEASURED_ROUNDS / 1000;
+        System.out.println(String.format("%-30s %,10d us/op", name, avgMicros));
+    }
+
+    // Mostly lowercase letters and spaces with some accented characters mixed in
+    private static String randomText(int length, Random random) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            int r = random.nextInt(100);
+            if (r < 85) {
+                sb.append((char) ('a' + random.nextInt(26)));
+            } else if (r < 97) {
+                sb.append(' ');
+            } else {
+                sb.append((char) (0xC0 + random.nextInt(0x100)));
+            }
+        }
+        return sb.toString();
+    }
+}
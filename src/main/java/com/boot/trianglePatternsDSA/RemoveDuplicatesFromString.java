@@ -1,4 +1,85 @@
 package com.boot.trianglePatternsDSA;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+
+/**
+ * Order-preserving removal of duplicate characters, streamed from a Reader to a Writer.
+ * Example: "programming" -> "progamin"
+ *
+ * Input is read into a reusable char[] buffer and the kept characters are written
+ * into a second reusable char[] buffer, so after construction no memory is allocated
+ * however long the stream is. An instance can be reused for many streams but is
+ * not thread-safe.
+ */
 public class RemoveDuplicatesFromString {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final DuplicateCharFilter filter = new DuplicateCharFilter();
+    private final char[] in;
+    private final char[] out;
+
+    public RemoveDuplicatesFromString() {
+        this(BUFFER_SIZE);
+    }
+
+    public RemoveDuplicatesFromString(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+        in = new char[bufferSize];
+        out = new char[bufferSize + 1]; // +1 for a high surrogate carried over from the previous read
+    }
+
+    /**
+     * Copies the reader to the writer, keeping only the first occurrence of each character.
+     * Neither stream is closed.
+     *
+     * @param reader source of characters
+     * @param writer destination for the de-duplicated characters
+     * @return the number of characters written
+     * @throws IOException If reading or writing fails
+     */
+    public long removeDuplicates(Reader reader, Writer writer) throws IOException {
+        filter.reset();
+        long written = 0;
+        int read;
+        while ((read = reader.read(in, 0, in.length)) != -1) {
+            int n = filter.filter(in, 0, read, out, 0);
+            writer.write(out, 0, n);
+            written += n;
+        }
+        int n = filter.finish(out, 0);
+        writer.write(out, 0, n);
+        return written + n;
+    }
+
+    /**
+     * Convenience method for a single string.
+     *
+     * @param str the input string
+     * @return the string with duplicate characters removed
+     */
+    public static String removeDuplicates(String str) {
+        StringWriter writer = new StringWriter(str.length());
+        try {
+            new RemoveDuplicatesFromString(Math.max(1, Math.min(str.length(), BUFFER_SIZE)))
+                    .removeDuplicates(new StringReader(str), writer);
+        } catch (IOException e) {
+            // StringReader and StringWriter never throw
+            throw new IllegalStateException(e);
+        }
+        return writer.toString();
+    }
+
+    public static void main(String[] args) {
+        System.out.println(removeDuplicates("programming"));   // progamin
+        System.out.println(removeDuplicates("aabbccdd"));      // abcd
+        System.out.println(removeDuplicates("hello world"));   // helo wrd
+        System.out.println(removeDuplicates("\uD83D\uDE00a\uD83D\uDE00b").length()); // 4 (emoji, a, b)
+    }
 }
@@ -1,4 +1,54 @@
 package com.boot.trianglePatternsDSA;
 
+/**
+ * Order-preserving removal of duplicate characters without converting the input
+ * into a char[] first (no toCharArray, no per-character String or Character).
+ * Example: "banana" -> "ban"
+ *
+ * The input is read with charAt straight from any CharSequence (String, StringBuilder,
+ * CharBuffer...) and the result is built in a reusable output buffer through the
+ * same core used by {@link RemoveDuplicatesFromString}.
+ */
 public class RemoveDuplicatesFromStringWithoutChars {
+
+    private final DuplicateCharFilter filter = new DuplicateCharFilter();
+    private char[] out = new char[64];
+
+    /**
+     * Removes duplicate characters and appends the result to the given builder.
+     *
+     * @param input the characters to de-duplicate
+     * @param result where the kept characters are appended
+     * @return the number of characters appended
+     */
+    public int removeDuplicates(CharSequence input, StringBuilder result) {
+        int length = input.length();
+        if (out.length < length + 1) {
+            // Grow only when a longer input than ever before shows up
+            out = new char[Math.max(length + 1, out.length * 2)];
+        }
+        filter.reset();
+        int n = filter.filter(input, 0, length, out, 0);
+        n = filter.finish(out, n);
+        result.append(out, 0, n);
+        return n;
+    }
+
+    /**
+     * Convenience method for a single string.
+     *
+     * @param str the input string
+     * @return the string with duplicate characters removed
+     */
+    public static String removeDuplicates(String str) {
+        StringBuilder result = new StringBuilder(str.length());
+        new RemoveDuplicatesFromStringWithoutChars().removeDuplicates(str, result);
+        return result.toString();
+    }
+
+    public static void main(String[] args) {
+        System.out.println(removeDuplicates("banana"));        // ban
+        System.out.println(removeDuplicates("Mississippi"));   // Misp
+        System.out.println(removeDuplicates(""));              // (empty)
+    }
 }
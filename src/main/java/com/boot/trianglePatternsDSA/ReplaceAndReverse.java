@@ -1,4 +1,34 @@
 package com.boot.trianglePatternsDSA;
 
-public class ReplaceAndReverse {
+import com.boot.StringsDSA.Rope;
+
+public class ReplaceAndReverse
+{
+    public static void main(String[] args) {
+        String str="abcdD";
+        char oldChar='D';
+        char newChar='X';
+        String finalResult=reverseandReplace(str ,oldChar, newChar);
+        System.out.println(finalResult);
+        System.out.println(reverseandReplace(Rope.of("abc").concat("dD"), oldChar, newChar));   // Xdcba
+    }
+
+    // Same result for any CharSequence (StringBuilder, Rope, ...) without copying the input first:
+    // every char is read once and written, replaced, straight to its mirrored position
+    public static String reverseandReplace(CharSequence text,char oldChar,char newChar)
+    {
+        int n = text.length();
+        char[] result = new char[n];
+        for(int i=0;i<n;i++)
+        {
+            char c = text.charAt(i);
+            result[n-1-i] = c==oldChar ? newChar : c;
+        }
+        return new String(result);
+    }
+
+    public static String reverseandReplace(String str,char oldChar,char newChar)
+    {
+        return reverseandReplace((CharSequence) str, oldChar, newChar);
+    }
 }
@@ -0,0 +1,178 @@
+package com.boot.trianglePatternsDSA;
+
+import java.util.BitSet;
+
+/**
+ * Immutable table of character replacements (old -> new) and deletions, used by
+ * {@link FusedReplaceReverse}. Lookups are a single array access per character.
+ *
+ * Only BMP characters can be mapped; surrogates are rejected so that the
+ * engines never split a surrogate pair.
+ */
+public class ReplacementTable {
+
+    /** Value of {@link #map(char)} for characters that are deleted. */
+    static final int DELETE = -1;
+
+    private static final int ALPHABET = Character.MAX_VALUE + 1;
+
+    // mapping[c] is the replacement of c, or DELETE
+    private final int[] mapping;
+    private final boolean hasDeletions;
+    private final boolean identity;
+
+    // A char that can never appear in the output, used to mark deleted slots in place
+    private final char hole;
+
+    private ReplacementTable(ReplacementTableBuilder builder) {
+        this.mapping = builder.mapping.clone();
+        this.hasDeletions = builder.deletions > 0;
+        this.identity = builder.changed.isEmpty();
+
+        // Every output char is either unchanged or a replacement target. When at least one
+        // char is deleted there are fewer targets than changed chars, so some changed char
+        // is never produced and can safely mark a hole.
+        BitSet targets = new BitSet(ALPHABET);
+        for (int c = builder.changed.nextSetBit(0); c >= 0; c = builder.changed.nextSetBit(c + 1)) {
+            if (mapping[c] != DELETE) {
+                targets.set(mapping[c]);
+            }
+        }
+        int holeChar = 0;
+        if (hasDeletions) {
+            for (int c = builder.changed.nextSetBit(0); c >= 0; c = builder.changed.nextSetBit(c + 1)) {
+                if (!targets.get(c)) {
+                    holeChar = c;
+                    break;
+                }
+            }
+        }
+        this.hole = (char) holeChar;
+    }
+
+    /**
+     * @param c a character
+     * @return the replacement of c, or {@link #DELETE}
+     */
+    int map(char c) {
+        return mapping[c];
+    }
+
+    /**
+     * Same as {@link #map(char)} but deleted characters come back as {@link #hole()}.
+     */
+    char mapOrHole(char c) {
+        int m = mapping[c];
+        return m == DELETE ? hole : (char) m;
+    }
+
+    /**
+     * Maps a code point; supplementary code points are never changed.
+     */
+    int mapCodePoint(int codePoint) {
+        return codePoint < ALPHABET ? mapping[codePoint] : codePoint;
+    }
+
+    boolean hasDeletions() {
+        return hasDeletions;
+    }
+
+    boolean isIdentity() {
+        return identity;
+    }
+
+    char hole() {
+        return hole;
+    }
+
+    /**
+     * Builder for ReplacementTable. Later rules for the same character win.
+     */
+    public static class ReplacementTableBuilder {
+        private final int[] mapping = new int[ALPHABET];
+        private final BitSet changed = new BitSet(ALPHABET);
+        private int deletions;
+
+        public ReplacementTableBuilder() {
+            for (int c = 0; c < ALPHABET; c++) {
+                mapping[c] = c;
+            }
+        }
+
+        /**
+         * Replace every occurrence of oldChar with newChar.
+         *
+         * @param oldChar the character to replace
+         * @param newChar its replacement
+         * @return The builder instance for method chaining
+         */
+        public ReplacementTableBuilder replace(char oldChar, char newChar) {
+            checkNotSurrogate(oldChar);
+            checkNotSurrogate(newChar);
+            if (mapping[oldChar] == DELETE) {
+                deletions--;
+            }
+            mapping[oldChar] = newChar;
+            if (oldChar == newChar) {
+                changed.clear(oldChar);
+            } else {
+                changed.set(oldChar);
+            }
+            return this;
+        }
+
+        /**
+         * Remove every occurrence of c.
+         *
+         * @param c the character to delete
+         * @return The builder instance for method chaining
+         */
+        public ReplacementTableBuilder delete(char c) {
+            checkNotSurrogate(c);
+            if (mapping[c] != DELETE) {
+                deletions++;
+            }
+            mapping[c] = DELETE;
+            changed.set(c);
+            return this;
+        }
+
+        /**
+         * Replace each char of oldChars with the char at the same index of newChars,
+         * like the Unix tr command.
+         *
+         * @return The builder instance for method chaining
+         */
+        public ReplacementTableBuilder replaceAll(String oldChars, String newChars) {
+            if (oldChars.length() != newChars.length()) {
+                throw new IllegalArgumentException("oldChars and newChars must have the same length");
+            }
+            for (int i = 0; i < oldChars.length(); i++) {
+                replace(oldChars.charAt(i), newChars.charAt(i));
+            }
+            return this;
+        }
+
+        /**
+         * Delete every char of the given string.
+         *
+         * @return The builder instance for method chaining
+         */
+        public ReplacementTableBuilder deleteAll(String chars) {
+            for (int i = 0; i < chars.length(); i++) {
+                delete(chars.charAt(i));
+            }
+            return this;
+        }
+
+        public ReplacementTable build() {
+            return new ReplacementTable(this);
+        }
+
+        private static void checkNotSurrogate(char c) {
+            if (Character.isSurrogate(c)) {
+                throw new IllegalArgumentException("Surrogates cannot be mapped: \\u" + Integer.toHexString(c));
+            }
+        }
+    }
+}
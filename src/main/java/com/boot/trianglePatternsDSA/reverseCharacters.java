@@ -1,4 +1,275 @@
 package com.boot.trianglePatternsDSA;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reverses the character order or the word order of UTF-8 files of any size.
+ *
+ * The source is memory-mapped in blocks starting from the end of the file, so
+ * only one block is resident at a time and the whole text is never turned into a
+ * String. Output goes through a FileChannel with gathering writes:
+ *  - character mode decodes each block backwards one code point at a time and
+ *    copies the bytes of every sequence (1 to 4 bytes) in their original order,
+ *    so multi-byte characters, including the 4-byte ones that are surrogate
+ *    pairs in Java, are never split
+ *  - word mode emits whitespace-separated tokens from last to first; short tokens
+ *    are copied into a staging buffer, long ones are handed to the gathering
+ *    write as zero-copy slices of the mapped block
+ *
+ * Combining marks are reversed like any other code point.
+ */
 public class reverseCharacters {
+
+    public enum Mode {
+        CHARACTERS,
+        WORDS
+    }
+
+    private static final int BLOCK_SIZE = 64 * 1024 * 1024;
+    private static final int STAGING_SIZE = 1024 * 1024;
+    private static final int MAX_SEGMENTS = 256;
+
+    /** Tokens at least this long are written straight from the mapped block. */
+    private static final int ZERO_COPY_THRESHOLD = 4096;
+
+    /**
+     * Reverses the source file into the target file.
+     *
+     * @param source UTF-8 file to reverse
+     * @param target file to create or overwrite, must not be the source
+     * @param mode reverse characters or words
+     * @throws IOException If reading or writing fails
+     * @throws IllegalArgumentException If target is the same file as source
+     */
+    public static void reverseFile(Path source, Path target, Mode mode) throws IOException {
+        reverseFile(source, target, mode, BLOCK_SIZE);
+    }
+
+    // Tests force tiny blocks (at least 4 bytes, the longest UTF-8 sequence) to exercise the block seams
+    static void reverseFile(Path source, Path target, Mode mode, int blockSize) throws IOException {
+        // Truncating the target would wipe the source before it is read
+        if (Files.exists(target) && Files.isSameFile(source, target)) {
+            throw new IllegalArgumentException("Target is the source file: " + target);
+        }
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            GatheringOutput output = new GatheringOutput(out);
+            if (mode == Mode.CHARACTERS) {
+                reverseCharsOfFile(in, output, blockSize);
+            } else {
+                reverseWordsOfFile(in, output, blockSize);
+            }
+            output.flush();
+        }
+    }
+
+    private static void reverseCharsOfFile(FileChannel in, GatheringOutput output, int blockSize) throws IOException {
+        long end = in.size();
+        while (end > 0) {
+            long start = Math.max(0, end - blockSize);
+            MappedByteBuffer block = in.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+
+            // Continuation bytes at the front belong to a char whose lead byte is in the previous block
+            int first = 0;
+            if (start > 0) {
+                while (first < 3 && first < block.limit() && (block.get(first) & 0xC0) == 0x80) {
+                    first++;
+                }
+            }
+
+            int i = block.limit();
+            while (i > first) {
+                int len = sequenceLengthEndingAt(block, first, i);
+                output.copy(block, i - len, len);
+                i -= len;
+            }
+            output.flush(); // release references to this block before mapping the next one
+            end = start + first;
+        }
+    }
+
+    private static void reverseWordsOfFile(FileChannel in, GatheringOutput output, int blockSize) throws IOException {
+        long end = in.size();
+        while (end > 0) {
+            long start = Math.max(0, end - blockSize);
+            MappedByteBuffer block = in.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+
+            // Walk tokens (runs of whitespace or of non-whitespace) from the end of the block.
+            // The first token of the block may continue into the previous block, so it is left
+            // for the next round unless the block starts at the beginning of the file.
+            int i = block.limit();
+            while (i > 0) {
+                boolean space = isSpace(block.get(i - 1));
+                int tokenStart = i - 1;
+                while (tokenStart > 0 && isSpace(block.get(tokenStart - 1)) == space) {
+                    tokenStart--;
+                }
+                if (tokenStart == 0 && start > 0) {
+                    break;
+                }
+                output.emit(block, tokenStart, i - tokenStart);
+                i = tokenStart;
+            }
+            output.flush();
+
+            if (i == block.limit() && start > 0) {
+                // One token covers the whole block: find where it starts and copy it in one go
+                long tokenStart = findTokenStart(in, start, isSpace(block.get(0)));
+                output.transferFrom(in, tokenStart, end - tokenStart);
+                end = tokenStart;
+            } else {
+                end = start + i;
+            }
+        }
+    }
+
+    private static long findTokenStart(FileChannel in, long before, boolean space) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+        long pos = before;
+        while (pos > 0) {
+            long from = Math.max(0, pos - probe.capacity());
+            probe.clear().limit((int) (pos - from));
+            in.read(probe, from);
+            for (int i = probe.position() - 1; i >= 0; i--) {
+                if (isSpace(probe.get(i)) != space) {
+                    return from + i + 1;
+                }
+            }
+            pos = from;
+        }
+        return 0;
+    }
+
+    /**
+     * Length of the UTF-8 sequence that ends just before index end. Malformed
+     * bytes are treated as one-byte sequences.
+     */
+    private static int sequenceLengthEndingAt(ByteBuffer buf, int from, int end) {
+        int start = end - 1;
+        while (start > from && end - start < 4 && (buf.get(start) & 0xC0) == 0x80) {
+            start--;
+        }
+        int lead = buf.get(start) & 0xFF;
+        int expected = lead < 0x80 ? 1
+                : (lead & 0xE0) == 0xC0 ? 2
+                : (lead & 0xF0) == 0xE0 ? 3
+                : (lead & 0xF8) == 0xF0 ? 4
+                : -1;
+        return expected == end - start ? expected : 1;
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == '\f';
+    }
+
+    /**
+     * Collects output segments and writes them with one gathering write per batch.
+     * Small pieces are copied into a reusable direct staging buffer; large pieces
+     * are added as slices of their source buffer without copying.
+     */
+    private static final class GatheringOutput {
+        private final FileChannel channel;
+        private final ByteBuffer staging = ByteBuffer.allocateDirect(STAGING_SIZE);
+        private final ByteBuffer[] segments = new ByteBuffer[MAX_SEGMENTS];
+        private int segmentCount;
+        private int segmentStart; // start in staging of the segment being filled
+
+        GatheringOutput(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void copy(ByteBuffer src, int from, int length) throws IOException {
+            if (staging.remaining() < length) {
+                flush();
+            }
+            if (length == 1) {
+                staging.put(src.get(from));   // ASCII chars: a bulk put costs more than it saves
+                return;
+            }
+            int position = staging.position();
+            staging.put(position, src, from, length).position(position + length);
+        }
+
+        void emit(ByteBuffer src, int from, int length) throws IOException {
+            if (length < ZERO_COPY_THRESHOLD) {
+                copy(src, from, length);
+                return;
+            }
+            closeStagingSegment();
+            if (segmentCount == MAX_SEGMENTS) {
+                writeSegments();
+            }
+            segments[segmentCount++] = src.slice(from, length);
+        }
+
+        void transferFrom(FileChannel in, long position, long count) throws IOException {
+            flush();
+            long done = 0;
+            while (done < count) {
+                done += in.transferTo(position + done, count - done, channel);
+            }
+        }
+
+        void flush() throws IOException {
+            closeStagingSegment();
+            writeSegments();
+            staging.clear();
+            segmentStart = 0;
+        }
+
+        private void writeSegments() throws IOException {
+            long remaining = 0;
+            for (int i = 0; i < segmentCount; i++) {
+                remaining += segments[i].remaining();
+            }
+            while (remaining > 0) {
+                remaining -= channel.write(segments, 0, segmentCount);
+            }
+            for (int i = 0; i < segmentCount; i++) {
+                segments[i] = null;
+            }
+            segmentCount = 0;
+        }
+
+        private void closeStagingSegment() throws IOException {
+            if (staging.position() == segmentStart) {
+                return;
+            }
+            if (segmentCount == MAX_SEGMENTS) {
+                writeSegments();
+            }
+            segments[segmentCount++] = staging.slice(segmentStart, staging.position() - segmentStart);
+            segmentStart = staging.position();
+        }
+    }
+
+    /**
+     * In-memory version for small strings, reverses by code point.
+     *
+     * @param str the input string
+     * @return the string with its characters in reverse order
+     */
+    public static String reverse(String str) {
+        // StringBuilder.reverse keeps surrogate pairs together
+        return new StringBuilder(str).reverse().toString();
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.out.println(reverse("hello world"));   // dlrow olleh
+
+        // Usage on a large file: java com.boot.trianglePatternsDSA.reverseCharacters in.log out.log WORDS
+        if (args.length >= 2) {
+            Mode mode = args.length > 2 ? Mode.valueOf(args[2]) : Mode.CHARACTERS;
+            long start = System.nanoTime();
+            reverseFile(Path.of(args[0]), Path.of(args[1]), mode);
+            System.out.println("Took " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+    }
 }
@@ -0,0 +1,46 @@
+package com.boot.util;
+
+/**
+ * Timing loop and blackhole shared by the plain-Java benchmarks of the project
+ * (no JMH): every task is warmed up, then timed over several rounds with
+ * System.nanoTime, and its results are fed to {@link #consume} so the JIT cannot
+ * drop the work.
+ */
+public final class Benchmarks {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int MIN_OPERATIONS_PER_ROUND = 10_000_000;
+
+    // Keeps the JIT from dropping the lookups
+    private static long blackhole;
+
+    private Benchmarks() {
+    }
+
+    /**
+     * Sinks a result of the measured code.
+     */
+    public static void consume(long value) {
+        blackhole += value;
+    }
+
+    /**
+     * Runs task until warm, then prints its time per operation.
+     *
+     * @param operations operations done by one run of task
+     */
+    public static void time(String name, int operations, Runnable task) {
+        // Small inputs are run more often per round so the timer resolution and JIT warmup don't dominate
+        int rounds = Math.max(MEASURED_ROUNDS, MIN_OPERATIONS_PER_ROUND / operations);
+        for (int i = 0; i < Math.max(WARMUP_ROUNDS, rounds / 2); i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            task.run();
+        }
+        double nanosPerOp = (double) (System.nanoTime() - start) / rounds / operations;
+        System.out.println(String.format("  %-36s %8.1f ns/op", name, nanosPerOp));
+    }
+}
@@ -29,6 +29,23 @@ public class ExcelReader {
      * @throws IOException If there's an error reading the file
      */
     public static List<Map<String, String>> readExcelData(String filePath, String sheetName, boolean hasHeaderRow) throws IOException {
+        return readExcelData(filePath, sheetName, hasHeaderRow, null);
+    }
+
+    /**
+     * Reads data from an Excel file like {@link #readExcelData(String, String, boolean)},
+     * passing every header and cell value through the given interner so that
+     * repeated strings share one instance across all rows.
+     *
+     * @param filePath Path to the Excel file
+     * @param sheetName Name of the sheet to read (if null, reads the first sheet)
+     * @param hasHeaderRow Whether the first row contains headers
+     * @param interner Interner for headers and values (if null, strings are not interned)
+     * @return List of maps, each representing a row of data
+     * @throws IOException If there's an error reading the file
+     */
+    public static List<Map<String, String>> readExcelData(String filePath, String sheetName, boolean hasHeaderRow,
+                                                          StringInterner interner) throws IOException {
         List<Map<String, String>> data = new ArrayList<>();
         
         try (FileInputStream fis = new FileInputStream(new File(filePath));
@@ -53,7 +70,7 @@ public class ExcelReader {
                     headers = new String[headerRow.getLastCellNum()];
                     for (int i = 0; i < headerRow.getLastCellNum(); i++) {
                         Cell cell = headerRow.getCell(i);
-                        headers[i] = (cell != null) ? getCellValueAsString(cell) : "Column" + (i + 1);
+                        headers[i] = intern(interner, (cell != null) ? getCellValueAsString(cell) : "Column" + (i + 1));
                     }
                     startRow = 1;
                 }
@@ -68,10 +85,10 @@ public class ExcelReader {
                 
                 for (int j = 0; j < (headers != null ? headers.length : row.getLastCellNum()); j++) {
                     Cell cell = row.getCell(j);
-                    String value = (cell != null) ? getCellValueAsString(cell) : "";
+                    String value = intern(interner, (cell != null) ? getCellValueAsString(cell) : "");
                     
                     // Use header name as key if available, otherwise use column index
-                    String key = (headers != null) ? headers[j] : "Column" + (j + 1);
+                    String key = (headers != null) ? headers[j] : intern(interner, "Column" + (j + 1));
                     rowData.put(key, value);
                 }
                 
@@ -114,6 +131,13 @@ public class ExcelReader {
         }
     }
     
+    /**
+     * Returns the pooled instance of value, or value itself when no interner is given.
+     */
+    private static String intern(StringInterner interner, String value) {
+        return interner != null ? interner.intern(value) : value;
+    }
+    
     /**
      * Creates a workbook based on the file extension (.xls or .xlsx).
      *
@@ -0,0 +1,99 @@
+package com.boot.util;
+
+/**
+ * Hash mixing and table sizing shared by the primitive hash tables, sketches
+ * and filters of the project.
+ */
+public final class HashUtil {
+
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    /** 64-bit FNV-1a parameters, for hashing chars or bytes in a loop without creating a String. */
+    public static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    public static final long FNV_PRIME = 0x100000001b3L;
+
+    private HashUtil() {
+    }
+
+    /**
+     * Spreads an int key over all 32 bits (golden-ratio multiply plus xor-shift),
+     * so that masking off the low bits gives a good slot index.
+     */
+    public static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * MurmurHash3 fmix64 folded down to an int.
+     */
+    public static int mix(long key) {
+        return (int) fmix64(key);
+    }
+
+    /**
+     * MurmurHash3 fmix64 finalizer, makes every output bit depend on every input bit.
+     */
+    public static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * FNV-1a of the chars text[from, to) finished with {@link #fmix64}: a well
+     * mixed 64-bit hash read straight from any CharSequence.
+     */
+    public static long hash(CharSequence text, int from, int to) {
+        long hash = FNV_OFFSET;
+        for (int i = from; i < to; i++) {
+            hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+        }
+        return fmix64(hash);
+    }
+
+    /**
+     * Same as {@link #hash(CharSequence, int, int)} for chars[from, to), giving the same hash.
+     */
+    public static long hash(char[] chars, int from, int to) {
+        long hash = FNV_OFFSET;
+        for (int i = from; i < to; i++) {
+            hash = (hash ^ chars[i]) * FNV_PRIME;
+        }
+        return fmix64(hash);
+    }
+
+    /**
+     * Smallest power-of-two table that holds expectedSize entries below the load factor.
+     */
+    public static int tableSize(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) loadFactor) + 1;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Expected size too large: " + expectedSize);
+        }
+        return Math.max(4, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    /**
+     * Table with room for expectedSize entries below the load factor, not rounded
+     * up to a power of two (at least 8 slots). Index it with {@link #slot}.
+     */
+    public static int compactTableSize(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) loadFactor) + 1;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Expected size too large: " + expectedSize);
+        }
+        return Math.max(8, (int) needed);
+    }
+
+    /**
+     * Maps a mixed hash onto [0, capacity) for any capacity, using the high bits
+     * of hash * capacity instead of a modulo.
+     */
+    public static int slot(int hash, int capacity) {
+        return (int) (((hash & 0xFFFFFFFFL) * capacity) >>> 32);
+    }
+}
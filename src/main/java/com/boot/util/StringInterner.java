@@ -0,0 +1,198 @@
+package com.boot.util;
+
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent string interner for de-duplicating the strings read by
+ * {@link ExcelReader} and XmlCredentialReader (header names and repeated cell values).
+ *
+ * Unlike String.intern (see StringPoolDemo) the pool is a normal heap object that
+ * can be sized, measured and dropped:
+ *  - the table is split into lock stripes chosen by hash, so threads interning
+ *    different strings rarely contend
+ *  - in the default weak mode a canonical string stays in the pool only while
+ *    something else still references it, so the pool never keeps data alive
+ *  - in bounded LRU mode maxSize is split across the stripes (small bounds use
+ *    fewer stripes, so every stripe holds at least one string); each stripe keeps
+ *    its share strongly and evicts its least recently used string, so the pool
+ *    never exceeds maxSize, though eviction is only LRU within a stripe
+ *
+ * Hit ratio and an estimate of the heap saved by returning canonical instances
+ * are tracked with LongAdders.
+ */
+public class StringInterner {
+
+    private static final int DEFAULT_STRIPES = 16;
+
+    // Object header + fields of a String plus the header of its byte[]
+    private static final int STRING_OVERHEAD_BYTES = 24 + 16;
+
+    private final Map<?, ?>[] stripes;
+    private final boolean weak;
+    private final int mask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    private StringInterner(int stripeCount, boolean weak, int maxSize) {
+        int count = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        if (!weak) {
+            // No more stripes than maxSize, so that no stripe is rounded up to one entry
+            count = Math.min(count, Integer.highestOneBit(maxSize));
+        }
+        this.weak = weak;
+        this.mask = count - 1;
+        Map<?, ?>[] maps = new Map<?, ?>[count];
+        for (int i = 0; i < count; i++) {
+            // The first maxSize % count stripes take one extra entry: the shares add up to maxSize
+            int share = maxSize / count + (i < maxSize % count ? 1 : 0);
+            maps[i] = weak ? new WeakHashMap<String, WeakReference<String>>() : new LruMap(share);
+        }
+        this.stripes = maps;
+    }
+
+    /**
+     * Creates an interner whose entries disappear once the strings are no longer used elsewhere.
+     */
+    public static StringInterner weak() {
+        return new StringInterner(DEFAULT_STRIPES, true, 0);
+    }
+
+    /**
+     * Creates an interner holding at most maxSize strings, evicting the least
+     * recently used string of the stripe that is full.
+     *
+     * @param maxSize maximum number of pooled strings
+     */
+    public static StringInterner lru(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        return new StringInterner(DEFAULT_STRIPES, false, maxSize);
+    }
+
+    /**
+     * Returns the canonical instance equal to value, adding value to the pool if
+     * there is none yet.
+     *
+     * @param value the string to intern, may be null
+     * @return the pooled instance, or null for null
+     */
+    @SuppressWarnings("unchecked")
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        Map<?, ?> stripe = stripes[spread(value.hashCode()) & mask];
+        String canonical;
+        synchronized (stripe) {
+            if (weak) {
+                Map<String, WeakReference<String>> map = (Map<String, WeakReference<String>>) stripe;
+                WeakReference<String> ref = map.get(value);
+                canonical = ref != null ? ref.get() : null;
+                if (canonical == null) {
+                    // The value only refers weakly to itself, so the entry can still be collected
+                    map.put(value, new WeakReference<>(value));
+                }
+            } else {
+                Map<String, String> map = (Map<String, String>) stripe;
+                canonical = map.putIfAbsent(value, value);
+            }
+        }
+
+        if (canonical == null) {
+            misses.increment();
+            return value;
+        }
+        hits.increment();
+        if (canonical != value) {
+            bytesSaved.add(estimateSize(value));
+        }
+        return canonical;
+    }
+
+    /**
+     * @return the number of strings currently pooled (weak entries may already be stale)
+     */
+    public int size() {
+        int size = 0;
+        for (Map<?, ?> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the fraction of intern calls that found an existing instance
+     */
+    public double getHitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    /**
+     * @return estimated heap bytes of the duplicate strings that callers could drop
+     *         because a canonical instance was returned instead
+     */
+    public long getBytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StringInterner{mode=%s, size=%d, hits=%d, misses=%d, hitRatio=%.2f%%, bytesSaved=%d}",
+                weak ? "weak" : "lru", size(), getHits(), getMisses(), getHitRatio() * 100, getBytesSaved());
+    }
+
+    // Compact strings store Latin-1 text in one byte per char, anything else in two
+    private static long estimateSize(String value) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        long size = STRING_OVERHEAD_BYTES + (long) value.length() * bytesPerChar;
+        return (size + 7) & ~7L; // objects are 8-byte aligned
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Access-ordered map that drops its eldest entry beyond maxSize.
+     */
+    private static final class LruMap extends LinkedHashMap<String, String> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+
+        LruMap(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.boot;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+public class DistinctWordsTest {
+
+    @Test
+    public void testDistinctWordsInFirstSeenOrder() {
+        DistinctWords words = new DistinctWords();
+        words.addAll("Hello baby Hello  baby\tworld\n");
+
+        System.out.println("[DEBUG_LOG] Words: " + words.toList());
+
+        Assert.assertEquals(words.toList(), Arrays.asList("Hello", "baby", "world"));
+        Assert.assertEquals(words.join(" "), "Hello baby world");
+        Assert.assertTrue(words.contains("world"));
+        Assert.assertFalse(words.contains("hello"));
+    }
+
+    @Test
+    public void testReaderMatchesCharSequence() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            text.append("word").append(i % 1500).append(' ');
+        }
+
+        DistinctWords fromString = new DistinctWords();
+        fromString.addAll(text);
+        DistinctWords fromReader = new DistinctWords();
+        fromReader.addAll(new StringReader(text.toString()));
+
+        Assert.assertEquals(fromString.size(), 1500);
+        Assert.assertEquals(fromReader.toList(), fromString.toList());
+    }
+}
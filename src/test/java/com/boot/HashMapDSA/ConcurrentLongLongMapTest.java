@@ -0,0 +1,147 @@
+package com.boot.HashMapDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class ConcurrentLongLongMapTest {
+
+    @Test
+    public void testConcurrentCountersAreExact() throws Exception {
+        ConcurrentLongLongMap counts = new ConcurrentLongLongMap();
+        int threads = 16;
+        int increments = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < increments; i++) {
+                        counts.addAndGet(i % 1000, 1);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        System.out.println("[DEBUG_LOG] Keys: " + counts.size());
+
+        Assert.assertEquals(counts.size(), 1000);
+        for (long key = 0; key < 1000; key++) {
+            Assert.assertEquals(counts.get(key), (long) threads * increments / 1000);
+        }
+    }
+
+    @Test
+    public void testRemoveAndReinsert() {
+        ConcurrentLongLongMap map = new ConcurrentLongLongMap(4, 0.75f, 2, -1);
+        map.put(0, 10);
+        map.put(42, 20);
+
+        Assert.assertEquals(map.remove(42), 20);
+        Assert.assertFalse(map.containsKey(42));
+        Assert.assertEquals(map.putIfAbsent(42, 30), -1);
+        Assert.assertEquals(map.putIfAbsent(42, 40), 30);
+        Assert.assertEquals(map.get(0), 10);
+        Assert.assertEquals(map.size(), 2);
+    }
+
+    @Test
+    public void testReadersDuringRehashAndRemove() throws Exception {
+        // Few small segments, so the growing key range rehashes them many times
+        ConcurrentLongLongMap map = new ConcurrentLongLongMap(16, 0.75f, 4, -1);
+        int anchors = 256;
+        int churn = 200_000;
+        for (long key = 0; key < anchors; key++) {
+            map.put(key, 0);
+        }
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger removed = new AtomicInteger();
+        // Last value the counter got back for each anchor, a lower bound for later reads
+        AtomicLongArray counted = new AtomicLongArray(anchors);
+        // Churn keys below this were put; the ones not divisible by 3 are never removed
+        AtomicLong grown = new AtomicLong(anchors);
+        int readers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(readers + 2);
+        try {
+            List<Future<?>> readerFutures = new ArrayList<>();
+            for (int r = 0; r < readers; r++) {
+                readerFutures.add(executor.submit(() -> {
+                    long[] last = new long[anchors];
+                    long reads = 0;
+                    while (!done.get()) {
+                        for (int key = 0; key < anchors; key++) {
+                            // Anchors are never removed and only count up: -1 is a miss, a drop is stale
+                            long floor = Math.max(last[key], counted.get(key));
+                            long value = map.get(key);
+                            if (value < floor || !map.containsKey(key)) {
+                                errors.incrementAndGet();
+                            }
+                            last[key] = Math.max(last[key], value);
+                        }
+                        // Churn keys are either absent or hold their own index; kept ones must be found,
+                        // also when they were put into the next table of a segment that is still moving
+                        long limit = grown.get();
+                        for (int i = 0; i < 32; i++) {
+                            // Alternately a spread-out key and one of the latest puts
+                            long key = i % 2 == 0 ? anchors + (reads++ * 7919) % churn : Math.max(anchors, limit - i);
+                            long value = map.get(key);
+                            boolean kept = key < limit && key % 3 != 0;
+                            if (value != key && (kept || value != -1)) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            Future<?> counter = executor.submit(() -> {
+                while (!done.get()) {
+                    for (int key = 0; key < anchors; key++) {
+                        counted.set(key, map.addAndGet(key, 1));
+                    }
+                }
+            });
+            Future<?> grower = executor.submit(() -> {
+                for (long key = anchors; key < anchors + churn; key++) {
+                    map.put(key, key);
+                    grown.set(key + 1);
+                    if (key % 3 == 0 && key - 90 >= anchors) {
+                        map.remove(key - 90);
+                        removed.incrementAndGet();
+                    }
+                }
+            });
+            grower.get();
+            done.set(true);
+            counter.get();
+            for (Future<?> future : readerFutures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        System.out.println("[DEBUG_LOG] Entries after churn: " + map.size() + ", anchor 0 counted to " + map.get(0));
+
+        Assert.assertEquals(errors.get(), 0);
+        Assert.assertEquals(map.size(), anchors + churn - removed.get());
+        for (int key = 0; key < anchors; key++) {
+            Assert.assertEquals(map.get(key), counted.get(key), "anchor " + key);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.boot.HashMapDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class HeavyHittersTest {
+
+    @Test
+    public void testTopKOfSkewedStream() {
+        HeavyHitters<String> hitters = new HeavyHitters<>(3, 0.001, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            hitters.add("rare" + i);
+            if (i % 2 == 0) {
+                hitters.add("home");
+            }
+            if (i % 4 == 0) {
+                hitters.add("cart");
+            }
+            if (i % 10 == 0) {
+                hitters.add("checkout");
+            }
+        }
+
+        List<HeavyHitters.Entry<String>> top = hitters.topK();
+        System.out.println("[DEBUG_LOG] Top 3: " + top);
+
+        Assert.assertEquals(top.size(), 3);
+        Assert.assertEquals(top.get(0).getKey(), "home");
+        Assert.assertEquals(top.get(1).getKey(), "cart");
+        Assert.assertEquals(top.get(2).getKey(), "checkout");
+        Assert.assertTrue(top.get(0).getCount() >= 5_000);
+    }
+
+    @Test
+    public void testSketchSerializationRoundTrip() {
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+        for (long i = 0; i < 5_000; i++) {
+            sketch.add(i % 700, 1);
+        }
+
+        CountMinSketch copy = CountMinSketch.fromBytes(sketch.toBytes());
+
+        Assert.assertEquals(copy.getTotalCount(), 5_000);
+        for (long i = 0; i < 700; i++) {
+            Assert.assertEquals(copy.estimate(i), sketch.estimate(i));
+            Assert.assertTrue(copy.estimate(i) >= 7);
+        }
+        // 2^26 x 32 counters would overflow the array length
+        Assert.assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(1 << 26, 32));
+    }
+
+    @Test
+    public void testReleasedThreadsStillCount() throws InterruptedException {
+        ConcurrentHeavyHitters<String> hitters = new ConcurrentHeavyHitters<>(2, 0.001, 0.01);
+        List<Thread> threads = new ArrayList<>();
+        // Short-lived threads, each releasing its tracker before it ends
+        for (int t = 0; t < 50; t++) {
+            int id = t;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    hitters.add(i % 2 == 0 ? "home" : "thread" + id);
+                    if (i % 5 == 0) {
+                        hitters.add("cart");
+                    }
+                }
+                hitters.release();
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        hitters.add("search");   // this thread's tracker is still registered
+
+        HeavyHitters<String> snapshot = hitters.snapshot();
+        List<HeavyHitters.Entry<String>> top = snapshot.topK();
+        System.out.println("[DEBUG_LOG] Top 2 after releases: " + top);
+
+        Assert.assertEquals(snapshot.getSketch().getTotalCount(), 50 * 1_200 + 1);
+        Assert.assertEquals(top.get(0).getKey(), "home");
+        Assert.assertTrue(top.get(0).getCount() >= 25_000);
+        Assert.assertEquals(top.get(1).getKey(), "cart");
+        Assert.assertTrue(snapshot.estimate("search") >= 1);
+    }
+}
@@ -0,0 +1,87 @@
+package com.boot.HashMapDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class IntIntMapTest {
+
+    @Test
+    public void testZeroKeyAndMissingValue() {
+        IntIntMap map = new IntIntMap(4, 0.75f, -1);
+        Assert.assertEquals(map.get(0), -1);
+
+        map.put(0, 10);
+        map.addTo(0, 5);
+        map.addTo(7, 3);
+
+        Assert.assertEquals(map.get(0), 15);
+        Assert.assertEquals(map.get(7), 3);
+        Assert.assertEquals(map.size(), 2);
+        Assert.assertEquals(map.remove(0), 15);
+        Assert.assertFalse(map.containsKey(0));
+    }
+
+    @Test
+    public void testRandomOperationsMatchHashMap() {
+        Random random = new Random(7);
+        IntIntMap map = new IntIntMap(4, 0.9f, -1);
+        Map<Integer, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            int key = random.nextInt(2000) - 1000;
+            if (random.nextInt(3) == 0) {
+                Assert.assertEquals(map.remove(key), (int) expected.getOrDefault(key, -1));
+                expected.remove(key);
+            } else {
+                Assert.assertEquals(map.put(key, i), (int) expected.getOrDefault(key, -1));
+                expected.put(key, i);
+            }
+        }
+
+        System.out.println("[DEBUG_LOG] Final size: " + map.size());
+
+        Assert.assertEquals(map.size(), expected.size());
+        for (int key = -1000; key < 1000; key++) {
+            Assert.assertEquals(map.get(key), (int) expected.getOrDefault(key, -1));
+        }
+    }
+
+    @Test
+    public void testObjIntMapCountsWords() {
+        ObjIntMap<String> counts = new ObjIntMap<>();
+        for (String word : "a b a c a b".split(" ")) {
+            counts.addTo(word, 1);
+        }
+
+        Assert.assertEquals(counts.get("a"), 3);
+        Assert.assertEquals(counts.get("b"), 2);
+        Assert.assertEquals(counts.get("z"), 0);
+        Assert.assertEquals(counts.remove("c"), 1);
+        Assert.assertEquals(counts.size(), 2);
+    }
+
+    @Test
+    public void testSwissMapMatchesRobinHoodMap() {
+        Random random = new Random(11);
+        IntIntMap robinHood = new IntIntMap(16, 0.75f, -1);
+        SwissIntIntMap swiss = new SwissIntIntMap(16, 0.875f, -1);
+
+        for (int i = 0; i < 200_000; i++) {
+            int key = random.nextInt(5000);
+            if (random.nextBoolean()) {
+                Assert.assertEquals(swiss.remove(key), robinHood.remove(key));
+            } else {
+                Assert.assertEquals(swiss.addTo(key, 1), robinHood.addTo(key, 1));
+            }
+        }
+
+        Assert.assertEquals(swiss.size(), robinHood.size());
+        for (int key = 0; key < 5000; key++) {
+            Assert.assertEquals(swiss.get(key), robinHood.get(key));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.boot.HashMapDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class MappedLongLongMapTest {
+
+    @Test
+    public void testEntriesSurviveReopen() throws IOException {
+        Path file = Files.createTempFile("lookup", ".tbl");
+        try {
+            try (MappedLongLongMap map = MappedLongLongMap.create(file, 10_000, 0.75f, -1)) {
+                for (long key = 0; key < 10_000; key++) {
+                    map.put(key, key * key);
+                }
+                map.remove(5);
+            }
+
+            try (MappedLongLongMap map = MappedLongLongMap.open(file, false)) {
+                System.out.println("[DEBUG_LOG] Reopened " + map.size() + " entries in " + map.capacity() + " slots");
+
+                Assert.assertEquals(map.size(), 9_999);
+                Assert.assertEquals(map.get(0), 0);
+                Assert.assertEquals(map.get(9_999), 9_999L * 9_999);
+                Assert.assertEquals(map.get(5), -1);
+                Assert.assertThrows(IllegalStateException.class, () -> map.put(1, 1));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.boot.HashSetDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class BloomFilterTest {
+
+    @Test
+    public void testNoFalseNegativesAndBoundedFalsePositives() {
+        BloomFilter filter = BloomFilter.create(100_000, 0.01);
+        BlockedBloomFilter blocked = BlockedBloomFilter.create(100_000, 0.01);
+        for (int i = 0; i < 100_000; i++) {
+            filter.put("word" + i);
+            blocked.put("word" + i);
+        }
+
+        int falsePositives = 0;
+        int blockedFalsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            Assert.assertTrue(filter.mightContain("word" + i));
+            Assert.assertTrue(blocked.mightContain("word" + i));
+            falsePositives += filter.mightContain("other" + i) ? 1 : 0;
+            blockedFalsePositives += blocked.mightContain("other" + i) ? 1 : 0;
+        }
+
+        System.out.println("[DEBUG_LOG] False positives: " + falsePositives + ", blocked: " + blockedFalsePositives);
+
+        Assert.assertTrue(falsePositives < 2_000);
+        Assert.assertTrue(blockedFalsePositives < 2_000);
+    }
+
+    @Test
+    public void testUnionAndSerialization() {
+        BloomFilter first = BloomFilter.create(1_000, 0.01);
+        BloomFilter second = BloomFilter.create(1_000, 0.01);
+        first.put(1L);
+        second.put(2L);
+
+        first.union(second);
+        BloomFilter copy = BloomFilter.fromBytes(first.toBytes());
+
+        Assert.assertTrue(copy.mightContain(1L));
+        Assert.assertTrue(copy.mightContain(2L));
+        Assert.assertEquals(copy.bitSize(), first.bitSize());
+
+        BlockedBloomFilter blocked = BlockedBloomFilter.create(1_000, 0.01);
+        blocked.put("admin");
+        Assert.assertTrue(BlockedBloomFilter.fromBytes(blocked.toBytes()).mightContain("admin"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.boot.HashSetDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class IntHashSetTest {
+
+    @Test
+    public void testBulkOperations() {
+        IntHashSet set = new IntHashSet();
+        Assert.assertTrue(set.addAll(new int[]{5, 3, 9, 3, 0, -4}));
+        Assert.assertFalse(set.addAll(new int[]{5, 0}));
+
+        System.out.println("[DEBUG_LOG] Elements: " + Arrays.toString(set.toArray()));
+
+        Assert.assertEquals(set.toArray(), new int[]{-4, 0, 3, 5, 9});
+        Assert.assertTrue(set.containsAll(new int[]{0, 9}));
+        Assert.assertFalse(set.containsAll(new int[]{0, 1}));
+
+        Assert.assertTrue(set.retainAll(new int[]{0, 5, 7}));
+        Assert.assertEquals(set.toArray(), new int[]{0, 5});
+    }
+
+    @Test
+    public void testClearByGenerationReusesTable() {
+        IntHashSet set = new IntHashSet(1000);
+        long bytes = set.tableBytes();
+        for (int round = 0; round < 600; round++) {
+            set.add(round);
+            set.add(round + 1);
+            Assert.assertEquals(set.size(), 2);
+            set.clear();
+            Assert.assertFalse(set.contains(round));
+        }
+        Assert.assertTrue(set.isEmpty());
+        Assert.assertEquals(set.tableBytes(), bytes);
+    }
+
+    @Test
+    public void testLongHashSetRemove() {
+        LongHashSet set = new LongHashSet();
+        for (long value = 0; value < 10_000; value++) {
+            set.add(value * 1_000_000_007L);
+        }
+        for (long value = 0; value < 10_000; value += 2) {
+            Assert.assertTrue(set.remove(value * 1_000_000_007L));
+        }
+        Assert.assertEquals(set.size(), 5_000);
+        Assert.assertTrue(set.contains(1_000_000_007L));
+        Assert.assertFalse(set.contains(0));
+    }
+
+    @Test
+    public void testMatchesHashSetBaseline() {
+        Random random = new Random(41);
+        IntHashSet ints = new IntHashSet(4);
+        LongHashSet longs = new LongHashSet(4);
+        Set<Integer> expected = new HashSet<>();
+        for (int step = 0; step < 200_000; step++) {
+            // Small range so that 0, removals and long probe chains come up often
+            int value = random.nextInt(3_000) - 100;
+            int action = random.nextInt(100);
+            if (action < 55) {
+                boolean added = expected.add(value);
+                Assert.assertEquals(ints.add(value), added);
+                Assert.assertEquals(longs.add(value * 1_000_003L), added);
+            } else if (action < 85) {
+                boolean removed = expected.remove(value);
+                Assert.assertEquals(ints.remove(value), removed);
+                Assert.assertEquals(longs.remove(value * 1_000_003L), removed);
+            } else if (action < 99) {
+                Assert.assertEquals(ints.contains(value), expected.contains(value));
+                Assert.assertEquals(longs.contains(value * 1_000_003L), expected.contains(value));
+            } else if (random.nextInt(20) == 0) {
+                // Clearing keeps the grown table; stale blocks get wiped on reuse
+                ints.clear();
+                longs.clear();
+                expected.clear();
+            }
+            Assert.assertEquals(ints.size(), expected.size());
+            Assert.assertEquals(longs.size(), expected.size());
+        }
+        int[] sorted = expected.stream().mapToInt(Integer::intValue).sorted().toArray();
+        Assert.assertEquals(ints.toArray(), sorted);
+
+        int[] keep = {0, 5, 17, -3, 2_999};
+        expected.retainAll(Arrays.asList(0, 5, 17, -3, 2_999));
+        ints.retainAll(keep);
+        Assert.assertEquals(ints.toArray(), expected.stream().mapToInt(Integer::intValue).sorted().toArray());
+        System.out.println("[DEBUG_LOG] " + ints.size() + " elements left, table " + ints.tableBytes() + " bytes");
+    }
+}
@@ -0,0 +1,105 @@
+package com.boot.HashSetDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class PangramCheckerTest {
+
+    private static final String PANGRAM = "The quick brown fox jumps over the lazy dog";
+
+    @Test
+    public void testBitmaskMatchesHashSetBaseline() {
+        Random random = new Random(31);
+        for (String line : randomLines(random, 2_000)) {
+            boolean expected = naiveIsPangram(line);
+            byte[] utf8 = line.getBytes(StandardCharsets.UTF_8);
+
+            Assert.assertEquals(PanagramTest.isPangram(line), expected, line);
+            Assert.assertEquals(PanagramTest.isPangram(new StringBuilder(line)), expected, line);
+            CharBuffer buffer = CharBuffer.wrap("#" + line);
+            buffer.position(1);
+            Assert.assertEquals(PanagramTest.isPangram(buffer), expected, line);
+            Assert.assertEquals(buffer.position(), 1);
+            Assert.assertEquals(PanagramTest.isPangram(utf8, 0, utf8.length), expected, line);
+        }
+        Assert.assertTrue(PanagramTest.isPangram(PANGRAM.toUpperCase()));
+        Assert.assertFalse(PanagramTest.isPangram(""));
+    }
+
+    @Test
+    public void testClassifyLinesMatchesBaseline() throws IOException {
+        List<String> lines = randomLines(new Random(37), 5_000);
+        Path file = Files.createTempFile("pangrams", ".txt");
+        try {
+            Files.write(file, lines, StandardCharsets.UTF_8);
+            PanagramTest.LineClassification result = PanagramTest.classifyLines(file);
+
+            System.out.println("[DEBUG_LOG] " + result.getPangramCount() + " of " + result.getLineCount() + " lines are pangrams");
+
+            Assert.assertEquals(result.getLineCount(), lines.size());
+            int expectedCount = 0;
+            for (int line = 0; line < lines.size(); line++) {
+                boolean expected = naiveIsPangram(lines.get(line));
+                Assert.assertEquals(result.isPangram(line), expected, "line " + line);
+                expectedCount += expected ? 1 : 0;
+            }
+            Assert.assertEquals(result.getPangramCount(), expectedCount);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    // Half shuffled pangrams (some with one letter knocked out), half random text with non-ASCII chars
+    private static List<String> randomLines(Random random, int count) {
+        String other = "0123456789 ,.;:!?@[`{éÉàÀßŁł\u212A\u017F";   // neighbours of the letters, Kelvin sign, long s
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder line = new StringBuilder();
+            if (random.nextBoolean()) {
+                List<Character> chars = new ArrayList<>();
+                for (char c : PANGRAM.toCharArray()) {
+                    chars.add(random.nextBoolean() ? Character.toUpperCase(c) : c);
+                }
+                Collections.shuffle(chars, random);
+                char missing = random.nextInt(3) == 0 ? (char) ('a' + random.nextInt(26)) : 0;
+                for (char c : chars) {
+                    if (Character.toLowerCase(c) != missing) {
+                        line.append(c);
+                    }
+                }
+            } else {
+                int length = random.nextInt(120);
+                for (int k = 0; k < length; k++) {
+                    line.append(random.nextInt(3) == 0
+                            ? other.charAt(random.nextInt(other.length()))
+                            : (char) ((random.nextBoolean() ? 'a' : 'A') + random.nextInt(26)));
+                }
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    // ASCII letters only, as documented
+    private static boolean naiveIsPangram(String text) {
+        Set<Character> letters = new HashSet<>();
+        for (char c : text.toCharArray()) {
+            if (c < 128 && Character.isLetter(c)) {
+                letters.add(Character.toLowerCase(c));
+            }
+        }
+        return letters.size() == 26;
+    }
+}
@@ -0,0 +1,68 @@
+package com.boot.HashSetDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.PrimitiveIterator;
+
+public class RoaringBitmapTest {
+
+    @Test
+    public void testSetOperationsAcrossContainerTypes() {
+        RoaringBitmap sparse = RoaringBitmap.bitmapOf(1, 70_000, 200_000, -1);
+        RoaringBitmap dense = new RoaringBitmap();
+        for (int i = 0; i < 100_000; i += 3) {
+            dense.add(i);
+        }
+        RoaringBitmap range = new RoaringBitmap();
+        range.addRange(60_000, 210_000);
+
+        System.out.println("[DEBUG_LOG] Range bitmap: " + range.sizeInBytes() + " bytes");
+
+        Assert.assertEquals(RoaringBitmap.and(sparse, range).toArray(), new int[]{70_000, 200_000});
+        Assert.assertEquals(RoaringBitmap.and(dense, range).cardinality(), 13_334);
+        Assert.assertEquals(RoaringBitmap.or(sparse, dense).cardinality(), 33_334 + 4);
+        Assert.assertEquals(RoaringBitmap.andNot(range, dense).cardinality(), 150_000 - 13_334);
+        Assert.assertEquals(RoaringBitmap.xor(range, range).cardinality(), 0);
+        Assert.assertTrue(range.sizeInBytes() < 200);
+    }
+
+    @Test
+    public void testRangeOperationsStayInRunForm() {
+        RoaringBitmap low = new RoaringBitmap();
+        low.addRange(0, 1L << 28);
+        RoaringBitmap high = new RoaringBitmap();
+        high.addRange(1L << 27, 3L << 27);
+
+        RoaringBitmap and = RoaringBitmap.and(low, high);
+        RoaringBitmap or = RoaringBitmap.or(low, high);
+        RoaringBitmap xor = RoaringBitmap.xor(low, high);
+        System.out.println("[DEBUG_LOG] Range: " + low.sizeInBytes() + " bytes, and: " + and.sizeInBytes()
+                + " bytes, or: " + or.sizeInBytes() + " bytes");
+
+        Assert.assertEquals(and.cardinality(), 1L << 27);
+        Assert.assertEquals(or.cardinality(), 3L << 27);
+        Assert.assertEquals(xor.cardinality(), 1L << 28);
+        Assert.assertEquals(RoaringBitmap.andNot(low, high).cardinality(), 1L << 27);
+        // Bitmap containers would take 8 KB per 65536 values: 16 MB for the and
+        Assert.assertTrue(and.sizeInBytes() < 2 * low.sizeInBytes());
+        Assert.assertTrue(or.sizeInBytes() < 4 * low.sizeInBytes());
+        Assert.assertTrue(xor.sizeInBytes() < 4 * low.sizeInBytes());
+    }
+
+    @Test
+    public void testIteratorIsUnsignedAscending() {
+        RoaringBitmap bitmap = RoaringBitmap.bitmapOf(-1, 5, Integer.MAX_VALUE, 3);
+        PrimitiveIterator.OfInt it = bitmap.iterator();
+
+        Assert.assertEquals(it.nextInt(), 3);
+        Assert.assertEquals(it.nextInt(), 5);
+        Assert.assertEquals(it.nextInt(), Integer.MAX_VALUE);
+        Assert.assertEquals(it.nextInt(), -1);
+        Assert.assertFalse(it.hasNext());
+
+        Assert.assertTrue(bitmap.remove(5));
+        Assert.assertFalse(bitmap.contains(5));
+        Assert.assertEquals(bitmap.cardinality(), 3);
+    }
+}
@@ -0,0 +1,70 @@
+package com.boot;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+public class HyperLogLogTest {
+
+    @Test
+    public void testEstimateWithinThreeSigma() {
+        HyperLogLog sketch = new HyperLogLog();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            text.append("word").append(i).append(' ');
+        }
+        // Every word twice: duplicates must not change the estimate
+        sketch.addAll(text);
+        sketch.addAll(text);
+
+        long estimate = sketch.estimate();
+        double error = Math.abs(estimate - 100_000) / 100_000.0;
+        System.out.println("[DEBUG_LOG] Estimate: " + estimate + ", relative error " + error
+                + ", sigma " + sketch.relativeError());
+
+        Assert.assertTrue(error < 3 * sketch.relativeError(), "relative error " + error);
+    }
+
+    @Test
+    public void testMergeEqualsUnion() {
+        HyperLogLog first = new HyperLogLog(12);
+        HyperLogLog second = new HyperLogLog(12);
+        HyperLogLog union = new HyperLogLog(12);
+        for (int i = 0; i < 60_000; i++) {
+            String word = "w" + i;
+            first.addWord(word, 0, word.length());
+            union.addWord(word, 0, word.length());
+        }
+        for (int i = 40_000; i < 100_000; i++) {
+            char[] word = ("w" + i).toCharArray();
+            second.addWord(word, 0, word.length);
+            union.addWord(word, 0, word.length);
+        }
+
+        first.merge(second);
+
+        Assert.assertEquals(first.toBytes(), union.toBytes());
+        Assert.assertEquals(first.estimate(), union.estimate());
+        Assert.assertThrows(IllegalArgumentException.class, () -> first.merge(new HyperLogLog(13)));
+    }
+
+    @Test
+    public void testBytesRoundTrip() {
+        HyperLogLog sketch = new HyperLogLog(10);
+        sketch.addAll("the quick brown fox jumps over the lazy dog");
+
+        byte[] bytes = sketch.toBytes();
+        HyperLogLog copy = HyperLogLog.fromBytes(bytes);
+
+        Assert.assertEquals(copy.getPrecision(), 10);
+        Assert.assertEquals(copy.toBytes(), bytes);
+        Assert.assertEquals(copy.estimate(), sketch.estimate());
+        Assert.assertEquals(copy.estimate(), 8);
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(Arrays.copyOf(bytes, bytes.length - 1)));
+        byte[] badRegister = bytes.clone();
+        badRegister[2] = 100;
+        Assert.assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(badRegister));
+    }
+}
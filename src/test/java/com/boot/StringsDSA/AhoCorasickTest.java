@@ -0,0 +1,65 @@
+package com.boot.StringsDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AhoCorasickTest {
+
+    @Test
+    public void testOverlappingMatches() {
+        AhoCorasick automaton = new AhoCorasick.AhoCorasickBuilder()
+                .addPattern("he")
+                .addPattern("she")
+                .addPattern("his")
+                .addPattern("hers")
+                .build();
+        List<String> matches = new ArrayList<>();
+        automaton.scan("ushers", (pattern, start, end) -> matches.add(automaton.pattern(pattern) + "@" + start));
+
+        System.out.println("[DEBUG_LOG] Matches: " + matches);
+
+        Assert.assertEquals(matches, List.of("she@1", "he@2", "hers@2"));
+        Assert.assertTrue(automaton.containsAny("this"));
+        Assert.assertFalse(automaton.containsAny("xyz"));
+    }
+
+    @Test
+    public void testIgnoreCaseAndDuplicates() {
+        AhoCorasick automaton = new AhoCorasick.AhoCorasickBuilder()
+                .ignoreCase(true)
+                .addPattern("Java")
+                .addPattern("java")
+                .build();
+        char[] text = "I like JAVA".toCharArray();
+        List<Integer> patterns = new ArrayList<>();
+        automaton.scan(text, 0, text.length, (pattern, start, end) -> {
+            Assert.assertEquals(start, 7L);
+            patterns.add(pattern);
+        });
+        Assert.assertEquals(patterns, List.of(0, 1));
+    }
+
+    @Test
+    public void testScanFileReportsByteOffsets() throws IOException {
+        AhoCorasick automaton = new AhoCorasick.AhoCorasickBuilder()
+                .addPattern("café")
+                .addPattern("bar")
+                .build();
+        Path file = Files.createTempFile("aho-corasick", ".txt");
+        try {
+            Files.writeString(file, "un café au bar", StandardCharsets.UTF_8);
+            List<String> matches = new ArrayList<>();
+            automaton.scanFile(file, (pattern, start, end) -> matches.add(pattern + ":" + start + "-" + end));
+            Assert.assertEquals(matches, List.of("0:3-8", "1:12-15"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
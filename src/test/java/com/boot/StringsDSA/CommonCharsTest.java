@@ -0,0 +1,84 @@
+package com.boot.StringsDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+public class CommonCharsTest {
+
+    @Test
+    public void testNonAsciiCharsAreKept() {
+        Assert.assertEquals(commonCharacterTest.commonChars(Stream.of("café", "thé", "été"), false), "é");
+        Assert.assertEquals(commonCharacterTest.commonCharsWithDuplicates(Stream.of("ééa", "aéé😀", "éaé"), false), "aéé");
+        Assert.assertEquals(commonCharacterTest.commonChars(Stream.of("x😀", "😀y"), false), "😀");
+        // Once nothing non-ASCII is common, later strings still intersect the ASCII part
+        Assert.assertEquals(commonCharacterTest.commonChars(Stream.of("ab", "bé", "béé"), true), "b");
+    }
+
+    @Test
+    public void testStreamAndParallelMatchNaiveCounts() {
+        char[] alphabet = "abcdeXYZ019 éüß日本".toCharArray();
+        Random random = new Random(9);
+        for (int trial = 0; trial < 50; trial++) {
+            List<CharSequence> strings = new ArrayList<>();
+            int count = 1 + random.nextInt(2_000);
+            for (int i = 0; i < count; i++) {
+                StringBuilder s = new StringBuilder();
+                int length = 20 + random.nextInt(40);
+                for (int k = 0; k < length; k++) {
+                    if (random.nextInt(20) == 0) {
+                        s.append("😀");
+                    } else {
+                        s.append(alphabet[random.nextInt(alphabet.length)]);
+                    }
+                }
+                // Any CharSequence: StringBuilders, Strings and Ropes mixed
+                strings.add(i % 3 == 0 ? s : i % 3 == 1 ? s.toString() : Rope.of(s));
+            }
+
+            Map<Integer, Integer> expected = naiveCommonCounts(strings);
+            StringBuilder presence = new StringBuilder();
+            StringBuilder multiplicity = new StringBuilder();
+            for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+                presence.appendCodePoint(entry.getKey());
+                for (int k = 0; k < entry.getValue(); k++) {
+                    multiplicity.appendCodePoint(entry.getKey());
+                }
+            }
+
+            for (boolean parallel : new boolean[]{false, true}) {
+                Assert.assertEquals(commonCharacterTest.commonChars(strings.stream(), parallel), presence.toString());
+                Assert.assertEquals(commonCharacterTest.commonCharsWithDuplicates(strings.stream(), parallel),
+                        multiplicity.toString());
+                int[] ascii = commonCharacterTest.commonCharCounts(strings.stream(), parallel);
+                for (int c = 0; c < 128; c++) {
+                    Assert.assertEquals(ascii[c], (int) expected.getOrDefault(c, 0), "count of " + c);
+                }
+            }
+        }
+        System.out.println("[DEBUG_LOG] Sequential and parallel reductions match the naive counts");
+    }
+
+    // Per code point, the minimum count over all strings; zero counts dropped
+    private static Map<Integer, Integer> naiveCommonCounts(List<CharSequence> strings) {
+        Map<Integer, Integer> common = null;
+        for (CharSequence s : strings) {
+            Map<Integer, Integer> counts = new HashMap<>();
+            s.codePoints().forEach(codePoint -> counts.merge(codePoint, 1, Integer::sum));
+            if (common == null) {
+                common = new TreeMap<>(counts);
+            } else {
+                common.keySet().retainAll(counts.keySet());
+                common.replaceAll((codePoint, count) -> Math.min(count, counts.get(codePoint)));
+            }
+        }
+        return common;
+    }
+}
@@ -0,0 +1,44 @@
+package com.boot.StringsDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class EditDistanceTest {
+
+    @Test
+    public void testDistance() {
+        Assert.assertEquals(EditDistance.distance("kitten", "sitting"), 3);
+        Assert.assertEquals(EditDistance.distance("", "abc"), 3);
+        Assert.assertEquals(EditDistance.distance("abc", ""), 3);
+        Assert.assertEquals(EditDistance.distance("naïve café", "naive cafe"), 2);
+        Assert.assertEquals(EditDistance.distance("kitten", "sitting", 2), 3);
+        Assert.assertEquals(EditDistance.distance("kitten", "kitten and more", 3), 4);
+    }
+
+    @Test
+    public void testMultiBlockQuery() {
+        StringBuilder query = new StringBuilder();
+        for (int i = 0; i < 150; i++) {
+            query.append((char) ('a' + i % 7));
+        }
+        StringBuilder candidate = new StringBuilder(query);
+        candidate.deleteCharAt(10).setCharAt(70, 'z');
+        candidate.insert(130, "xy");
+
+        EditDistance compiled = EditDistance.compile(query);
+        System.out.println("[DEBUG_LOG] Query length: " + compiled.length());
+        Assert.assertEquals(compiled.distance(candidate), 4);
+        Assert.assertEquals(compiled.distance(candidate, 4), 4);
+        Assert.assertEquals(compiled.distance(candidate, 3), 4);
+    }
+
+    @Test
+    public void testBatch() {
+        EditDistance query = EditDistance.compile("wireless charger");
+        List<String> catalog = List.of("wireles charger", "wireless charge", "wired charger", "usb cable");
+        Assert.assertEquals(query.distances(catalog, 3), new int[]{1, 1, 4, 4});
+        Assert.assertEquals(query.matches(catalog, 1), new int[]{0, 1});
+    }
+}
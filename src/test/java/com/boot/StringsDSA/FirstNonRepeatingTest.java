@@ -0,0 +1,36 @@
+package com.boot.StringsDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.CharBuffer;
+
+public class FirstNonRepeatingTest {
+
+    @Test
+    public void testStreamingUpdates() {
+        FirstNonRepeating tracker = new FirstNonRepeating();
+        String stream = "aabcbcd";
+        int[] expected = {'a', FirstNonRepeating.NONE, 'b', 'b', 'c', FirstNonRepeating.NONE, 'd'};
+
+        for (int i = 0; i < stream.length(); i++) {
+            tracker.accept(stream.charAt(i));
+            System.out.println("[DEBUG_LOG] After '" + stream.charAt(i) + "': " + tracker.firstNonRepeating());
+            Assert.assertEquals(tracker.firstNonRepeating(), expected[i]);
+        }
+    }
+
+    @Test
+    public void testChunkedInputAndReset() {
+        FirstNonRepeating tracker = new FirstNonRepeating();
+        tracker.accept(CharBuffer.wrap("swiss".toCharArray()));
+        tracker.accept(CharBuffer.wrap(" cheese"));
+        Assert.assertEquals(tracker.firstNonRepeating(), 'w');
+        Assert.assertEquals(tracker.count(), 12);
+
+        tracker.reset();
+        Assert.assertFalse(tracker.hasNonRepeating());
+        tracker.accept("aabb");
+        Assert.assertEquals(tracker.firstNonRepeating(), FirstNonRepeating.NONE);
+    }
+}
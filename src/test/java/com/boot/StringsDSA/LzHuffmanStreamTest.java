@@ -0,0 +1,107 @@
+package com.boot.StringsDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+public class LzHuffmanStreamTest {
+
+    @Test
+    public void testRoundTripAtEveryLevel() {
+        Random random = new Random(11);
+        byte[] noise = new byte[200_000];
+        random.nextBytes(noise);
+        String[] vocabulary = {"lorem ", "ipsum ", "dolor ", "sit ", "amet ", "consectetur ", "adipiscing ", "elit "};
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 400_000) {
+            text.append(vocabulary[random.nextInt(vocabulary.length)]);
+        }
+        byte[] words = text.toString().getBytes(StandardCharsets.US_ASCII);
+        byte[][] inputs = {new byte[0], {7}, new byte[300_000], noise, words};
+        for (int level = Lz77MatchFinder.MIN_LEVEL; level <= Lz77MatchFinder.MAX_LEVEL; level++) {
+            for (byte[] input : inputs) {
+                byte[] compressed = LzHuffmanOutputStream.compress(input, level);
+                Assert.assertEquals(LzHuffmanInputStream.decompress(compressed), input);
+            }
+        }
+        byte[] compressed = LzHuffmanOutputStream.compress(words, 6);
+        System.out.println("[DEBUG_LOG] " + words.length + " -> " + compressed.length + " bytes");
+        Assert.assertTrue(compressed.length < words.length / 2);
+        // Incompressible blocks are stored: a few bytes of header per block
+        Assert.assertTrue(LzHuffmanOutputStream.compress(noise, 6).length < noise.length + 32);
+    }
+
+    @Test
+    public void testStreamingWithFlushesAndSmallReads() throws IOException {
+        byte[] text = "GET /api/orders/42 HTTP/1.1 200\n".repeat(20_000).getBytes(StandardCharsets.US_ASCII);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (LzHuffmanOutputStream out = new LzHuffmanOutputStream(bytes, 1)) {
+            for (int i = 0; i < text.length; i += 7_919) {
+                out.write(text, i, Math.min(7_919, text.length - i));
+                if (i % 3 == 0) {
+                    out.flush();
+                }
+            }
+            out.write('!');
+            Assert.assertEquals(out.bytesIn(), text.length + 1L);
+        }
+        try (LzHuffmanInputStream in = new LzHuffmanInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            byte[] restored = new byte[text.length];
+            for (int i = 0; i < restored.length; i++) {
+                restored[i] = (byte) in.read();
+            }
+            Assert.assertEquals(restored, text);
+            Assert.assertEquals(in.read(), '!');
+            Assert.assertEquals(in.read(), -1);
+        }
+    }
+
+    @Test
+    public void testResetReusesStreams() throws IOException {
+        byte[][] inputs = {
+                "first stream, first stream, first stream".repeat(2_000).getBytes(StandardCharsets.US_ASCII),
+                new byte[0],
+                "second: other text entirely ".repeat(5_000).getBytes(StandardCharsets.US_ASCII)};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        LzHuffmanOutputStream out = new LzHuffmanOutputStream(bytes, 6);
+        // Pending input of the abandoned stream must not leak into the next one
+        out.write(inputs[0], 0, 1_000);
+        LzHuffmanInputStream in = null;
+        for (byte[] input : inputs) {
+            bytes.reset();
+            out.reset(bytes);
+            out.write(input);
+            out.finish();
+            Assert.assertEquals(out.bytesIn(), input.length);
+            Assert.assertEquals(out.bytesOut(), bytes.size());
+            byte[] compressed = bytes.toByteArray();
+            Assert.assertEquals(compressed, LzHuffmanOutputStream.compress(input, 6));
+
+            ByteArrayInputStream source = new ByteArrayInputStream(compressed);
+            if (in == null) {
+                in = new LzHuffmanInputStream(source);
+            } else {
+                in.reset(source);
+            }
+            Assert.assertEquals(in.readAllBytes(), input);
+        }
+        in.close();
+        in.reset(new ByteArrayInputStream(LzHuffmanOutputStream.compress(inputs[2], 1)));
+        Assert.assertEquals(in.readAllBytes(), inputs[2]);
+    }
+
+    @Test
+    public void testCorruptInputFails() {
+        byte[] compressed = LzHuffmanOutputStream.compress("abracadabra".repeat(1_000).getBytes(StandardCharsets.US_ASCII), 6);
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> LzHuffmanInputStream.decompress(Arrays.copyOf(compressed, compressed.length - 2)));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> LzHuffmanInputStream.decompress("not compressed".getBytes(StandardCharsets.US_ASCII)));
+    }
+}
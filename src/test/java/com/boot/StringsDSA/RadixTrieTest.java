@@ -0,0 +1,54 @@
+package com.boot.StringsDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class RadixTrieTest {
+
+    @Test
+    public void testPutGetAndPrefixes() {
+        RadixTrie trie = new RadixTrie(-1);
+        Assert.assertEquals(trie.put("romane", 1), -1L);
+        trie.put("romanus", 2);
+        trie.put("romulus", 3);
+        trie.put("rubens", 4);
+        trie.put("ruber", 5);
+        trie.put("rom", 6);
+        Assert.assertEquals(trie.put("ruber", 50), 5L);
+
+        Assert.assertEquals(trie.size(), 6);
+        Assert.assertEquals(trie.get("romanus"), 2L);
+        Assert.assertEquals(trie.get("roman"), -1L);
+        Assert.assertFalse(trie.containsKey("r"));
+
+        List<String> keys = trie.keysWithPrefix("rom", 10);
+        System.out.println("[DEBUG_LOG] Keys with prefix rom: " + keys);
+        Assert.assertEquals(keys, List.of("rom", "romane", "romanus", "romulus"));
+        Assert.assertEquals(trie.keysWithPrefix("ro", 2), List.of("rom", "romane"));
+        Assert.assertEquals(trie.keysWithPrefix("rub", 10), List.of("rubens", "ruber"));
+        Assert.assertTrue(trie.keysWithPrefix("x", 10).isEmpty());
+        Assert.assertTrue(trie.keysWithPrefix("rom", -1).isEmpty());
+    }
+
+    @Test
+    public void testFrozenSnapshotIsIndependent() {
+        RadixTrie trie = new RadixTrie();
+        trie.put("car", 1);
+        trie.put("cart", 2);
+        FrozenRadixTrie snapshot = trie.freeze();
+        trie.put("carbon", 3);
+        trie.put("car", 10);
+
+        Assert.assertEquals(snapshot.size(), 2);
+        Assert.assertEquals(snapshot.get("car"), 1L);
+        Assert.assertFalse(snapshot.containsKey("carbon"));
+        Assert.assertEquals(snapshot.keysWithPrefix("ca", 10), List.of("car", "cart"));
+
+        long[] sum = {0};
+        int reported = trie.forEachWithPrefix("car", 10, (key, value) -> sum[0] += value);
+        Assert.assertEquals(reported, 3);
+        Assert.assertEquals(sum[0], 15L);
+    }
+}
@@ -0,0 +1,59 @@
+package com.boot.StringsDSA;
+
+import com.boot.Anagram;
+import com.boot.trianglePatternsDSA.ReplaceAndReverse;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class RopeTest {
+
+    @Test
+    public void testEditsKeepOldVersions() {
+        Rope v1 = Rope.of("Hello world");
+        Rope v2 = v1.insert(5, ",").concat("!");
+        Rope v3 = v2.replace(7, 12, "rope");
+        Rope v4 = v3.delete(0, 7);
+
+        System.out.println("[DEBUG_LOG] Versions: " + v1 + " | " + v2 + " | " + v3 + " | " + v4);
+
+        Assert.assertEquals(v1.toString(), "Hello world");
+        Assert.assertEquals(v2.toString(), "Hello, world!");
+        Assert.assertEquals(v3.toString(), "Hello, rope!");
+        Assert.assertEquals(v4.toString(), "rope!");
+        Assert.assertEquals(v3.subSequence(7, 11).toString(), "rope");
+        Assert.assertEquals(v3.charAt(7), 'r');
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> v4.charAt(5));
+    }
+
+    @Test
+    public void testLargeDocumentStaysBalanced() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            text.append((char) ('a' + i % 26));
+        }
+        Rope rope = Rope.of(text);
+        for (int i = 0; i < 10_000; i++) {
+            int position = (i * 7919) % rope.length();
+            rope = rope.insert(position, "x");
+            text.insert(position, "x");
+        }
+        Assert.assertEquals(rope.length(), text.length());
+        Assert.assertEquals(rope.toString(), text.toString());
+        Assert.assertTrue(rope.height() < 40, "height " + rope.height());
+        // Single-char inserts are merged into their neighbours instead of piling up as tiny leaves
+        System.out.println("[DEBUG_LOG] Leaves: " + rope.leafCount() + " for " + rope.length() + " chars");
+        Assert.assertTrue(rope.leafCount() <= rope.length() / 256, "leaves " + rope.leafCount());
+    }
+
+    @Test
+    public void testConsumedAsCharSequence() {
+        Rope palindrome = Rope.of("step on").concat(" no pets");
+        Assert.assertTrue(PalindromeChecker.isPalindrome(palindrome));
+        Assert.assertFalse(PalindromeChecker.isPalindrome(palindrome.delete(0, 1)));
+
+        Assert.assertTrue(Anagram.areAnagrams(Rope.of("list").concat("en"), "silent"));
+        Assert.assertFalse(Anagram.areAnagrams(Rope.of("cat"), "car"));
+
+        Assert.assertEquals(ReplaceAndReverse.reverseandReplace(Rope.of("abc").concat("dD"), 'D', 'X'), "Xdcba");
+    }
+}
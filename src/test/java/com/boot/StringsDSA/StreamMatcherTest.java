@@ -0,0 +1,43 @@
+package com.boot.StringsDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class StreamMatcherTest {
+
+    @Test
+    public void testMatchesAcrossChunkBoundaries() throws IOException {
+        byte[] text = "aabaabaaab-aabaab".getBytes(StandardCharsets.US_ASCII);
+        for (int bufferSize = 1; bufferSize <= 8; bufferSize++) {
+            StreamMatcher matcher = StreamMatcher.of("aab".getBytes(StandardCharsets.US_ASCII), bufferSize);
+            List<Long> offsets = new ArrayList<>();
+            long count = matcher.scan(Channels.newChannel(new ByteArrayInputStream(text)), offsets::add);
+            Assert.assertEquals(count, 5L);
+            Assert.assertEquals(offsets, List.of(0L, 3L, 7L, 11L, 14L));
+        }
+    }
+
+    @Test
+    public void testOverlappingMatchesInFile() throws IOException {
+        Path file = Files.createTempFile("stream-matcher", ".txt");
+        try {
+            Files.writeString(file, "ééé on éé", StandardCharsets.UTF_8);
+            List<Long> offsets = new ArrayList<>();
+            StreamMatcher.of("éé").scan(file, offsets::add);
+            System.out.println("[DEBUG_LOG] Byte offsets: " + offsets);
+            Assert.assertEquals(offsets, List.of(0L, 2L, 10L));
+            Assert.assertEquals(StreamMatcher.of("x").count(file), 0L);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
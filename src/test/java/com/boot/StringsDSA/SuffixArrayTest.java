@@ -0,0 +1,55 @@
+package com.boot.StringsDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class SuffixArrayTest {
+
+    @Test
+    public void testQueries() {
+        SuffixArray index = SuffixArray.build("banana bandana");
+
+        Assert.assertEquals(index.count("ana"), 3);
+        Assert.assertEquals(index.count("x"), 0);
+        Assert.assertEquals(index.locate("an"), new int[]{1, 3, 8, 11});
+        Assert.assertEquals(index.locate("ban"), new int[]{0, 7});
+
+        SuffixArray.Repeat repeat = index.longestRepeated();
+        System.out.println("[DEBUG_LOG] Longest repeat: " + repeat);
+        Assert.assertEquals(repeat.getLength(), 3);
+        Assert.assertEquals(repeat.getText(), "ana");
+        Assert.assertEquals(repeat.getOccurrences(), 3);
+    }
+
+    @Test
+    public void testSuffixOrderAndLcp() {
+        SuffixArray index = SuffixArray.build("mississippi");
+        int[] expected = {10, 7, 4, 1, 0, 9, 8, 6, 3, 5, 2};
+        int[] expectedLcp = {0, 1, 1, 4, 0, 0, 1, 0, 2, 1, 3};
+        for (int rank = 0; rank < expected.length; rank++) {
+            Assert.assertEquals(index.suffixAt(rank), expected[rank]);
+            Assert.assertEquals(index.lcpAt(rank), expectedLcp[rank]);
+        }
+        Assert.assertEquals(index.longestRepeated().getText(), "issi");
+    }
+
+    @Test
+    public void testSaveAndOpenMapped() throws IOException {
+        SuffixArray index = SuffixArray.build("déjà vu, déjà entendu");
+        Path file = Files.createTempFile("suffix-array", ".idx");
+        try {
+            index.save(file);
+            SuffixArray mapped = SuffixArray.open(file);
+            Assert.assertEquals(mapped.length(), index.length());
+            Assert.assertEquals(mapped.count("déjà"), 2);
+            Assert.assertEquals(mapped.locate("u"), index.locate("u"));
+            Assert.assertEquals(mapped.longestRepeated().getText(), "déjà ");
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
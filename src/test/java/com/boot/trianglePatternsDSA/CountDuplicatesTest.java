@@ -0,0 +1,74 @@
+package com.boot.trianglePatternsDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class CountDuplicatesTest {
+
+    @Test
+    public void testSmallChunksMatchHashMapCounts() throws IOException {
+        String[] vocabulary = {"alpha", "Beta", "gamma", "délta", "ÉPSILON", "zeta", "eta", "θήτα", "x1", "42"};
+        String[] separators = {" ", ", ", ".\n", " - ", "  "};
+        Random random = new Random(5);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 3_000; i++) {
+            text.append(vocabulary[random.nextInt(vocabulary.length)]).append(separators[random.nextInt(separators.length)]);
+        }
+        // Longer than the 4096-byte word limit: still one word
+        text.append("y".repeat(5_000)).append(' ');
+
+        Map<String, Long> words = new HashMap<>();
+        // ignoreCase folds ASCII letters only
+        String folded = text.chars().map(c -> c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c)
+                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append).toString();
+        for (String word : folded.split("[^\\p{IsAlphabetic}0-9]+")) {
+            if (!word.isEmpty()) {
+                words.merge(word, 1L, Long::sum);
+            }
+        }
+        Map<Integer, Long> chars = new HashMap<>();
+        text.codePoints().filter(c -> !Character.isWhitespace(c) && c >= '!').forEach(c -> chars.merge(c, 1L, Long::sum));
+
+        Path file = Files.createTempFile("count-duplicates", ".txt");
+        try {
+            Files.writeString(file, text, StandardCharsets.UTF_8);
+            CountDuplicates.Report report = CountDuplicates.analyze(file, 5, true, 97);
+            System.out.println("[DEBUG_LOG] " + report);
+
+            Assert.assertEquals(report.getTotalWords(), words.values().stream().mapToLong(Long::longValue).sum());
+            Assert.assertEquals(report.getTotalChars(), text.codePoints().count());
+            Assert.assertEquals(counts(report.getTopWords()), topCounts(words, 5));
+            for (CountDuplicates.Duplicate word : report.getTopWords()) {
+                Assert.assertEquals(word.getCount(), (long) words.get(word.getValue()));
+            }
+            Assert.assertEquals(counts(report.getTopChars()), topCounts(chars, 5));
+            for (CountDuplicates.Duplicate c : report.getTopChars()) {
+                Assert.assertEquals(c.getCount(), (long) chars.get(c.getValue().codePointAt(0)));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<Long> counts(List<CountDuplicates.Duplicate> duplicates) {
+        List<Long> counts = new ArrayList<>();
+        duplicates.forEach(duplicate -> counts.add(duplicate.getCount()));
+        return counts;
+    }
+
+    private static List<Long> topCounts(Map<?, Long> counts, int k) {
+        List<Long> sorted = new ArrayList<>(counts.values());
+        sorted.sort((a, b) -> Long.compare(b, a));
+        return sorted.subList(0, k);
+    }
+}
@@ -0,0 +1,75 @@
+package com.boot.trianglePatternsDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class DuplicateCharFilterTest {
+
+    @Test
+    public void testExamples() {
+        Assert.assertEquals(RemoveDuplicatesFromString.removeDuplicates("programming"), "progamin");
+        Assert.assertEquals(RemoveDuplicatesFromStringWithoutChars.removeDuplicates("Mississippi"), "Misp");
+        Assert.assertEquals(RemoveDuplicatesFromString.removeDuplicates(""), "");
+        Assert.assertEquals(RemoveDuplicatesFromString.removeDuplicates("😀a😀b"), "😀ab");
+        Assert.assertThrows(IllegalArgumentException.class, () -> new RemoveDuplicatesFromString(0));
+    }
+
+    @Test
+    public void testMatchesLinkedHashSetBaseline() throws IOException {
+        Random random = new Random(17);
+        RemoveDuplicatesFromStringWithoutChars withoutChars = new RemoveDuplicatesFromStringWithoutChars();
+        for (int trial = 0; trial < 300; trial++) {
+            String text = randomText(random, random.nextInt(3_000));
+            String expected = naiveRemoveDuplicates(text);
+
+            Assert.assertEquals(RemoveDuplicatesFromString.removeDuplicates(text), expected);
+
+            // Reused instance, input as a StringBuilder
+            StringBuilder result = new StringBuilder();
+            Assert.assertEquals(withoutChars.removeDuplicates(new StringBuilder(text), result), expected.length());
+            Assert.assertEquals(result.toString(), expected);
+
+            // Tiny buffers split surrogate pairs across reads
+            int bufferSize = 1 + random.nextInt(7);
+            StringWriter writer = new StringWriter();
+            long written = new RemoveDuplicatesFromString(bufferSize).removeDuplicates(new StringReader(text), writer);
+            Assert.assertEquals(writer.toString(), expected, "buffer " + bufferSize);
+            Assert.assertEquals(written, expected.length());
+        }
+        System.out.println("[DEBUG_LOG] Streaming and CharSequence filters match the LinkedHashSet baseline");
+    }
+
+    // ASCII, BMP letters, many distinct supplementary code points (grows the int set) and lone surrogates
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        while (text.length() < length) {
+            int kind = random.nextInt(10);
+            if (kind < 5) {
+                text.append((char) ('a' + random.nextInt(26)));
+            } else if (kind < 7) {
+                text.append((char) (0x400 + random.nextInt(500)));
+            } else if (kind < 9) {
+                text.appendCodePoint(0x1F300 + random.nextInt(800));
+            } else {
+                text.append(random.nextBoolean() ? '\uD83D' : '\uDE00');
+            }
+        }
+        return text.toString();
+    }
+
+    // First occurrence of every code point; unpaired surrogates count as code points of their own
+    private static String naiveRemoveDuplicates(String text) {
+        Set<Integer> seen = new LinkedHashSet<>();
+        text.codePoints().forEach(seen::add);
+        StringBuilder result = new StringBuilder();
+        seen.forEach(result::appendCodePoint);
+        return result.toString();
+    }
+}
@@ -0,0 +1,95 @@
+package com.boot.trianglePatternsDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class FusedReplaceReverseTest {
+
+    private static final String ALPHABET = "abcdeXYZ \t!?éèàü€日";
+
+    @Test
+    public void testExamples() {
+        ReplacementTable single = new ReplacementTable.ReplacementTableBuilder().replace('D', 'X').build();
+        Assert.assertEquals(FusedReplaceReverse.replaceAndReverse("abcdD", single), "Xdcba");
+
+        ReplacementTable normalize = new ReplacementTable.ReplacementTableBuilder()
+                .replaceAll("éèà", "eea").replace('\t', ' ').deleteAll("!?").build();
+        Assert.assertEquals(FusedReplaceReverse.replaceAndReverse("café!\tlà?", normalize), "al efac");
+
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new ReplacementTable.ReplacementTableBuilder().replace('\uD83D', 'x'));
+    }
+
+    @Test
+    public void testMatchesNaiveReplaceThenReverse() {
+        Random random = new Random(23);
+        for (int trial = 0; trial < 200; trial++) {
+            ReplacementTable.ReplacementTableBuilder builder = new ReplacementTable.ReplacementTableBuilder();
+            Map<Character, Character> replacements = new HashMap<>();   // null value: deleted
+            for (int rule = random.nextInt(8); rule > 0; rule--) {
+                char from = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+                if (random.nextInt(3) == 0) {
+                    builder.delete(from);
+                    replacements.put(from, null);
+                } else {
+                    char to = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+                    builder.replace(from, to);
+                    replacements.put(from, to);
+                }
+            }
+            ReplacementTable table = builder.build();
+            // Every few trials the input is long enough for the parallel paths
+            String text = randomText(random, trial % 10 == 0 ? 200_000 : random.nextInt(200));
+            String expected = naiveReplaceAndReverse(text, replacements);
+
+            Assert.assertEquals(FusedReplaceReverse.replaceAndReverse(text, table), expected, "rules " + replacements);
+
+            // In place in a CharBuffer with a non-zero position, sequential and parallel
+            for (boolean parallel : new boolean[]{false, true}) {
+                CharBuffer buf = CharBuffer.wrap(("<<" + text).toCharArray());
+                buf.position(2);
+                int length = FusedReplaceReverse.replaceAndReverse(buf, table, parallel);
+                Assert.assertEquals(length, expected.length());
+                Assert.assertEquals(buf.toString(), expected);
+
+                byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+                byte[] out = new byte[FusedReplaceReverse.maxUtf8OutputLength(utf8.length) + 1];
+                int written = FusedReplaceReverse.replaceAndReverse(utf8, 0, utf8.length, out, 1, table, parallel);
+                Assert.assertEquals(new String(out, 1, written, StandardCharsets.UTF_8), expected);
+            }
+        }
+        System.out.println("[DEBUG_LOG] CharBuffer and UTF-8 engines match the naive replace-then-reverse");
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length + 1);
+        while (text.length() < length) {
+            if (random.nextInt(15) == 0) {
+                text.appendCodePoint(0x1F600 + random.nextInt(50));   // surrogate pair, never mapped
+            } else {
+                text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+        }
+        return text.toString();
+    }
+
+    // Two passes: map every char, then reverse by code point
+    private static String naiveReplaceAndReverse(String text, Map<Character, Character> replacements) {
+        StringBuilder mapped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!replacements.containsKey(c)) {
+                mapped.append(c);
+            } else if (replacements.get(c) != null) {
+                mapped.append(replacements.get(c).charValue());
+            }
+        }
+        return mapped.reverse().toString();
+    }
+}
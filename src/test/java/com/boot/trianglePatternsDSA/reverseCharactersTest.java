@@ -0,0 +1,81 @@
+package com.boot.trianglePatternsDSA;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class reverseCharactersTest {
+
+    @Test
+    public void testSmallBlocksMatchInMemoryReverse() throws IOException {
+        // 1 to 4 byte UTF-8 chars (the emoji is a surrogate pair) and runs of mixed whitespace
+        String[] vocabulary = {"a", "word", "héllo", "wörld", "日本語", "😀", "x😀y", "naïve", "1234567"};
+        String[] separators = {" ", "  ", "\n", "\t ", "\r\n"};
+        Random random = new Random(11);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            text.append(vocabulary[random.nextInt(vocabulary.length)]).append(separators[random.nextInt(separators.length)]);
+        }
+        // Tokens longer than a block, and longer than the zero-copy threshold
+        text.append("ü".repeat(3_000)).append(' ').append(" ".repeat(40)).append("k".repeat(5_000));
+        String s = text.toString();
+
+        Path source = Files.createTempFile("reverse", ".txt");
+        Path target = Files.createTempFile("reversed", ".txt");
+        try {
+            Files.writeString(source, s);
+            for (int blockSize : new int[]{4, 5, 7, 16, 9_000}) {
+                reverseCharacters.reverseFile(source, target, reverseCharacters.Mode.CHARACTERS, blockSize);
+                Assert.assertEquals(Files.readString(target), new StringBuilder(s).reverse().toString(),
+                        "characters, block " + blockSize);
+
+                reverseCharacters.reverseFile(source, target, reverseCharacters.Mode.WORDS, blockSize);
+                Assert.assertEquals(Files.readString(target), reverseWords(s), "words, block " + blockSize);
+            }
+            System.out.println("[DEBUG_LOG] Reversed " + s.getBytes(StandardCharsets.UTF_8).length + " bytes in both modes");
+        } finally {
+            Files.delete(source);
+            Files.delete(target);
+        }
+    }
+
+    @Test
+    public void testSameFileIsRejected() throws IOException {
+        Path source = Files.createTempFile("reverse", ".txt");
+        try {
+            Files.writeString(source, "keep me");
+            Path alias = source.getParent().resolve(".").resolve(source.getFileName());
+            Assert.assertThrows(IllegalArgumentException.class,
+                    () -> reverseCharacters.reverseFile(source, alias, reverseCharacters.Mode.WORDS));
+            Assert.assertEquals(Files.readString(source), "keep me");
+        } finally {
+            Files.delete(source);
+        }
+    }
+
+    // Runs of whitespace and of non-whitespace, last to first
+    private static String reverseWords(String s) {
+        List<String> tokens = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= s.length(); i++) {
+            if (i == s.length() || isSpace(s.charAt(i)) != isSpace(s.charAt(start))) {
+                tokens.add(s.substring(start, i));
+                start = i;
+            }
+        }
+        Collections.reverse(tokens);
+        return String.join("", tokens);
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f';
+    }
+}
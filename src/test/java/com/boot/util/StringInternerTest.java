@@ -0,0 +1,47 @@
+package com.boot.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class StringInternerTest {
+
+    @Test
+    public void testHitRatioAndBytesSaved() {
+        StringInterner interner = StringInterner.lru(100);
+        String first = new String("header");
+        String second = new String("header");
+
+        Assert.assertSame(interner.intern(first), first);
+        Assert.assertSame(interner.intern(second), first);
+        Assert.assertSame(interner.intern(first), first);
+        Assert.assertNull(interner.intern(null));
+
+        Assert.assertEquals(interner.getHits(), 2);
+        Assert.assertEquals(interner.getMisses(), 1);
+        Assert.assertEquals(interner.getHitRatio(), 2.0 / 3, 1e-9);
+        // Only the duplicate instance counts as saved: 24 + 16 header bytes + 6 Latin-1 chars, 8-byte aligned
+        Assert.assertEquals(interner.getBytesSaved(), 48);
+        System.out.println("[DEBUG_LOG] " + interner);
+    }
+
+    @Test
+    public void testLruBoundAndEviction() {
+        for (int maxSize : new int[]{1, 3, 16, 100}) {
+            StringInterner interner = StringInterner.lru(maxSize);
+            for (int i = 0; i < 1_000; i++) {
+                interner.intern("value-" + i);
+            }
+            Assert.assertEquals(interner.size(), maxSize);
+        }
+
+        // A bound of one: a single stripe holding the most recent string
+        StringInterner interner = StringInterner.lru(1);
+        String a = new String("a");
+        interner.intern(a);
+        Assert.assertSame(interner.intern(new String("a")), a);
+        interner.intern("b");                  // evicts a
+        String again = new String("a");
+        Assert.assertSame(interner.intern(again), again);
+        Assert.assertEquals(interner.size(), 1);
+    }
+}
@@ -28,6 +28,20 @@ public class XmlCredentialReader {
      * @return List of user credential maps (username, password, email)
      */
     public static List<Map<String, String>> readCredentials(String xmlFilePath) {
+        return readCredentials(xmlFilePath, null);
+    }
+    
+    /**
+     * Reads all users from the credentials.xml file, passing usernames and
+     * emails through the given interner so that repeated strings share one
+     * instance. Passwords are never interned: a shared, long-lived pool would
+     * keep them reachable after the caller is done with them
+     * 
+     * @param xmlFilePath Path to the XML file containing credentials
+     * @param interner Interner for usernames and emails (if null, strings are not interned)
+     * @return List of user credential maps (username, password, email)
+     */
+    public static List<Map<String, String>> readCredentials(String xmlFilePath, StringInterner interner) {
         List<Map<String, String>> users = new ArrayList<>();
         
         try {
@@ -51,13 +65,13 @@ public class XmlCredentialReader {
                     Map<String, String> user = new HashMap<>();
                     
                     // Extract username
-                    user.put("username", getElementValue(userElement, "username"));
+                    user.put("username", intern(interner, getElementValue(userElement, "username")));
                     
-                    // Extract password
+                    // Extract password (not interned)
                     user.put("password", getElementValue(userElement, "password"));
                     
                     // Extract email
-                    user.put("email", getElementValue(userElement, "email"));
+                    user.put("email", intern(interner, getElementValue(userElement, "email")));
                     
                     users.add(user);
                 }
@@ -71,6 +85,13 @@ public class XmlCredentialReader {
         return users;
     }
     
+    /**
+     * Returns the pooled instance of value, or value itself when no interner is given
+     */
+    private static String intern(StringInterner interner, String value) {
+        return interner != null ? interner.intern(value) : value;
+    }
+    
     /**
      * Gets the text value of an element
      * 